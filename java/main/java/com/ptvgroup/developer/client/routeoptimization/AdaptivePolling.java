@@ -0,0 +1,244 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Chooses the intervals between two requests of the status of a running
+ * operation, and records how well they worked.
+ *
+ * <p>The polling learns how long operations take, separately per operation
+ * name ("optimization", "evaluation") and per class of plan size (plans whose
+ * sizes differ by less than a factor of two share a class). While an
+ * operation is younger than the typical duration, the next poll is scheduled
+ * for when the operation is expected to have finished. After that, or while
+ * nothing has been learned yet, the interval grows in proportion to the
+ * elapsed time of the operation: short operations are detected quickly, long
+ * operations are not polled needlessly often.</p>
+ *
+ * <p>The detection lag of a completed operation is the time between its end,
+ * estimated from its elapsed time reported by the service, and the poll that
+ * detected it.</p>
+ *
+ * <p>The setter methods configure the polling and return the current object to
+ * facilitate a fluent style of configuration. The instance is shared by the
+ * API classes of an {@link ApiClient}. It is thread-safe.</p>
+ */
+public class AdaptivePolling {
+  private static final double SMOOTHING = 0.2;
+
+  private volatile long minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(250);
+  private volatile long maxIntervalNanos = TimeUnit.SECONDS.toNanos(30);
+  private volatile double elapsedRatio = 0.1;
+
+  private final Map<String, Estimate> estimates = new ConcurrentHashMap<>();
+  private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+  /**
+   * Set the range of the poll intervals.
+   *
+   * @param minInterval The shortest interval (default 250 ms).
+   * @param maxInterval The longest interval (default 30 s).
+   * @return This object.
+   */
+  public AdaptivePolling setIntervalRange(Duration minInterval, Duration maxInterval) {
+    this.minIntervalNanos = minInterval.toNanos();
+    this.maxIntervalNanos = maxInterval.toNanos();
+    return this;
+  }
+
+  /**
+   * Set the interval as a fraction of the elapsed time of an operation, used
+   * when the operation takes longer than expected.
+   *
+   * @param elapsedRatio The fraction (default 0.1), which also bounds the
+   *                     detection lag relative to the duration of an operation.
+   * @return This object.
+   */
+  public AdaptivePolling setElapsedRatio(double elapsedRatio) {
+    this.elapsedRatio = elapsedRatio;
+    return this;
+  }
+
+  /**
+   * Choose the time until the next poll of a running operation.
+   *
+   * @param operationName The name of the operation.
+   * @param planSize The size of the plan, for example its number of
+   *                 transports, or 0 if unknown.
+   * @param elapsedNanos The time the operation has been running.
+   * @return The delay in nanoseconds.
+   */
+  public long nextDelayNanos(String operationName, int planSize, long elapsedNanos) {
+    long delay = (long) (elapsedNanos * elapsedRatio);
+    Estimate estimate = estimates.get(key(operationName, planSize));
+    if (estimate != null) {
+      long expected = estimate.expectedNanos();
+      if (elapsedNanos < expected) {
+        delay = expected - elapsedNanos;
+      }
+    }
+    return Math.max(minIntervalNanos, Math.min(maxIntervalNanos, delay));
+  }
+
+  /**
+   * Record a poll.
+   *
+   * @param operationName The name of the operation.
+   */
+  public void recordPoll(String operationName) {
+    stats(operationName).polls.increment();
+  }
+
+  /**
+   * Record a completed operation.
+   *
+   * @param operationName The name of the operation.
+   * @param planSize The size of the plan, or 0 if unknown.
+   * @param durationNanos The duration of the operation.
+   * @param detectionLagNanos The estimated detection lag, or -1 if unknown.
+   */
+  public void recordCompletion(String operationName, int planSize, long durationNanos, long detectionLagNanos) {
+    estimates.computeIfAbsent(key(operationName, planSize), key -> new Estimate()).add(durationNanos);
+    Stats operationStats = stats(operationName);
+    operationStats.completed.increment();
+    if (detectionLagNanos >= 0) {
+      operationStats.lagSamples.increment();
+      operationStats.totalLagNanos.add(detectionLagNanos);
+      operationStats.maxLagNanos.accumulate(detectionLagNanos);
+    }
+  }
+
+  private static String key(String operationName, int planSize) {
+    int sizeClass = planSize <= 0 ? 0 : 32 - Integer.numberOfLeadingZeros(planSize);
+    return operationName + ':' + sizeClass;
+  }
+
+  private Stats stats(String operationName) {
+    return stats.computeIfAbsent(operationName, key -> new Stats());
+  }
+
+  /**
+   * Get the typical duration of an operation.
+   *
+   * @param operationName The name of the operation.
+   * @param planSize The size of the plan, or 0 if unknown.
+   * @return The expected duration in nanoseconds, or -1 if no such operation
+   * has completed yet.
+   */
+  public long getExpectedDurationNanos(String operationName, int planSize) {
+    Estimate estimate = estimates.get(key(operationName, planSize));
+    return estimate == null ? -1 : estimate.expectedNanos();
+  }
+
+  /**
+   * Get the number of polls of the status of an operation.
+   *
+   * @param operationName The name of the operation.
+   * @return Number of polls.
+   */
+  public long getPolls(String operationName) {
+    Stats operationStats = stats.get(operationName);
+    return operationStats == null ? 0 : operationStats.polls.sum();
+  }
+
+  /**
+   * Get the number of operations awaited until they finished.
+   *
+   * @param operationName The name of the operation.
+   * @return Number of completed operations.
+   */
+  public long getCompleted(String operationName) {
+    Stats operationStats = stats.get(operationName);
+    return operationStats == null ? 0 : operationStats.completed.sum();
+  }
+
+  /**
+   * Get the average number of polls per completed operation.
+   *
+   * @param operationName The name of the operation.
+   * @return Polls per operation, or 0 if none has completed.
+   */
+  public double getPollsPerOperation(String operationName) {
+    long completed = getCompleted(operationName);
+    return completed == 0 ? 0 : (double) getPolls(operationName) / completed;
+  }
+
+  /**
+   * Get the average estimated detection lag of completed operations.
+   *
+   * @param operationName The name of the operation.
+   * @return The average lag in nanoseconds, or 0 if unknown.
+   */
+  public long getAverageDetectionLagNanos(String operationName) {
+    Stats operationStats = stats.get(operationName);
+    long samples = operationStats == null ? 0 : operationStats.lagSamples.sum();
+    return samples == 0 ? 0 : operationStats.totalLagNanos.sum() / samples;
+  }
+
+  /**
+   * Get the longest estimated detection lag of a completed operation.
+   *
+   * @param operationName The name of the operation.
+   * @return The maximum lag in nanoseconds.
+   */
+  public long getMaxDetectionLagNanos(String operationName) {
+    Stats operationStats = stats.get(operationName);
+    return operationStats == null ? 0 : operationStats.maxLagNanos.get();
+  }
+
+  /**
+   * Get the operation names polling statistics were recorded for.
+   *
+   * @return The operation names.
+   */
+  public Set<String> getOperationNames() {
+    return Collections.unmodifiableSet(stats.keySet());
+  }
+
+  /**
+   * Exponentially smoothed mean and deviation of the durations. The expected
+   * duration is one deviation below the mean, so that most operations are
+   * still running at their first poll rather than long finished.
+   */
+  private static final class Estimate {
+    private double mean = -1;
+    private double deviation;
+
+    synchronized void add(long durationNanos) {
+      if (mean < 0) {
+        mean = durationNanos;
+        deviation = durationNanos / 2.0;
+        return;
+      }
+      deviation += SMOOTHING * (Math.abs(durationNanos - mean) - deviation);
+      mean += SMOOTHING * (durationNanos - mean);
+    }
+
+    synchronized long expectedNanos() {
+      return (long) Math.max(0, mean - deviation);
+    }
+  }
+
+  private static final class Stats {
+    final LongAdder polls = new LongAdder();
+    final LongAdder completed = new LongAdder();
+    final LongAdder lagSamples = new LongAdder();
+    final LongAdder totalLagNanos = new LongAdder();
+    final LongAccumulator maxLagNanos = new LongAccumulator(Math::max, 0);
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Java Flight Recorder event for an API call, committed when the call has
+ * finished. The duration of the event is the duration of the call; the
+ * phases are those of {@link CallMetrics}.
+ */
+@Name("com.ptvgroup.routeoptimization.ApiCall")
+@Label("API Call")
+@Category("Route Optimization")
+@Description("A call of the Route Optimization API")
+@StackTrace(false)
+public final class ApiCallEvent extends jdk.jfr.Event {
+  @Label("Operation")
+  String operation;
+
+  @Label("Plan ID")
+  String planId;
+
+  @Label("Status Code")
+  @Description("The status code of the response, or -1 if no response was received")
+  int statusCode;
+
+  @Label("Retries")
+  int retries;
+
+  @Label("Bytes Sent")
+  @DataAmount
+  long bytesSent;
+
+  @Label("Bytes Received")
+  @DataAmount
+  long bytesReceived;
+
+  @Label("Request Build Time")
+  @Timespan
+  long requestBuildTime;
+
+  @Label("Serialization Time")
+  @Timespan
+  long serializationTime;
+
+  @Label("Network Time")
+  @Timespan
+  long networkTime;
+
+  @Label("Deserialization Time")
+  @Timespan
+  long deserializationTime;
+}
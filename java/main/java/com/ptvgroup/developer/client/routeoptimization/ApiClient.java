@@ -17,6 +17,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ptvgroup.developer.client.routeoptimization.api.OperationPoller;
 import org.openapitools.jackson.nullable.JsonNullableModule;
 
 import java.io.InputStream;
@@ -32,7 +33,12 @@ import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -43,19 +49,42 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  *
  * <p>This class can be constructed and modified, then used to instantiate the
  * various API classes. The API classes use the settings in this class to
- * configure themselves, but otherwise do not store a link to this class.</p>
+ * configure themselves when they are created; only {@code OperationsApi} keeps
+ * a link to this class, to reach the shared operation poller.</p>
  *
- * <p>This class is mutable and not synchronized, so it is not thread-safe.
- * The API classes generated from this are immutable and thread-safe.</p>
+ * <p>The settings are not synchronized: configure an instance on one thread
+ * before API classes are created from it or it is shared with other threads.
+ * The objects shared by all API classes are created on first use under the
+ * lock of the instance, so any thread may get them concurrently: the
+ * {@link #getHttpClient() HttpClient} and thus its connection pool, the
+ * {@link #getJsonCodecs() JSON codecs}, the
+ * {@link #getBackgroundExecutor() background executor}, the
+ * {@link #getTimingWheel() timing wheel} and the
+ * {@link #getOperationPoller() operation poller}. {@link #getInvoker()}
+ * returns a new invoker built from the current settings and the shared
+ * client. The statistics held by this class are thread-safe, and the API
+ * classes generated from this are immutable and thread-safe.</p>
+ *
+ * <p>Call {@link #close()} once the API classes are no longer used. It takes
+ * the same lock, completes the operations still awaited through the poller
+ * exceptionally, closes the HTTP client and stops the executors and the
+ * timing wheel. The shared objects are created again if the instance is used
+ * afterwards.</p>
  *
  * <p>The setter methods of this class return the current object to facilitate
  * a fluent style of configuration.</p>
  */
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2025-10-27T08:50:35.495306091Z[Etc/UTC]", comments = "Generator version: 7.9.0")
-public class ApiClient {
+public class ApiClient implements AutoCloseable {
+  private static final boolean FLIGHT_RECORDER_AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
 
   private HttpClient.Builder builder;
+  private HttpClient httpClient;
+  private final ConnectionPoolStats connectionStats = new ConnectionPoolStats();
   private ObjectMapper mapper;
+  private JsonCodecs jsonCodecs;
+  private JsonAcceleration jsonAcceleration = JsonAcceleration.NONE;
+  private boolean flightRecorderEvents;
   private String scheme;
   private String host;
   private int port;
@@ -65,6 +94,25 @@ public class ApiClient {
   private Consumer<HttpResponse<String>> asyncResponseInterceptor;
   private Duration readTimeout;
   private Duration connectTimeout;
+  private boolean virtualThreads;
+  private ExecutorService httpClientExecutor;
+  private boolean streamingRequestBodies;
+  private int requestCompressionThreshold;
+  private boolean responseCompression;
+  private final CompressionStats compressionStats = new CompressionStats();
+  private BufferPool bufferPool = new BufferPool();
+  private RetryPolicy retryPolicy;
+  private RateLimiter rateLimiter;
+  private ConcurrencyLimiter concurrencyLimiter;
+  private HedgePolicy hedgePolicy;
+  private SingleFlight singleFlight;
+  private PlanCache planCache;
+  private MetricsCollector metricsCollector;
+  private AdaptivePolling adaptivePolling = new AdaptivePolling();
+  private ExecutorService backgroundExecutor;
+  private TimingWheel timingWheel;
+  private int maxConcurrentPolls = 64;
+  private OperationPoller operationPoller;
 
   public static String valueToString(Object value) {
     if (value == null) {
@@ -172,6 +220,7 @@ public class ApiClient {
     connectTimeout = null;
     responseInterceptor = null;
     asyncResponseInterceptor = null;
+    requestCompressionThreshold = -1;
   }
 
   /**
@@ -190,10 +239,21 @@ public class ApiClient {
     connectTimeout = null;
     responseInterceptor = null;
     asyncResponseInterceptor = null;
+    requestCompressionThreshold = -1;
   }
 
   protected ObjectMapper createDefaultObjectMapper() {
-    ObjectMapper mapper = new ObjectMapper();
+    return configureObjectMapper(new ObjectMapper());
+  }
+
+  /**
+   * Apply the configuration and modules of the default object mapper, for
+   * example to a mapper of a binary format.
+   *
+   * @param mapper The object mapper.
+   * @return The object mapper.
+   */
+  static ObjectMapper configureObjectMapper(ObjectMapper mapper) {
     mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
     mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     mapper.configure(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE, false);
@@ -231,18 +291,191 @@ public class ApiClient {
    */
   public ApiClient setHttpClientBuilder(HttpClient.Builder builder) {
     this.builder = builder;
+    resetHttpClient();
     return this;
   }
 
   /**
-   * Get an {@link HttpClient} based on the current {@link HttpClient.Builder}.
+   * Get the {@link HttpClient} shared by all API classes created from this
+   * object. It is built from the current {@link HttpClient.Builder} on first use.
    *
    * <p>The returned object is immutable and thread-safe.</p>
    *
    * @return The HTTP client.
    */
-  public HttpClient getHttpClient() {
-    return builder.build();
+  public synchronized HttpClient getHttpClient() {
+    if (httpClient == null) {
+      if (virtualThreads) {
+        // kept across rebuilt clients, the previous ones may still be in use
+        if (httpClientExecutor == null) {
+          httpClientExecutor = newVirtualThreadPerTaskExecutor();
+        }
+        builder.executor(httpClientExecutor);
+      }
+      httpClient = builder.build();
+      connectionStats.recordClientBuilt();
+    }
+    return httpClient;
+  }
+
+  /**
+   * Get an {@link ApiInvoker} that sends requests over the shared
+   * {@link HttpClient} with the current settings of this object.
+   *
+   * @return The invoker.
+   */
+  public ApiInvoker getInvoker() {
+    return new ApiInvoker(this);
+  }
+
+  /**
+   * Get the connection statistics of the shared {@link HttpClient}.
+   *
+   * @return The connection statistics.
+   */
+  public ConnectionPoolStats getConnectionStats() {
+    return connectionStats;
+  }
+
+  /**
+   * Release the shared {@link HttpClient} and the executors of this object.
+   * On runtimes where the HTTP client can be closed, it is closed gracefully
+   * after the requests in flight have completed; otherwise its connections and
+   * selector thread are released once the API classes using it are no longer
+   * referenced.
+   *
+   * <p>Operations still awaited through the
+   * {@link #getOperationPoller() operation poller} are no longer polled; their
+   * futures are completed exceptionally with an
+   * {@link IllegalStateException}.</p>
+   *
+   * <p>API classes created afterwards get a newly built HTTP client.</p>
+   */
+  @Override
+  public synchronized void close() {
+    if (operationPoller != null) {
+      operationPoller.close();
+      operationPoller = null;
+    }
+    HttpClient client = httpClient;
+    ExecutorService clientExecutor = httpClientExecutor;
+    resetHttpClient();
+    httpClientExecutor = null;
+    if (client instanceof AutoCloseable) {
+      try {
+        ((AutoCloseable) client).close();
+      } catch (Exception e) {
+        // the client is discarded either way
+      }
+    }
+    if (clientExecutor != null) {
+      clientExecutor.shutdown();
+    }
+    if (timingWheel != null) {
+      timingWheel.close();
+      timingWheel = null;
+    }
+    if (backgroundExecutor != null) {
+      backgroundExecutor.shutdown();
+      backgroundExecutor = null;
+    }
+  }
+
+  /**
+   * Get the executor for work the API classes do besides sending requests,
+   * such as serializing streamed request bodies. It is created on first use and
+   * shut down by {@link #close()}. If virtual threads are enabled, it runs each
+   * task on a new virtual thread.
+   *
+   * @return The background executor.
+   */
+  public synchronized ExecutorService getBackgroundExecutor() {
+    if (backgroundExecutor == null) {
+      backgroundExecutor = createDefaultBackgroundExecutor();
+    }
+    return backgroundExecutor;
+  }
+
+  /**
+   * Get the timing wheel the polls of running operations are scheduled on.
+   * It is created on first use, runs the expired tasks on the
+   * {@link #getBackgroundExecutor() background executor} and is stopped by
+   * {@link #close()}.
+   *
+   * @return The timing wheel.
+   */
+  public synchronized TimingWheel getTimingWheel() {
+    if (timingWheel == null) {
+      timingWheel = new TimingWheel(getBackgroundExecutor());
+    }
+    return timingWheel;
+  }
+
+  /**
+   * Get the poller that {@code OperationsApi.awaitOptimization} and
+   * {@code awaitEvaluation} poll the running operations with. It is shared by
+   * all API classes created from this object, so an operation is polled once
+   * however many of them await it, and it has at most
+   * {@link #setMaxConcurrentPolls(int) the maximum number} of polls in flight.
+   * It is created on first use.
+   *
+   * @return The operation poller.
+   */
+  public synchronized OperationPoller getOperationPoller() {
+    if (operationPoller == null) {
+      operationPoller = new OperationPoller(this, maxConcurrentPolls);
+    }
+    return operationPoller;
+  }
+
+  /**
+   * Set the maximum number of polls the {@link #getOperationPoller() operation
+   * poller} has in flight.
+   *
+   * @param maxConcurrentPolls The maximum number of polls in flight (default 64).
+   * @return This object.
+   * @throws IllegalStateException if the operation poller is already in use.
+   */
+  public synchronized ApiClient setMaxConcurrentPolls(int maxConcurrentPolls) {
+    if (maxConcurrentPolls < 1) {
+      throw new IllegalArgumentException("maxConcurrentPolls must be positive");
+    }
+    if (operationPoller != null) {
+      throw new IllegalStateException("The operation poller is already in use");
+    }
+    this.maxConcurrentPolls = maxConcurrentPolls;
+    return this;
+  }
+
+  /**
+   * Get the maximum number of polls the operation poller has in flight.
+   *
+   * @return The maximum number of polls in flight.
+   */
+  public synchronized int getMaxConcurrentPolls() {
+    return maxConcurrentPolls;
+  }
+
+  protected ExecutorService createDefaultBackgroundExecutor() {
+    if (virtualThreads) {
+      return newVirtualThreadPerTaskExecutor();
+    }
+    AtomicInteger threadCount = new AtomicInteger();
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, "ApiClient-worker-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    return Executors.newCachedThreadPool(threadFactory);
+  }
+
+  /**
+   * Let the next API class get a newly built {@link HttpClient}. The previous
+   * client is left to the API classes still using it; it shares the executor
+   * with the next client, which is shut down by {@link #close()}.
+   */
+  private synchronized void resetHttpClient() {
+    httpClient = null;
   }
 
   /**
@@ -254,6 +487,7 @@ public class ApiClient {
    */
   public ApiClient setObjectMapper(ObjectMapper mapper) {
     this.mapper = mapper;
+    resetJsonCodecs();
     return this;
   }
 
@@ -266,6 +500,104 @@ public class ApiClient {
     return mapper.copy();
   }
 
+  /**
+   * Get the current {@link ObjectMapper} with its readers and writers, shared
+   * by the API classes created from this client so that they share the caches
+   * of the mapper. It is created on first use; call
+   * {@link JsonCodecs#warmUp()} on it at startup to speed up the first calls.
+   *
+   * @return The shared codecs.
+   */
+  public synchronized JsonCodecs getJsonCodecs() {
+    if (jsonCodecs == null) {
+      ObjectMapper shared = mapper;
+      if (jsonAcceleration != JsonAcceleration.NONE || flightRecorderEvents) {
+        shared = mapper.copy();
+      }
+      if (jsonAcceleration != JsonAcceleration.NONE) {
+        jsonAcceleration.register(shared);
+      }
+      if (flightRecorderEvents) {
+        shared.registerModule(new FlightRecorderModule());
+      }
+      jsonCodecs = new JsonCodecs(shared);
+    }
+    return jsonCodecs;
+  }
+
+  /**
+   * Set the {@link JsonAcceleration} of the object mapper shared by the API
+   * classes created from now on. The module is registered on a copy of the
+   * current {@link ObjectMapper}, so {@link #getObjectMapper()} returns a
+   * mapper without it.
+   *
+   * @param jsonAcceleration The acceleration, NONE by default.
+   * @return This object.
+   * @throws IllegalStateException if the module is not on the class path.
+   */
+  public ApiClient setJsonAcceleration(JsonAcceleration jsonAcceleration) {
+    if (jsonAcceleration != JsonAcceleration.AUTO && !jsonAcceleration.isAvailable()) {
+      throw new IllegalStateException("The " + jsonAcceleration + " module is not on the class path");
+    }
+    this.jsonAcceleration = jsonAcceleration;
+    resetJsonCodecs();
+    return this;
+  }
+
+  /**
+   * Get the {@link JsonAcceleration} of the shared object mapper.
+   *
+   * @return The acceleration.
+   */
+  public JsonAcceleration getJsonAcceleration() {
+    return jsonAcceleration;
+  }
+
+  /**
+   * Record the deserialization of every plan as a {@link SerializationEvent}
+   * while Java Flight Recorder records such events, by registering the
+   * {@link FlightRecorderModule} on a copy of the current {@link ObjectMapper}
+   * shared by the API classes created from now on. Without it, the plans are
+   * deserialized without the wrapping deserializer.
+   *
+   * @param flightRecorderEvents True to record the deserialization of plans, false by default.
+   * @return This object.
+   * @throws IllegalStateException if the jdk.jfr module is not available.
+   */
+  public ApiClient setFlightRecorderEvents(boolean flightRecorderEvents) {
+    if (flightRecorderEvents && !FLIGHT_RECORDER_AVAILABLE) {
+      throw new IllegalStateException("The jdk.jfr module is not available");
+    }
+    this.flightRecorderEvents = flightRecorderEvents;
+    resetJsonCodecs();
+    return this;
+  }
+
+  /**
+   * Check whether the jdk.jfr module is available. The Java Flight Recorder
+   * events of the calls, serializations and polls are only created if it is,
+   * so that the client also runs on runtimes built without it.
+   *
+   * @return True if the events can be recorded.
+   */
+  public static boolean isFlightRecorderAvailable() {
+    return FLIGHT_RECORDER_AVAILABLE;
+  }
+
+  /**
+   * Check whether the deserialization of plans is recorded as a
+   * {@link SerializationEvent}.
+   *
+   * @return True if the events are recorded.
+   */
+  public boolean isFlightRecorderEvents() {
+    return flightRecorderEvents;
+  }
+
+  private synchronized void resetJsonCodecs() {
+    jsonCodecs = null;
+  }
+
   /**
    * Set a custom host name for the target service.
    *
@@ -351,6 +683,177 @@ public class ApiClient {
     return interceptor;
   }
 
+  /**
+   * Set a client-side rate limiter.
+   *
+   * <p>The rate limiter is applied to each request after the request
+   * interceptor has run, so it can tell API keys apart by the headers the
+   * interceptor sets. Blocking calls wait for a permit on the calling thread,
+   * async calls are delayed without blocking a thread. Retries need a permit of
+   * their own.</p>
+   *
+   * @param rateLimiter The rate limiter, or null to send requests unthrottled.
+   * @return This object.
+   */
+  public ApiClient setRateLimiter(RateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+    return this;
+  }
+
+  /**
+   * Get the client-side rate limiter.
+   *
+   * @return The rate limiter, or null if requests are not throttled.
+   */
+  public RateLimiter getRateLimiter() {
+    return rateLimiter;
+  }
+
+  /**
+   * Set an adaptive limit of the requests in flight.
+   *
+   * <p>The limiter is applied after the {@link RateLimiter}, around the
+   * exchange with the service. Each attempt of a retried call needs a permit of
+   * its own. Blocking calls hold the permit until the response headers are
+   * received, async calls until the response body is read.</p>
+   *
+   * @param concurrencyLimiter The concurrency limiter, or null to not limit
+   *                           the requests in flight.
+   * @return This object.
+   */
+  public ApiClient setConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+    this.concurrencyLimiter = concurrencyLimiter;
+    return this;
+  }
+
+  /**
+   * Get the adaptive limit of the requests in flight, which also provides the
+   * current limit, the requests in flight and the queue depth.
+   *
+   * @return The concurrency limiter, or null if requests in flight are not limited.
+   */
+  public ConcurrencyLimiter getConcurrencyLimiter() {
+    return concurrencyLimiter;
+  }
+
+  /**
+   * Set the policy for hedging slow calls.
+   *
+   * <p>Hedging happens inside one attempt: a hedged call needs one permit of
+   * the {@link RateLimiter} and the {@link ConcurrencyLimiter}, no matter
+   * whether a hedge request is sent, and is retried as a whole.</p>
+   *
+   * @param hedgePolicy The hedge policy, or null to disable hedging.
+   * @return This object.
+   */
+  public ApiClient setHedgePolicy(HedgePolicy hedgePolicy) {
+    this.hedgePolicy = hedgePolicy;
+    return this;
+  }
+
+  /**
+   * Get the policy for hedging slow calls, which also provides the hedging
+   * statistics.
+   *
+   * @return The hedge policy, or null if calls are not hedged.
+   */
+  public HedgePolicy getHedgePolicy() {
+    return hedgePolicy;
+  }
+
+  /**
+   * Coalesce identical concurrent calls of {@code PlansApi.getPlan} and
+   * {@code OperationsApi.getOperationStatus}, including their
+   * {@code WithHttpInfo} and async variants.
+   *
+   * <p>The API classes must be created after this setting, with the same
+   * {@link SingleFlight} instance for all of them to share calls in flight.</p>
+   *
+   * @param singleFlight The single-flight instance, or null to send a request
+   *                     for every call.
+   * @return This object.
+   */
+  public ApiClient setSingleFlight(SingleFlight singleFlight) {
+    this.singleFlight = singleFlight;
+    return this;
+  }
+
+  /**
+   * Get the single-flight instance, which also provides the coalescing
+   * statistics.
+   *
+   * @return The single-flight instance, or null if calls are not coalesced.
+   */
+  public SingleFlight getSingleFlight() {
+    return singleFlight;
+  }
+
+  /**
+   * Cache the plans retrieved with {@code PlansApi.getPlan} and revalidate
+   * them instead of downloading unchanged plans again.
+   *
+   * @param planCache The plan cache, or null to download plans on every call.
+   * @return This object.
+   */
+  public ApiClient setPlanCache(PlanCache planCache) {
+    this.planCache = planCache;
+    return this;
+  }
+
+  /**
+   * Get the plan cache, which also provides the cache statistics.
+   *
+   * @return The plan cache, or null if plans are not cached.
+   */
+  public PlanCache getPlanCache() {
+    return planCache;
+  }
+
+  /**
+   * Record the phase timings, body sizes, status codes and retries of every
+   * API call.
+   *
+   * @param metricsCollector The collector, for example a
+   *                         {@link HistogramMetrics}, or null to record
+   *                         nothing.
+   * @return This object.
+   */
+  public ApiClient setMetricsCollector(MetricsCollector metricsCollector) {
+    this.metricsCollector = metricsCollector;
+    return this;
+  }
+
+  /**
+   * Get the collector of the call measurements.
+   *
+   * @return The metrics collector, or null if calls are not measured.
+   */
+  public MetricsCollector getMetricsCollector() {
+    return metricsCollector;
+  }
+
+  /**
+   * Set how the poll intervals of {@code OperationsApi.awaitOptimization} and
+   * {@code awaitEvaluation} are chosen.
+   *
+   * @param adaptivePolling The adaptive polling.
+   * @return This object.
+   */
+  public ApiClient setAdaptivePolling(AdaptivePolling adaptivePolling) {
+    this.adaptivePolling = Objects.requireNonNull(adaptivePolling);
+    return this;
+  }
+
+  /**
+   * Get the adaptive polling of operations, which also provides the polling
+   * statistics.
+   *
+   * @return The adaptive polling.
+   */
+  public AdaptivePolling getAdaptivePolling() {
+    return adaptivePolling;
+  }
+
   /**
    * Set a custom response interceptor.
    *
@@ -375,7 +878,8 @@ public class ApiClient {
   }
 
   /**
-   * Set a custom async response interceptor. Use this interceptor when asyncNative is set to 'true'.
+   * Set a custom async response interceptor. This interceptor is invoked for
+   * the responses of the {@code *Async} methods of the API classes.
    *
    * <p>This is useful for logging, monitoring or extraction of header variables</p>
    *
@@ -389,7 +893,8 @@ public class ApiClient {
   }
 
  /**
-   * Get the custom async response interceptor. Use this interceptor when asyncNative is set to 'true'.
+   * Get the custom async response interceptor, which is invoked for the
+   * responses of the {@code *Async} methods of the API classes.
    *
    * @return The custom interceptor that was set, or null if there isn't any.
    */
@@ -397,6 +902,202 @@ public class ApiClient {
     return asyncResponseInterceptor;
   }
 
+  /**
+   * Enable or disable virtual threads.
+   *
+   * <p>When enabled, the {@link HttpClient} delivers its responses on virtual
+   * threads and the background executor runs its tasks on virtual threads, so
+   * that blocking calls (see {@link
+   * com.ptvgroup.developer.client.routeoptimization.api.OptimizationWorkflow})
+   * do not tie up platform threads ({@code VirtualThreadBenchmark} in the
+   * test sources compares the two). A custom executor of the
+   * {@link HttpClient.Builder} is replaced, so disabling virtual threads again
+   * requires setting a new builder. Virtual threads require Java 21 or
+   * later.</p>
+   *
+   * @param virtualThreads Whether to use virtual threads.
+   * @return This object.
+   * @throws UnsupportedOperationException if virtual threads are enabled on a
+   * runtime that does not support them.
+   */
+  public ApiClient setVirtualThreads(boolean virtualThreads) {
+    if (virtualThreads && !isVirtualThreadsSupported()) {
+      throw new UnsupportedOperationException("Virtual threads are not supported by Java " + Runtime.version().feature());
+    }
+    this.virtualThreads = virtualThreads;
+    resetHttpClient();
+    return this;
+  }
+
+  /**
+   * Get whether virtual threads are used.
+   *
+   * @return True if virtual threads are used.
+   */
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  /**
+   * Check whether the runtime supports virtual threads.
+   *
+   * @return True if virtual threads can be enabled.
+   */
+  public static boolean isVirtualThreadsSupported() {
+    try {
+      newVirtualThreadPerTaskExecutor().shutdown();
+      return true;
+    } catch (UnsupportedOperationException e) {
+      return false;
+    }
+  }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    // looked up reflectively, so the client still runs on Java versions without virtual threads
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      throw new UnsupportedOperationException("Virtual threads are not available", e);
+    }
+  }
+
+  /**
+   * Enable or disable streaming of request bodies.
+   *
+   * <p>By default request bodies are serialized into a byte array before the
+   * request is sent. When streaming is enabled, they are serialized on a
+   * background thread while being sent instead, so large plans are not held in
+   * memory a second time in serialized form. Streamed bodies are sent with
+   * chunked transfer encoding.</p>
+   *
+   * @param streamingRequestBodies Whether to stream request bodies.
+   * @return This object.
+   */
+  public ApiClient setStreamingRequestBodies(boolean streamingRequestBodies) {
+    this.streamingRequestBodies = streamingRequestBodies;
+    return this;
+  }
+
+  /**
+   * Get whether request bodies are streamed.
+   *
+   * @return True if request bodies are serialized while being sent.
+   */
+  public boolean isStreamingRequestBodies() {
+    return streamingRequestBodies;
+  }
+
+  /**
+   * Set the size from which request bodies are gzip compressed.
+   *
+   * <p>Plans are large and repetitive, so compressing them usually saves far
+   * more transfer time than it costs CPU time. Streamed request bodies (see
+   * {@link #setStreamingRequestBodies(boolean)}) have no known size and are
+   * compressed whenever compression is enabled. The figures of each compressed
+   * body are recorded in {@link #getCompressionStats()}.</p>
+   *
+   * @param requestCompressionThreshold The minimum body size in bytes to
+   *                                    compress, or -1 to disable compression
+   *                                    of request bodies (the default).
+   * @return This object.
+   */
+  public ApiClient setRequestCompressionThreshold(int requestCompressionThreshold) {
+    this.requestCompressionThreshold = requestCompressionThreshold < 0 ? -1 : requestCompressionThreshold;
+    return this;
+  }
+
+  /**
+   * Get the size from which request bodies are gzip compressed.
+   *
+   * @return The minimum body size in bytes to compress, or -1 if request bodies
+   * are not compressed.
+   */
+  public int getRequestCompressionThreshold() {
+    return requestCompressionThreshold;
+  }
+
+  /**
+   * Enable or disable compressed responses.
+   *
+   * <p>When enabled, requests announce gzip and deflate in their
+   * {@code Accept-Encoding} header and compressed response bodies are decoded
+   * while they are read. The figures of each compressed body are recorded in
+   * {@link #getCompressionStats()}.</p>
+   *
+   * @param responseCompression Whether to accept compressed responses.
+   * @return This object.
+   */
+  public ApiClient setResponseCompression(boolean responseCompression) {
+    this.responseCompression = responseCompression;
+    return this;
+  }
+
+  /**
+   * Get whether compressed responses are accepted.
+   *
+   * @return True if compressed responses are accepted.
+   */
+  public boolean isResponseCompression() {
+    return responseCompression;
+  }
+
+  /**
+   * Get the compression statistics of request and response bodies.
+   *
+   * @return The compression statistics.
+   */
+  public CompressionStats getCompressionStats() {
+    return compressionStats;
+  }
+
+  /**
+   * Set the pool of the buffers that request bodies are serialized and
+   * compressed into and that the bodies of failed responses are read into.
+   *
+   * <p>By default every client has a pool that retains at most
+   * {@link BufferPool#DEFAULT_MAX_RETAINED_BYTES}. Clients may share a pool.
+   * The pool is not used for streamed request bodies.</p>
+   *
+   * @param bufferPool The buffer pool, or null to allocate every buffer.
+   * @return This object.
+   */
+  public ApiClient setBufferPool(BufferPool bufferPool) {
+    this.bufferPool = bufferPool;
+    return this;
+  }
+
+  /**
+   * Get the pool of the buffers for request and error bodies.
+   *
+   * @return The buffer pool, or null if buffers are not pooled.
+   */
+  public BufferPool getBufferPool() {
+    return bufferPool;
+  }
+
+  /**
+   * Set the policy for retrying failed idempotent calls.
+   *
+   * <p>Without a retry policy (the default), every I/O error and every
+   * response with a status code other than 2xx fails the call right away.</p>
+   *
+   * @param retryPolicy The retry policy, or null to disable retries.
+   * @return This object.
+   */
+  public ApiClient setRetryPolicy(RetryPolicy retryPolicy) {
+    this.retryPolicy = retryPolicy;
+    return this;
+  }
+
+  /**
+   * Get the policy for retrying failed idempotent calls.
+   *
+   * @return The retry policy, or null if calls are not retried.
+   */
+  public RetryPolicy getRetryPolicy() {
+    return retryPolicy;
+  }
+
   /**
    * Set the read timeout for the http client.
    *
@@ -442,6 +1143,7 @@ public class ApiClient {
   public ApiClient setConnectTimeout(Duration connectTimeout) {
     this.connectTimeout = connectTimeout;
     this.builder.connectTimeout(connectTimeout);
+    resetHttpClient();
     return this;
   }
 
@@ -0,0 +1,610 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.net.ssl.SSLSession;
+
+/**
+ * Sends the requests of the API classes over the {@link HttpClient} shared by
+ * an {@link ApiClient}.
+ *
+ * <p>Besides sending, the invoker encodes request bodies and decodes response
+ * bodies according to the compression settings of the {@link ApiClient},
+ * retries failed calls according to its {@link RetryPolicy}, hedges slow calls
+ * according to its {@link HedgePolicy}, paces the requests with its
+ * {@link RateLimiter} and bounds the requests in flight with its
+ * {@link ConcurrencyLimiter}. It measures the calls for the
+ * {@link MetricsCollector} of the client.</p>
+ *
+ * <p>An invoker is a snapshot of the settings of the {@link ApiClient} it was
+ * obtained from. It is immutable and thread-safe.</p>
+ */
+public class ApiInvoker {
+  private final HttpClient httpClient;
+  private final ConnectionPoolStats connectionStats;
+  private final boolean streamingRequestBodies;
+  private final Executor backgroundExecutor;
+  private final int requestCompressionThreshold;
+  private final boolean responseCompression;
+  private final CompressionStats compressionStats;
+  private final RetryPolicy retryPolicy;
+  private final RateLimiter rateLimiter;
+  private final ConcurrencyLimiter concurrencyLimiter;
+  private final HedgePolicy hedgePolicy;
+  private final MetricsCollector metricsCollector;
+  private final BufferPool bufferPool;
+
+  ApiInvoker(ApiClient apiClient) {
+    this.httpClient = apiClient.getHttpClient();
+    this.connectionStats = apiClient.getConnectionStats();
+    this.streamingRequestBodies = apiClient.isStreamingRequestBodies();
+    this.backgroundExecutor = streamingRequestBodies ? apiClient.getBackgroundExecutor() : null;
+    this.requestCompressionThreshold = apiClient.getRequestCompressionThreshold();
+    this.responseCompression = apiClient.isResponseCompression();
+    this.compressionStats = apiClient.getCompressionStats();
+    this.retryPolicy = apiClient.getRetryPolicy();
+    this.rateLimiter = apiClient.getRateLimiter();
+    this.concurrencyLimiter = apiClient.getConcurrencyLimiter();
+    this.hedgePolicy = apiClient.getHedgePolicy();
+    this.metricsCollector = apiClient.getMetricsCollector();
+    this.bufferPool = apiClient.getBufferPool();
+  }
+
+  /**
+   * Start measuring a call. The API classes pass the returned object to the
+   * other methods of the invoker and finish it when the call has ended.
+   *
+   * @param operationId The operation the call is made for.
+   * @return The measurements of the call.
+   */
+  public CallMetrics startCall(String operationId) {
+    return new CallMetrics(operationId, metricsCollector);
+  }
+
+  /**
+   * Set a JSON request body on a request, serialized and encoded according to
+   * the settings of the {@link ApiClient}.
+   *
+   * @param requestBuilder The request to set the body on.
+   * @param method The HTTP method of the request.
+   * @param call The call the request is sent for.
+   * @param writer The writer used to serialize the body.
+   * @param body The body to serialize.
+   * @throws IOException if the body cannot be serialized.
+   */
+  public void setJsonBody(HttpRequest.Builder requestBuilder, String method, CallMetrics call, ObjectWriter writer, Object body)
+      throws IOException {
+    String operationId = call.getOperationId();
+    if (streamingRequestBodies) {
+      boolean compress = requestCompressionThreshold >= 0;
+      if (compress) {
+        requestBuilder.header("Content-Encoding", ContentEncoding.GZIP);
+      }
+      requestBuilder.method(method, new StreamingBodyPublisher(writer, body, backgroundExecutor, operationId, compress ? compressionStats : null, call));
+      return;
+    }
+    SerializationEvent event = ApiClient.isFlightRecorderAvailable() ? new SerializationEvent() : null;
+    if (event != null) {
+      event.begin();
+    }
+    long serializationStart = System.nanoTime();
+    byte[] bytes;
+    PooledOutputStream serialized = new PooledOutputStream(bufferPool);
+    try {
+      writer.writeValue(serialized, body);
+      if (event != null) {
+        event.end();
+        if (event.shouldCommit()) {
+          event.operation = operationId;
+          event.bytes = serialized.size();
+          event.setValue(body);
+          event.commit();
+        }
+      }
+      if (requestCompressionThreshold >= 0 && serialized.size() >= requestCompressionThreshold) {
+        long cpuStart = CompressionStats.cpuTimeNanos();
+        PooledOutputStream compressed = new PooledOutputStream(bufferPool);
+        try {
+          ContentEncoding.gzip(serialized.buffer(), serialized.size(), compressed);
+          bytes = compressed.toByteArray();
+        } finally {
+          compressed.release();
+        }
+        compressionStats.record(new CompressionStats.Sample(operationId, CompressionStats.Direction.REQUEST,
+            serialized.size(), bytes.length, CompressionStats.cpuTimeNanos() - cpuStart));
+        requestBuilder.header("Content-Encoding", ContentEncoding.GZIP);
+      } else {
+        // the body must be an array of its own, retries and hedges send it again
+        bytes = serialized.toByteArray();
+      }
+    } finally {
+      serialized.release();
+    }
+    call.serialized(System.nanoTime() - serializationStart, bytes.length, false);
+    requestBuilder.method(method, HttpRequest.BodyPublishers.ofByteArray(bytes));
+  }
+
+  /**
+   * Announce the content encodings that {@link #send} and {@link #sendAsync}
+   * can decode, if response compression is enabled.
+   *
+   * @param requestBuilder The request to add the header to.
+   */
+  public void setAcceptEncoding(HttpRequest.Builder requestBuilder) {
+    if (responseCompression) {
+      requestBuilder.header("Accept-Encoding", ContentEncoding.ACCEPTED_ENCODINGS);
+    }
+  }
+
+  /**
+   * Read a response body to its end into a pooled buffer and close it, as
+   * done for the bodies of failed calls.
+   *
+   * @param body The response body.
+   * @return The body as UTF-8 text.
+   * @throws IOException if reading fails.
+   */
+  public String readString(InputStream body) throws IOException {
+    PooledOutputStream buffer = new PooledOutputStream(bufferPool);
+    try (InputStream in = body) {
+      buffer.readFrom(in);
+      return buffer.toString(StandardCharsets.UTF_8);
+    } finally {
+      buffer.release();
+    }
+  }
+
+  /**
+   * Send a request and block until the response headers are received. The
+   * returned body is decoded if it was compressed.
+   *
+   * <p>If the operation is retryable, I/O errors and responses with a
+   * retryable status code are retried as long as the {@link RetryPolicy}
+   * permits; the last response or error is passed on.</p>
+   *
+   * @param call The call the request is sent for.
+   * @param request The request to send.
+   * @return The response.
+   * @throws IOException if an I/O error occurs when sending or receiving.
+   * @throws InterruptedException if the operation is interrupted.
+   */
+  public HttpResponse<InputStream> send(CallMetrics call, HttpRequest request)
+      throws IOException, InterruptedException {
+    String operationId = call.getOperationId();
+    call.sending(request);
+    if (retryPolicy == null || !retryPolicy.isRetryable(operationId)) {
+      return sendOnce(call, request);
+    }
+    retryPolicy.onCall();
+    long delay = 0;
+    for (int attempt = 1; ; attempt++) {
+      HttpResponse<InputStream> response;
+      try {
+        response = sendOnce(call, request);
+      } catch (IOException e) {
+        delay = retryPolicy.retryDelayNanos(operationId, attempt, delay, null, 0);
+        if (delay < 0) {
+          throw e;
+        }
+        call.retrying();
+        TimeUnit.NANOSECONDS.sleep(delay);
+        continue;
+      }
+      if (!retryPolicy.isRetryableStatus(response.statusCode())) {
+        return response;
+      }
+      delay = retryPolicy.retryDelayNanos(operationId, attempt, delay, response.headers(), response.statusCode());
+      if (delay < 0) {
+        return response;
+      }
+      if (response.body() != null) {
+        response.body().close();
+      }
+      call.retrying();
+      TimeUnit.NANOSECONDS.sleep(delay);
+    }
+  }
+
+  private HttpResponse<InputStream> sendOnce(CallMetrics call, HttpRequest request)
+      throws IOException, InterruptedException {
+    String operationId = call.getOperationId();
+    if (rateLimiter != null) {
+      rateLimiter.acquire(operationId, request);
+    }
+    HttpResponse<InputStream> response;
+    try {
+      if (concurrencyLimiter == null) {
+        response = exchange(operationId, request);
+      } else {
+        // the permit covers the time until the response headers are received,
+        // reading the body is up to the caller
+        ConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(operationId);
+        try {
+          response = exchange(operationId, request);
+        } catch (IOException e) {
+          permit.release(ConcurrencyLimiter.Outcome.OVERLOAD);
+          throw e;
+        } catch (InterruptedException | RuntimeException e) {
+          permit.release(ConcurrencyLimiter.Outcome.IGNORED);
+          throw e;
+        }
+        permit.release(outcome(response));
+      }
+    } catch (IOException e) {
+      call.failed();
+      throw e;
+    }
+    connectionStats.record(response);
+    call.received(response, 0);
+    InputStream body = response.body() == null ? null : new MeteredInputStream(response.body(), call);
+    String encoding = responseCompression ? ContentEncoding.of(response.headers()) : null;
+    if (encoding == null || body == null) {
+      return new DecodedResponse<>(response, body);
+    }
+    try {
+      return new DecodedResponse<>(response, ContentEncoding.decode(encoding, body, operationId, compressionStats));
+    } catch (IOException e) {
+      body.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Send a request asynchronously. The returned body is decoded if it was
+   * compressed. Failed calls of retryable operations are retried like in
+   * {@link #send}.
+   *
+   * @param call The call the request is sent for.
+   * @param request The request to send.
+   * @return A future completed with the response.
+   */
+  public CompletableFuture<HttpResponse<String>> sendAsync(CallMetrics call, HttpRequest request) {
+    call.sending(request);
+    if (retryPolicy == null || !retryPolicy.isRetryable(call.getOperationId())) {
+      return sendOnceAsync(call, request);
+    }
+    retryPolicy.onCall();
+    return sendAsync(call, request, 1, 0);
+  }
+
+  private CompletableFuture<HttpResponse<String>> sendAsync(CallMetrics call, HttpRequest request, int attempt, long previousDelay) {
+    String operationId = call.getOperationId();
+    return sendOnceAsync(call, request).handle((response, error) -> {
+      long delay;
+      if (error != null) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        delay = cause instanceof IOException ? retryPolicy.retryDelayNanos(operationId, attempt, previousDelay, null, 0) : -1;
+        if (delay < 0) {
+          return CompletableFuture.<HttpResponse<String>>failedFuture(cause);
+        }
+      } else if (retryPolicy.isRetryableStatus(response.statusCode())) {
+        delay = retryPolicy.retryDelayNanos(operationId, attempt, previousDelay, response.headers(), response.statusCode());
+        if (delay < 0) {
+          return CompletableFuture.completedFuture(response);
+        }
+      } else {
+        return CompletableFuture.completedFuture(response);
+      }
+      call.retrying();
+      Executor delayed = CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS);
+      return CompletableFuture.supplyAsync(() -> null, delayed)
+          .thenCompose(ignored -> sendAsync(call, request, attempt + 1, delay));
+    }).thenCompose(Function.identity());
+  }
+
+  private CompletableFuture<HttpResponse<String>> sendOnceAsync(CallMetrics call, HttpRequest request) {
+    if (rateLimiter != null) {
+      return rateLimiter.acquireAsync(call.getOperationId(), request).thenCompose(ignored -> sendNowAsync(call, request));
+    }
+    return sendNowAsync(call, request);
+  }
+
+  private CompletableFuture<HttpResponse<String>> sendNowAsync(CallMetrics call, HttpRequest request) {
+    if (concurrencyLimiter == null) {
+      return sendNowAsync(call, request, null);
+    }
+    return concurrencyLimiter.acquireAsync(call.getOperationId()).thenCompose(permit -> sendNowAsync(call, request, permit));
+  }
+
+  private CompletableFuture<HttpResponse<String>> sendNowAsync(CallMetrics call, HttpRequest request, ConcurrencyLimiter.Permit permit) {
+    String operationId = call.getOperationId();
+    HttpResponse.BodyHandler<byte[]> bodyHandler = HttpResponse.BodyHandlers.ofByteArray();
+    if (permit != null) {
+      // the latency the limit follows ends with the response headers, not with the body
+      HttpResponse.BodyHandler<byte[]> receiving = bodyHandler;
+      bodyHandler = responseInfo -> {
+        permit.received();
+        return receiving.apply(responseInfo);
+      };
+    }
+    CompletableFuture<HttpResponse<byte[]>> future = exchangeAsync(operationId, request, bodyHandler);
+    future = future.whenComplete((response, error) -> {
+      if (response == null) {
+        call.failed();
+      }
+      if (permit != null) {
+        if (response != null) {
+          permit.release(outcome(response));
+        } else {
+          Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+          permit.release(cause instanceof IOException ? ConcurrencyLimiter.Outcome.OVERLOAD : ConcurrencyLimiter.Outcome.IGNORED);
+        }
+      }
+    });
+    return future.thenApply(response -> {
+      connectionStats.record(response);
+      byte[] body = response.body();
+      call.received(response, body == null ? 0 : body.length);
+      String encoding = responseCompression ? ContentEncoding.of(response.headers()) : null;
+      if (encoding != null && body != null) {
+        long cpuStart = CompressionStats.cpuTimeNanos();
+        try {
+          byte[] decoded = ContentEncoding.decode(encoding, body);
+          compressionStats.record(new CompressionStats.Sample(operationId, CompressionStats.Direction.RESPONSE,
+              decoded.length, body.length, CompressionStats.cpuTimeNanos() - cpuStart));
+          body = decoded;
+        } catch (IOException e) {
+          throw new CompletionException(e);
+        }
+      }
+      return new DecodedResponse<>(response, body == null ? null : new String(body, StandardCharsets.UTF_8));
+    });
+  }
+
+  private HttpResponse<InputStream> exchange(String operationId, HttpRequest request)
+      throws IOException, InterruptedException {
+    if (hedgePolicy == null || !hedgePolicy.isHedged(operationId)) {
+      return httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+    }
+    long hedgeDelay = hedgePolicy.onCall(operationId);
+    if (hedgeDelay < 0) {
+      long start = System.nanoTime();
+      HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+      hedgePolicy.record(operationId, System.nanoTime() - start, false);
+      return response;
+    }
+    CompletableFuture<HttpResponse<InputStream>> future =
+        new HedgedCall<>(operationId, request, HttpResponse.BodyHandlers.ofInputStream()).start(hedgeDelay);
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      throw e;
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  private <T> CompletableFuture<HttpResponse<T>> exchangeAsync(String operationId, HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+    if (hedgePolicy == null || !hedgePolicy.isHedged(operationId)) {
+      return httpClient.sendAsync(request, bodyHandler);
+    }
+    long hedgeDelay = hedgePolicy.onCall(operationId);
+    if (hedgeDelay < 0) {
+      long start = System.nanoTime();
+      return httpClient.sendAsync(request, bodyHandler).whenComplete((response, error) -> {
+        if (response != null) {
+          hedgePolicy.record(operationId, System.nanoTime() - start, false);
+        }
+      });
+    }
+    return new HedgedCall<>(operationId, request, bodyHandler).start(hedgeDelay);
+  }
+
+  private static ConcurrencyLimiter.Outcome outcome(HttpResponse<?> response) {
+    return response.statusCode() >= 500 || response.statusCode() == 429
+        ? ConcurrencyLimiter.Outcome.OVERLOAD : ConcurrencyLimiter.Outcome.SUCCESS;
+  }
+
+  /**
+   * A call that sends a second request if the first one has not been answered
+   * in time. The first response completes the call, the other request is
+   * cancelled. A failed request only fails the call if no other request is
+   * pending.
+   */
+  private final class HedgedCall<T> {
+    private final String operationId;
+    private final HttpRequest request;
+    private final HttpResponse.BodyHandler<T> bodyHandler;
+    private final CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+    private final List<CompletableFuture<HttpResponse<T>>> attempts = new ArrayList<>(2);
+    private int pending;
+    private boolean failed;
+    private long firstStart;
+
+    HedgedCall(String operationId, HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+      this.operationId = operationId;
+      this.request = request;
+      this.bodyHandler = bodyHandler;
+    }
+
+    CompletableFuture<HttpResponse<T>> start(long hedgeDelayNanos) {
+      synchronized (this) {
+        pending++;
+      }
+      send(false);
+      CompletableFuture.delayedExecutor(hedgeDelayNanos, TimeUnit.NANOSECONDS).execute(this::hedge);
+      // cancelling the futures of the HttpClient aborts the exchanges; this is
+      // a no-op for the request that answered
+      result.whenComplete((response, error) -> cancelAttempts());
+      return result;
+    }
+
+    private void hedge() {
+      synchronized (this) {
+        if (failed || result.isDone() || !hedgePolicy.tryHedge(operationId)) {
+          return;
+        }
+        pending++;
+      }
+      send(true);
+    }
+
+    private void send(boolean hedge) {
+      if (!hedge) {
+        firstStart = System.nanoTime();
+      }
+      CompletableFuture<HttpResponse<T>> attempt = httpClient.sendAsync(request, bodyHandler);
+      synchronized (this) {
+        attempts.add(attempt);
+      }
+      if (result.isDone()) {
+        attempt.cancel(true);
+      }
+      attempt.whenComplete((response, error) -> {
+        if (response != null) {
+          boolean won = result.complete(response);
+          if (won) {
+            // the first request is recorded even if the hedge answered it
+            hedgePolicy.record(operationId, System.nanoTime() - firstStart, hedge);
+          } else {
+            discard(response);
+          }
+          return;
+        }
+        synchronized (this) {
+          if (--pending > 0) {
+            return;
+          }
+          failed = true;
+        }
+        result.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+      });
+    }
+
+    private void cancelAttempts() {
+      List<CompletableFuture<HttpResponse<T>>> toCancel;
+      synchronized (this) {
+        toCancel = new ArrayList<>(attempts);
+      }
+      for (CompletableFuture<HttpResponse<T>> attempt : toCancel) {
+        attempt.cancel(true);
+      }
+    }
+
+    private void discard(HttpResponse<T> response) {
+      if (response.body() instanceof InputStream) {
+        try {
+          ((InputStream) response.body()).close();
+        } catch (IOException e) {
+          // the response is not used anyway
+        }
+      }
+    }
+  }
+
+  /**
+   * A response body that adds the bytes read and the time spent reading to the
+   * measurements of a call.
+   */
+  private static final class MeteredInputStream extends FilterInputStream {
+    private final CallMetrics call;
+
+    MeteredInputStream(InputStream in, CallMetrics call) {
+      super(in);
+      this.call = call;
+    }
+
+    @Override
+    public int read() throws IOException {
+      long start = System.nanoTime();
+      int b = in.read();
+      call.read(System.nanoTime() - start, b < 0 ? 0 : 1);
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      long start = System.nanoTime();
+      int n = in.read(b, off, len);
+      call.read(System.nanoTime() - start, Math.max(0, n));
+      return n;
+    }
+  }
+
+  /**
+   * A response with a decoded body.
+   */
+  private static final class DecodedResponse<T> implements HttpResponse<T> {
+    private final HttpResponse<?> response;
+    private final T body;
+
+    DecodedResponse(HttpResponse<?> response, T body) {
+      this.response = response;
+      this.body = body;
+    }
+
+    @Override
+    public int statusCode() {
+      return response.statusCode();
+    }
+
+    @Override
+    public HttpRequest request() {
+      return response.request();
+    }
+
+    @Override
+    public Optional<HttpResponse<T>> previousResponse() {
+      return Optional.empty();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+      return response.headers();
+    }
+
+    @Override
+    public T body() {
+      return body;
+    }
+
+    @Override
+    public Optional<SSLSession> sslSession() {
+      return response.sslSession();
+    }
+
+    @Override
+    public URI uri() {
+      return response.uri();
+    }
+
+    @Override
+    public HttpClient.Version version() {
+      return response.version();
+    }
+  }
+}
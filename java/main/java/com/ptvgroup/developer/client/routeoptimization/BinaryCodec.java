@@ -0,0 +1,214 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Writes and reads the model classes in a binary format instead of JSON, to
+ * store plans or pass them between services. The service itself only accepts
+ * JSON.
+ *
+ * <p>The binary mapper is configured like the default {@code ObjectMapper} of
+ * the {@link ApiClient}, with the same features and modules, so that every
+ * value reads back as it would from JSON. Smile refers back to property names
+ * and short strings it has already written, which makes large plans much
+ * smaller than their JSON; {@code BinaryCodecBenchmark} in the test sources
+ * measures the sizes and times.</p>
+ *
+ * <p>Many values can be written to one stream with
+ * {@link #writeSequence(OutputStream, Class)} and read back one at a time
+ * with {@link #readSequence(InputStream, Class)}. A Smile stream starts with
+ * one header, a CBOR stream is a plain CBOR sequence.</p>
+ *
+ * <p>The formats are optional dependencies and are loaded by name; add
+ * {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile} or
+ * {@code jackson-dataformat-cbor} in the version of jackson-databind; both
+ * are available from 2.10.4.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public final class BinaryCodec {
+  /**
+   * The binary formats.
+   */
+  public enum Format {
+    /**
+     * Smile, the binary JSON format of Jackson.
+     */
+    SMILE("com.fasterxml.jackson.dataformat.smile.SmileFactory"),
+
+    /**
+     * CBOR, the Concise Binary Object Representation of RFC 8949.
+     */
+    CBOR("com.fasterxml.jackson.dataformat.cbor.CBORFactory");
+
+    private final String factoryClassName;
+
+    Format(String factoryClassName) {
+      this.factoryClassName = factoryClassName;
+    }
+
+    /**
+     * Check whether the format is on the class path.
+     *
+     * @return True if the format can be used.
+     */
+    public boolean isAvailable() {
+      return loadFactoryClass() != null;
+    }
+
+    private JsonFactory createFactory() {
+      Class<?> factoryClass = loadFactoryClass();
+      if (factoryClass == null) {
+        throw new IllegalStateException(factoryClassName + " is not on the class path");
+      }
+      try {
+        return (JsonFactory) factoryClass.getConstructor().newInstance();
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException("Failed to create " + factoryClassName, e);
+      }
+    }
+
+    private Class<?> loadFactoryClass() {
+      try {
+        return Class.forName(factoryClassName, false, BinaryCodec.class.getClassLoader());
+      } catch (ClassNotFoundException | LinkageError e) {
+        return null;
+      }
+    }
+  }
+
+  private final Format format;
+  private final ObjectMapper mapper;
+  private final ObjectReader planReader;
+  private final ObjectWriter planWriter;
+
+  /**
+   * Create a codec with the configuration of the default object mapper of the
+   * {@link ApiClient}.
+   *
+   * @param format The binary format.
+   * @param modules Further modules to register, for example the
+   *                {@link StreamingModelModule}.
+   * @throws IllegalStateException if the format is not on the class path.
+   */
+  public BinaryCodec(Format format, Module... modules) {
+    this.format = format;
+    this.mapper = ApiClient.configureObjectMapper(new ObjectMapper(format.createFactory()));
+    mapper.registerModules(modules);
+    planReader = mapper.readerFor(Plan.class);
+    planWriter = mapper.writerFor(Plan.class);
+  }
+
+  /**
+   * Get the binary format.
+   *
+   * @return The format.
+   */
+  public Format getFormat() {
+    return format;
+  }
+
+  /**
+   * Get the binary object mapper. Its configuration must not be changed.
+   *
+   * @return The object mapper.
+   */
+  public ObjectMapper getMapper() {
+    return mapper;
+  }
+
+  /**
+   * Write a plan.
+   *
+   * @param plan The plan.
+   * @return The encoded plan.
+   * @throws IOException if the plan cannot be serialized.
+   */
+  public byte[] writePlan(Plan plan) throws IOException {
+    return planWriter.writeValueAsBytes(plan);
+  }
+
+  /**
+   * Read a plan.
+   *
+   * @param content The encoded plan.
+   * @return The plan.
+   * @throws IOException if the content is not a plan in the format.
+   */
+  public Plan readPlan(byte[] content) throws IOException {
+    return planReader.readValue(content);
+  }
+
+  /**
+   * Write a value of any model class.
+   *
+   * @param value The value.
+   * @return The encoded value.
+   * @throws IOException if the value cannot be serialized.
+   */
+  public byte[] writeValue(Object value) throws IOException {
+    return mapper.writeValueAsBytes(value);
+  }
+
+  /**
+   * Read a value of a model class.
+   *
+   * @param <T> The type of the value.
+   * @param content The encoded value.
+   * @param type The class of the value.
+   * @return The value.
+   * @throws IOException if the content is not a value of the class in the format.
+   */
+  public <T> T readValue(byte[] content, Class<T> type) throws IOException {
+    return mapper.readValue(content, type);
+  }
+
+  /**
+   * Start writing a sequence of values to a stream. Closing the returned
+   * writer closes the stream.
+   *
+   * @param out The stream to write to.
+   * @param type The class of the values.
+   * @return The writer of the values.
+   * @throws IOException if writing fails.
+   */
+  public SequenceWriter writeSequence(OutputStream out, Class<?> type) throws IOException {
+    ObjectWriter writer = type == Plan.class ? planWriter : mapper.writerFor(type);
+    return writer.writeValues(out);
+  }
+
+  /**
+   * Read a sequence of values from a stream, as written by
+   * {@link #writeSequence(OutputStream, Class)}. Each value is read when the
+   * iterator reaches it; closing the iterator closes the stream.
+   *
+   * @param <T> The type of the values.
+   * @param in The stream to read.
+   * @param type The class of the values.
+   * @return The iterator over the values.
+   * @throws IOException if reading fails.
+   */
+  public <T> MappingIterator<T> readSequence(InputStream in, Class<T> type) throws IOException {
+    ObjectReader reader = type == Plan.class ? planReader : mapper.readerFor(type);
+    return reader.readValues(in);
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A pool of byte arrays that request bodies are serialized into and response
+ * bodies of failed calls are read into, so that these temporary buffers are
+ * reused instead of allocated per call.
+ *
+ * <p>Buffers come in size classes of powers of two from 8 KB to 4 MB. Each
+ * class keeps up to 16 free buffers in slots that are taken and filled with
+ * compare-and-set, without locks. Released buffers are only kept while the
+ * free buffers of all classes take at most the maximum retained bytes; larger
+ * buffers are never kept.</p>
+ *
+ * <p>The statistics show how many bytes the pool allocated and how many it
+ * served from reused buffers; without the pool, both would have been
+ * allocated.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class BufferPool {
+  /**
+   * The default maximum of retained bytes, 4 MB.
+   */
+  public static final long DEFAULT_MAX_RETAINED_BYTES = 4L << 20;
+
+  private static final int MIN_SHIFT = 13;
+  private static final int MAX_SHIFT = 22;
+  private static final int SLOTS = 16;
+
+  private final long maxRetainedBytes;
+  private final AtomicReferenceArray<byte[]> slots = new AtomicReferenceArray<>((MAX_SHIFT - MIN_SHIFT + 1) * SLOTS);
+  private final AtomicLong retainedBytes = new AtomicLong();
+  private final LongAdder acquired = new LongAdder();
+  private final LongAdder reused = new LongAdder();
+  private final LongAdder bytesAllocated = new LongAdder();
+  private final LongAdder bytesReused = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+
+  /**
+   * Create a pool that retains at most {@link #DEFAULT_MAX_RETAINED_BYTES}.
+   */
+  public BufferPool() {
+    this(DEFAULT_MAX_RETAINED_BYTES);
+  }
+
+  /**
+   * Create a pool.
+   *
+   * @param maxRetainedBytes The maximum of bytes the free buffers may take.
+   */
+  public BufferPool(long maxRetainedBytes) {
+    if (maxRetainedBytes < 0) {
+      throw new IllegalArgumentException("maxRetainedBytes must not be negative");
+    }
+    this.maxRetainedBytes = maxRetainedBytes;
+  }
+
+  /**
+   * Take a buffer from the pool, or allocate one.
+   *
+   * @param minSize The minimum size of the buffer.
+   * @return A buffer of at least the minimum size, with undefined content.
+   */
+  public byte[] acquire(int minSize) {
+    acquired.increment();
+    int sizeClass = sizeClass(Math.max(minSize, 1 << MIN_SHIFT));
+    if (sizeClass < 0) {
+      bytesAllocated.add(minSize);
+      return new byte[minSize];
+    }
+    int base = sizeClass * SLOTS;
+    int start = probe();
+    for (int i = 0; i < SLOTS; i++) {
+      int slot = base + ((start + i) & (SLOTS - 1));
+      byte[] buffer = slots.get(slot);
+      if (buffer != null && slots.compareAndSet(slot, buffer, null)) {
+        retainedBytes.addAndGet(-buffer.length);
+        reused.increment();
+        bytesReused.add(buffer.length);
+        return buffer;
+      }
+    }
+    int size = 1 << (sizeClass + MIN_SHIFT);
+    bytesAllocated.add(size);
+    return new byte[size];
+  }
+
+  /**
+   * Return a buffer to the pool. It must no longer be used by the caller.
+   * Buffers that were not acquired from a pool are accepted if their size is
+   * one of the size classes.
+   *
+   * @param buffer The buffer.
+   */
+  public void release(byte[] buffer) {
+    int length = buffer.length;
+    int sizeClass = sizeClass(length);
+    if (sizeClass < 0 || length != 1 << (sizeClass + MIN_SHIFT) || !reserve(length)) {
+      dropped.increment();
+      return;
+    }
+    int base = sizeClass * SLOTS;
+    int start = probe();
+    for (int i = 0; i < SLOTS; i++) {
+      int slot = base + ((start + i) & (SLOTS - 1));
+      if (slots.get(slot) == null && slots.compareAndSet(slot, null, buffer)) {
+        return;
+      }
+    }
+    retainedBytes.addAndGet(-length);
+    dropped.increment();
+  }
+
+  private boolean reserve(int length) {
+    while (true) {
+      long current = retainedBytes.get();
+      if (current + length > maxRetainedBytes) {
+        return false;
+      }
+      if (retainedBytes.compareAndSet(current, current + length)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * The size class of a size, or -1 if the size is larger than the largest
+   * class.
+   */
+  private static int sizeClass(int size) {
+    if (size > 1 << MAX_SHIFT) {
+      return -1;
+    }
+    int shift = 32 - Integer.numberOfLeadingZeros(Math.max(size, 1 << MIN_SHIFT) - 1);
+    return shift - MIN_SHIFT;
+  }
+
+  /**
+   * The slot to start searching at, to spread the threads over the slots.
+   */
+  private static int probe() {
+    long id = Thread.currentThread().getId();
+    // the top four bits of the hash select one of the 16 slots
+    return (int) (id ^ (id >>> 16)) * 0x9E3779B9 >>> 28;
+  }
+
+  /**
+   * Get the maximum of bytes the free buffers may take.
+   *
+   * @return The maximum in bytes.
+   */
+  public long getMaxRetainedBytes() {
+    return maxRetainedBytes;
+  }
+
+  /**
+   * Get the bytes the free buffers in the pool take.
+   *
+   * @return The retained bytes.
+   */
+  public long getRetainedBytes() {
+    return retainedBytes.get();
+  }
+
+  /**
+   * Get the number of acquired buffers.
+   *
+   * @return Number of acquired buffers.
+   */
+  public long getAcquired() {
+    return acquired.sum();
+  }
+
+  /**
+   * Get the number of acquired buffers that were taken from the pool.
+   *
+   * @return Number of reused buffers.
+   */
+  public long getReused() {
+    return reused.sum();
+  }
+
+  /**
+   * Get the bytes of the buffers the pool had to allocate.
+   *
+   * @return Allocated bytes.
+   */
+  public long getBytesAllocated() {
+    return bytesAllocated.sum();
+  }
+
+  /**
+   * Get the bytes of the buffers taken from the pool, which were not
+   * allocated again.
+   *
+   * @return Reused bytes.
+   */
+  public long getBytesReused() {
+    return bytesReused.sum();
+  }
+
+  /**
+   * Get the number of released buffers that were not kept, because they are
+   * too large or the pool was full.
+   *
+   * @return Number of dropped buffers.
+   */
+  public long getDropped() {
+    return dropped.sum();
+  }
+}
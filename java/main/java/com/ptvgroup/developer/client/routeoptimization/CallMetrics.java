@@ -0,0 +1,237 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * The measurements of one API call, passed to the {@link MetricsCollector} of
+ * the {@link ApiClient} when the call has finished.
+ *
+ * <p>The duration of a call is split into phases:</p>
+ * <ul>
+ *   <li>{@link Phase#REQUEST_BUILD}: building the request, apart from
+ *   serializing its body.</li>
+ *   <li>{@link Phase#SERIALIZATION}: serializing and compressing the request
+ *   body, measured as wall time on both paths. When the body is streamed, the
+ *   time the serializer waits for the connection to take more chunks is left
+ *   out, because it belongs to the network phase.</li>
+ *   <li>{@link Phase#NETWORK}: from sending the request until the response is
+ *   received, including the retries, plus the time spent reading the
+ *   response body from the connection.</li>
+ *   <li>{@link Phase#DESERIALIZATION}: decompressing and deserializing the
+ *   response body and the remaining processing of the response.</li>
+ * </ul>
+ *
+ * <p>The counts of bytes are the bytes on the wire, compressed if the body was
+ * compressed; they cover the last attempt of a retried call.</p>
+ *
+ * <p>Every call is also recorded as an {@link ApiCallEvent} while Java Flight
+ * Recorder records such events, if the jdk.jfr module is available.</p>
+ *
+ * <p>An instance is created by {@link ApiInvoker#startCall} and updated by the
+ * invoker and the API classes, by one thread at a time.</p>
+ */
+public final class CallMetrics {
+  /**
+   * The phases of a call.
+   */
+  public enum Phase {
+    REQUEST_BUILD, SERIALIZATION, NETWORK, DESERIALIZATION
+  }
+
+  private final String operationId;
+  private final MetricsCollector collector;
+  private final long startNanos = System.nanoTime();
+  private final ApiCallEvent event = ApiClient.isFlightRecorderAvailable() ? new ApiCallEvent() : null;
+  private URI uri;
+  private long sendNanos = -1;
+  private long responseNanos = -1;
+  private long endNanos = -1;
+  private volatile long serializationNanos;
+  private volatile boolean streamed;
+  private volatile long bytesSent;
+  private long readNanos;
+  private long bytesReceived;
+  private int statusCode = -1;
+  private int retries;
+
+  CallMetrics(String operationId, MetricsCollector collector) {
+    this.operationId = operationId;
+    this.collector = collector;
+    if (event != null) {
+      event.begin();
+    }
+  }
+
+  void serialized(long nanos, long bytes, boolean streamed) {
+    this.serializationNanos = nanos;
+    this.bytesSent = bytes;
+    this.streamed = streamed;
+  }
+
+  void sending(HttpRequest request) {
+    if (sendNanos < 0) {
+      sendNanos = System.nanoTime();
+      uri = request.uri();
+    }
+  }
+
+  void retrying() {
+    retries++;
+  }
+
+  void received(HttpResponse<?> response, long bytes) {
+    responseNanos = System.nanoTime();
+    statusCode = response.statusCode();
+    readNanos = 0;
+    bytesReceived = bytes;
+  }
+
+  void failed() {
+    responseNanos = -1;
+    statusCode = -1;
+    readNanos = 0;
+    bytesReceived = 0;
+  }
+
+  void read(long nanos, long bytes) {
+    readNanos += nanos;
+    bytesReceived += bytes;
+  }
+
+  /**
+   * End the call and pass it to the {@link MetricsCollector}. Calls answered
+   * without sending a request, for example coalesced calls, are not passed on.
+   * Calling this method again has no effect.
+   */
+  public void finish() {
+    if (endNanos >= 0) {
+      return;
+    }
+    endNanos = System.nanoTime();
+    if (sendNanos < 0) {
+      return;
+    }
+    if (collector != null) {
+      collector.record(this);
+    }
+    if (event == null) {
+      return;
+    }
+    event.end();
+    if (event.shouldCommit()) {
+      event.operation = operationId;
+      event.planId = planId(uri);
+      event.statusCode = statusCode;
+      event.retries = retries;
+      event.bytesSent = bytesSent;
+      event.bytesReceived = bytesReceived;
+      event.requestBuildTime = getPhaseNanos(Phase.REQUEST_BUILD);
+      event.serializationTime = getPhaseNanos(Phase.SERIALIZATION);
+      event.networkTime = getPhaseNanos(Phase.NETWORK);
+      event.deserializationTime = getPhaseNanos(Phase.DESERIALIZATION);
+      event.commit();
+    }
+  }
+
+  /**
+   * The ID in a path like {@code /plans/{id}/operation}, or null.
+   */
+  private static String planId(URI uri) {
+    String path = uri.getPath();
+    int start = path.indexOf("/plans/");
+    if (start < 0) {
+      return null;
+    }
+    start += "/plans/".length();
+    int end = path.indexOf('/', start);
+    String id = end < 0 ? path.substring(start) : path.substring(start, end);
+    // a UUID in its canonical form
+    return id.length() == 36 ? id : null;
+  }
+
+  /**
+   * Get the ID of the operation, for example "createPlan".
+   *
+   * @return The operation ID.
+   */
+  public String getOperationId() {
+    return operationId;
+  }
+
+  /**
+   * Get the duration of a phase.
+   *
+   * @param phase The phase.
+   * @return The duration in nanoseconds.
+   */
+  public long getPhaseNanos(Phase phase) {
+    long responseOrEnd = responseNanos >= 0 ? responseNanos : endNanos;
+    switch (phase) {
+      case REQUEST_BUILD:
+        return Math.max(0, sendNanos - startNanos - (streamed ? 0 : serializationNanos));
+      case SERIALIZATION:
+        return serializationNanos;
+      case NETWORK:
+        return responseOrEnd - sendNanos + readNanos;
+      case DESERIALIZATION:
+        return Math.max(0, endNanos - responseOrEnd - readNanos);
+      default:
+        throw new IllegalArgumentException("Unknown phase " + phase);
+    }
+  }
+
+  /**
+   * Get the duration of the call.
+   *
+   * @return The duration in nanoseconds.
+   */
+  public long getTotalNanos() {
+    return endNanos - startNanos;
+  }
+
+  /**
+   * Get the number of bytes of the request body.
+   *
+   * @return Number of bytes sent.
+   */
+  public long getBytesSent() {
+    return bytesSent;
+  }
+
+  /**
+   * Get the number of bytes of the response body.
+   *
+   * @return Number of bytes received.
+   */
+  public long getBytesReceived() {
+    return bytesReceived;
+  }
+
+  /**
+   * Get the status code of the response.
+   *
+   * @return The status code, or -1 if no response was received.
+   */
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  /**
+   * Get the number of retries of the call.
+   *
+   * @return Number of retries.
+   */
+  public int getRetries() {
+    return retries;
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for a cycle of the change feed of an
+ * {@code OperationPoller}. The duration of the event is the duration of the
+ * call of {@code getPlanSummaries} and the comparison.
+ */
+@Name("com.ptvgroup.routeoptimization.ChangeFeed")
+@Label("Change Feed Cycle")
+@Category("Route Optimization")
+@Description("A comparison of the plan summaries with the previous ones to find the operations to poll")
+@StackTrace(false)
+public final class ChangeFeedEvent extends jdk.jfr.Event {
+  @Label("Summaries")
+  public int summaries;
+
+  @Label("Polls Queued")
+  @Description("The awaited operations whose plan has changed")
+  public int pollsQueued;
+
+  @Label("Polls Skipped")
+  @Description("The awaited operations whose plan is unchanged")
+  public int pollsSkipped;
+}
@@ -0,0 +1,203 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Compression statistics of request and response bodies, aggregated per
+ * operation and direction.
+ *
+ * <p>Every compressed request body and every compressed response body is
+ * recorded as a {@link Sample}, which can also be observed one by one with
+ * {@link #setListener(Consumer)} to tune the compression threshold.</p>
+ *
+ * <p>CPU times are measured as thread CPU time where the JVM supports it and
+ * as elapsed time otherwise. For streamed request bodies the CPU time includes
+ * the serialization of the body.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class CompressionStats {
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+  private static final boolean CPU_TIME_SUPPORTED = THREADS.isCurrentThreadCpuTimeSupported();
+
+  /**
+   * The direction of a compressed body.
+   */
+  public enum Direction {
+    REQUEST,
+    RESPONSE
+  }
+
+  private final Map<String, Totals> totals = new ConcurrentHashMap<>();
+  private volatile Consumer<Sample> listener;
+
+  static long cpuTimeNanos() {
+    return CPU_TIME_SUPPORTED ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+  }
+
+  void record(Sample sample) {
+    totals.computeIfAbsent(sample.getOperationId() + ' ' + sample.getDirection(), key -> new Totals()).add(sample);
+    Consumer<Sample> currentListener = listener;
+    if (currentListener != null) {
+      currentListener.accept(sample);
+    }
+  }
+
+  /**
+   * Set a listener that is invoked with the sample of every compressed body.
+   *
+   * @param listener The listener, or null to remove it.
+   */
+  public void setListener(Consumer<Sample> listener) {
+    this.listener = listener;
+  }
+
+  /**
+   * Get the number of compressed bodies of an operation.
+   *
+   * @param operationId The operation, for example "createPlan".
+   * @param direction Whether request or response bodies are counted.
+   * @return Number of compressed bodies.
+   */
+  public long getCount(String operationId, Direction direction) {
+    return totals(operationId, direction).count.sum();
+  }
+
+  /**
+   * Get the total size of the compressed bodies of an operation before
+   * compression.
+   *
+   * @param operationId The operation, for example "createPlan".
+   * @param direction Whether request or response bodies are counted.
+   * @return Uncompressed size in bytes.
+   */
+  public long getUncompressedBytes(String operationId, Direction direction) {
+    return totals(operationId, direction).uncompressedBytes.sum();
+  }
+
+  /**
+   * Get the total size of the compressed bodies of an operation.
+   *
+   * @param operationId The operation, for example "createPlan".
+   * @param direction Whether request or response bodies are counted.
+   * @return Compressed size in bytes.
+   */
+  public long getCompressedBytes(String operationId, Direction direction) {
+    return totals(operationId, direction).compressedBytes.sum();
+  }
+
+  /**
+   * Get the total CPU time spent compressing or decompressing the bodies of an
+   * operation.
+   *
+   * @param operationId The operation, for example "createPlan".
+   * @param direction Whether request or response bodies are counted.
+   * @return CPU time in nanoseconds.
+   */
+  public long getCpuNanos(String operationId, Direction direction) {
+    return totals(operationId, direction).cpuNanos.sum();
+  }
+
+  /**
+   * Get the overall compression ratio of the bodies of an operation.
+   *
+   * @param operationId The operation, for example "createPlan".
+   * @param direction Whether request or response bodies are counted.
+   * @return Compressed size divided by uncompressed size, or 1 if no body was
+   * compressed.
+   */
+  public double getRatio(String operationId, Direction direction) {
+    Totals operationTotals = totals(operationId, direction);
+    long uncompressed = operationTotals.uncompressedBytes.sum();
+    return uncompressed == 0 ? 1 : (double) operationTotals.compressedBytes.sum() / uncompressed;
+  }
+
+  private Totals totals(String operationId, Direction direction) {
+    Totals operationTotals = totals.get(operationId + ' ' + direction);
+    return operationTotals != null ? operationTotals : new Totals();
+  }
+
+  private static final class Totals {
+    final LongAdder count = new LongAdder();
+    final LongAdder uncompressedBytes = new LongAdder();
+    final LongAdder compressedBytes = new LongAdder();
+    final LongAdder cpuNanos = new LongAdder();
+
+    void add(Sample sample) {
+      count.increment();
+      uncompressedBytes.add(sample.getUncompressedBytes());
+      compressedBytes.add(sample.getCompressedBytes());
+      cpuNanos.add(sample.getCpuNanos());
+    }
+  }
+
+  /**
+   * The compression figures of a single body.
+   */
+  public static final class Sample {
+    private final String operationId;
+    private final Direction direction;
+    private final long uncompressedBytes;
+    private final long compressedBytes;
+    private final long cpuNanos;
+
+    Sample(String operationId, Direction direction, long uncompressedBytes, long compressedBytes, long cpuNanos) {
+      this.operationId = operationId;
+      this.direction = direction;
+      this.uncompressedBytes = uncompressedBytes;
+      this.compressedBytes = compressedBytes;
+      this.cpuNanos = cpuNanos;
+    }
+
+    public String getOperationId() {
+      return operationId;
+    }
+
+    public Direction getDirection() {
+      return direction;
+    }
+
+    public long getUncompressedBytes() {
+      return uncompressedBytes;
+    }
+
+    public long getCompressedBytes() {
+      return compressedBytes;
+    }
+
+    public long getCpuNanos() {
+      return cpuNanos;
+    }
+
+    /**
+     * Get the compression ratio of the body.
+     *
+     * @return Compressed size divided by uncompressed size.
+     */
+    public double getRatio() {
+      return uncompressedBytes == 0 ? 1 : (double) compressedBytes / uncompressedBytes;
+    }
+
+    @Override
+    public String toString() {
+      return "Sample{operationId=" + operationId
+          + ", direction=" + direction
+          + ", uncompressedBytes=" + uncompressedBytes
+          + ", compressedBytes=" + compressedBytes
+          + ", cpuNanos=" + cpuNanos + "}";
+    }
+  }
+}
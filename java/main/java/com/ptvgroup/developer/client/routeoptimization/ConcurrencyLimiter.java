@@ -0,0 +1,301 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive limit of the number of requests an {@link ApiClient} has in flight.
+ *
+ * <p>The limit follows the latency of the service with an additive-increase,
+ * multiplicative-decrease (AIMD) scheme. The latency of a request is the time
+ * until its response headers are received, so reading a large body does not
+ * count. The limiter keeps the lowest latency seen recently for each operation
+ * as the baseline of that operation, so that fast status requests do not make
+ * the uploads and downloads of plans look slow. While requests complete within
+ * the tolerated multiple of the baseline of their operation and the limit is
+ * actually used, the limit grows by one; when a request takes longer, fails
+ * with a 5xx or 429 status, times out or fails with an I/O error, the limit is
+ * multiplied by the backoff ratio. Requests over the limit wait in FIFO
+ * order.</p>
+ *
+ * <p>The baselines are reset periodically, so that a permanent change of the
+ * service latency is eventually accepted as the new normal.</p>
+ *
+ * <p>The setter methods configure the limiter and return the current object
+ * to facilitate a fluent style of configuration; they must not be called once
+ * the limiter is in use. The limiter is thread-safe.</p>
+ */
+public class ConcurrencyLimiter {
+  private int minLimit = 4;
+  private int maxLimit = 512;
+  private double backoffRatio = 0.9;
+  private double tolerance = 2.0;
+  private long baselineWindowNanos = TimeUnit.MINUTES.toNanos(1);
+
+  private double limit = 20;
+  private int inFlight;
+  private final Map<String, Baseline> baselines = new HashMap<>();
+  private final Queue<Waiting> waiting = new ArrayDeque<>();
+
+  /**
+   * Set the initial limit.
+   *
+   * @param initialLimit The number of concurrent requests allowed at first (default 20).
+   * @return This object.
+   */
+  public synchronized ConcurrencyLimiter setInitialLimit(int initialLimit) {
+    this.limit = initialLimit;
+    return this;
+  }
+
+  /**
+   * Set the range of the limit.
+   *
+   * @param minLimit The lowest limit (default 4).
+   * @param maxLimit The highest limit (default 512).
+   * @return This object.
+   */
+  public synchronized ConcurrencyLimiter setLimitRange(int minLimit, int maxLimit) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, limit));
+    return this;
+  }
+
+  /**
+   * Set the factor the limit is multiplied with when the service is overloaded.
+   *
+   * @param backoffRatio A factor between 0 and 1 (default 0.9).
+   * @return This object.
+   */
+  public synchronized ConcurrencyLimiter setBackoffRatio(double backoffRatio) {
+    this.backoffRatio = backoffRatio;
+    return this;
+  }
+
+  /**
+   * Set how much slower than the baseline a request may be before it counts as
+   * a sign of overload.
+   *
+   * @param tolerance A multiple of the baseline latency (default 2).
+   * @return This object.
+   */
+  public synchronized ConcurrencyLimiter setTolerance(double tolerance) {
+    this.tolerance = tolerance;
+    return this;
+  }
+
+  /**
+   * Set how long the lowest observed latency of an operation is kept as its
+   * baseline.
+   *
+   * @param window The baseline window (default 1 minute).
+   * @param unit The unit of the window.
+   * @return This object.
+   */
+  public synchronized ConcurrencyLimiter setBaselineWindow(long window, TimeUnit unit) {
+    this.baselineWindowNanos = unit.toNanos(window);
+    return this;
+  }
+
+  /**
+   * Wait for a permit to send a request.
+   *
+   * @param operationId The operation the request is sent for.
+   * @return The permit, which must be released when the request completes.
+   * @throws InterruptedException if interrupted while waiting.
+   */
+  public Permit acquire(String operationId) throws InterruptedException {
+    CompletableFuture<Permit> permit = acquireAsync(operationId);
+    try {
+      return permit.get();
+    } catch (InterruptedException e) {
+      if (!permit.cancel(false)) {
+        // the permit was granted concurrently
+        permit.join().release(Outcome.IGNORED);
+      }
+      throw e;
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Get a future that completes with a permit to send a request, without
+   * blocking the calling thread.
+   *
+   * @param operationId The operation the request is sent for.
+   * @return A future completed with the permit, which must be released when
+   * the request completes.
+   */
+  public CompletableFuture<Permit> acquireAsync(String operationId) {
+    CompletableFuture<Permit> permit = new CompletableFuture<>();
+    synchronized (this) {
+      if (waiting.isEmpty() && inFlight < (int) limit) {
+        inFlight++;
+        permit.complete(new Permit(operationId, System.nanoTime()));
+      } else {
+        waiting.add(new Waiting(operationId, permit));
+      }
+    }
+    return permit;
+  }
+
+  private void release(String operationId, long latency, Outcome outcome) {
+    synchronized (this) {
+      inFlight--;
+      if (outcome == Outcome.SUCCESS) {
+        long now = System.nanoTime();
+        Baseline baseline = baselines.computeIfAbsent(operationId, id -> new Baseline(now));
+        if (now - baseline.start > baselineWindowNanos) {
+          baseline.nanos = Long.MAX_VALUE;
+          baseline.start = now;
+        }
+        baseline.nanos = Math.min(baseline.nanos, latency);
+        if (latency > baseline.nanos * tolerance) {
+          limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlight + 1 >= limit / 2) {
+          limit = Math.min(maxLimit, limit + 1);
+        }
+      } else if (outcome == Outcome.OVERLOAD) {
+        limit = Math.max(minLimit, limit * backoffRatio);
+      }
+    }
+    grantWaiting();
+  }
+
+  private void grantWaiting() {
+    while (true) {
+      Waiting next;
+      synchronized (this) {
+        if (waiting.isEmpty() || inFlight >= (int) limit) {
+          return;
+        }
+        next = waiting.poll();
+        inFlight++;
+      }
+      // complete outside the lock, the dependent stage may send the request right away
+      if (!next.permit.complete(new Permit(next.operationId, System.nanoTime()))) {
+        synchronized (this) {
+          inFlight--;
+        }
+      }
+    }
+  }
+
+  /**
+   * Get the current limit.
+   *
+   * @return The number of requests allowed in flight.
+   */
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * Get the number of requests in flight.
+   *
+   * @return Number of requests holding a permit.
+   */
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  /**
+   * Get the number of requests waiting for a permit.
+   *
+   * @return The queue depth.
+   */
+  public synchronized int getQueueDepth() {
+    return waiting.size();
+  }
+
+  /**
+   * How a request holding a permit completed.
+   */
+  public enum Outcome {
+    /** The request completed normally; its latency adjusts the limit. */
+    SUCCESS,
+    /** The service is overloaded: 5xx or 429 status, timeout or I/O error. */
+    OVERLOAD,
+    /** The request did not reach the service or says nothing about its load. */
+    IGNORED
+  }
+
+  private static final class Waiting {
+    final String operationId;
+    final CompletableFuture<Permit> permit;
+
+    Waiting(String operationId, CompletableFuture<Permit> permit) {
+      this.operationId = operationId;
+      this.permit = permit;
+    }
+  }
+
+  private static final class Baseline {
+    long nanos = Long.MAX_VALUE;
+    long start;
+
+    Baseline(long start) {
+      this.start = start;
+    }
+  }
+
+  /**
+   * The permission to have one request in flight.
+   */
+  public final class Permit {
+    private final String operationId;
+    private final long startNanos;
+    private long latencyNanos = -1;
+    private boolean released;
+
+    private Permit(String operationId, long startNanos) {
+      this.operationId = operationId;
+      this.startNanos = startNanos;
+    }
+
+    /**
+     * Record that the response headers have been received. The time until
+     * then is the latency of the request; the time spent reading the body is
+     * not. Only the first call counts.
+     */
+    public synchronized void received() {
+      if (latencyNanos < 0) {
+        latencyNanos = System.nanoTime() - startNanos;
+      }
+    }
+
+    /**
+     * Release the permit. Releasing a permit more than once has no effect.
+     * If {@link #received()} was not called, the latency is the time until the
+     * permit is released.
+     *
+     * @param outcome How the request completed.
+     */
+    public void release(Outcome outcome) {
+      long latency;
+      synchronized (this) {
+        if (released) {
+          return;
+        }
+        released = true;
+        latency = latencyNanos >= 0 ? latencyNanos : System.nanoTime() - startNanos;
+      }
+      ConcurrencyLimiter.this.release(operationId, latency, outcome);
+    }
+  }
+}
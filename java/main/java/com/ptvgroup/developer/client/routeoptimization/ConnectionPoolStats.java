@@ -0,0 +1,163 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.net.ssl.SSLSession;
+
+/**
+ * Connection statistics of the {@link java.net.http.HttpClient} shared by the
+ * API classes of one {@link ApiClient}.
+ *
+ * <p>The JDK HTTP client does not expose its connection pool, so the numbers are
+ * derived from the TLS sessions of the responses: every TLS session that has not
+ * been seen before stands for a handshake on a newly opened connection, and a
+ * session that was used within the keep-alive timeout of the client is counted
+ * as an open connection. Plain HTTP responses only contribute to the request
+ * count.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class ConnectionPoolStats {
+  /**
+   * The idle timeout of pooled connections of the JDK HTTP client.
+   */
+  private static final Duration KEEP_ALIVE_TIMEOUT =
+      Duration.ofSeconds(Long.getLong("jdk.httpclient.keepalive.timeout", 1200L));
+
+  private final AtomicLong clientsBuilt = new AtomicLong();
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong secureRequests = new AtomicLong();
+  private final AtomicLong handshakes = new AtomicLong();
+  private final Map<SessionKey, Long> lastUsedBySession = new ConcurrentHashMap<>();
+
+  void recordClientBuilt() {
+    clientsBuilt.incrementAndGet();
+  }
+
+  void record(HttpResponse<?> response) {
+    requests.incrementAndGet();
+    response.sslSession().ifPresent(session -> {
+      secureRequests.incrementAndGet();
+      long now = System.nanoTime();
+      if (lastUsedBySession.put(new SessionKey(session), now) == null) {
+        handshakes.incrementAndGet();
+        expireIdleSessions(now);
+      }
+    });
+  }
+
+  private void expireIdleSessions(long now) {
+    Iterator<Long> lastUsed = lastUsedBySession.values().iterator();
+    while (lastUsed.hasNext()) {
+      if (now - lastUsed.next() > KEEP_ALIVE_TIMEOUT.toNanos()) {
+        lastUsed.remove();
+      }
+    }
+  }
+
+  /**
+   * Get the number of HTTP clients that were built by the {@link ApiClient}.
+   *
+   * @return Number of built HTTP clients, 1 unless the client was closed or
+   * reconfigured.
+   */
+  public long getClientsBuilt() {
+    return clientsBuilt.get();
+  }
+
+  /**
+   * Get the number of responses received.
+   *
+   * @return Number of responses.
+   */
+  public long getRequests() {
+    return requests.get();
+  }
+
+  /**
+   * Get the number of TLS handshakes, i.e. the number of distinct TLS sessions
+   * observed.
+   *
+   * @return Number of TLS handshakes.
+   */
+  public long getHandshakes() {
+    return handshakes.get();
+  }
+
+  /**
+   * Get the estimated number of open connections, i.e. the number of TLS
+   * sessions used within the keep-alive timeout of the HTTP client.
+   *
+   * @return Estimated number of open connections.
+   */
+  public int getOpenConnections() {
+    expireIdleSessions(System.nanoTime());
+    return lastUsedBySession.size();
+  }
+
+  /**
+   * Get the ratio of HTTPS requests that were sent over an already established
+   * connection.
+   *
+   * @return Connection reuse ratio between 0 and 1, or 0 if no HTTPS request
+   * was sent yet.
+   */
+  public double getReuseRatio() {
+    long secure = secureRequests.get();
+    return secure == 0 ? 0 : (double) (secure - handshakes.get()) / secure;
+  }
+
+  @Override
+  public String toString() {
+    return "ConnectionPoolStats{clientsBuilt=" + getClientsBuilt()
+        + ", requests=" + getRequests()
+        + ", handshakes=" + getHandshakes()
+        + ", openConnections=" + getOpenConnections()
+        + ", reuseRatio=" + getReuseRatio() + "}";
+  }
+
+  /**
+   * Identifies a TLS session independently of the session object that is
+   * handed out with each response.
+   */
+  private static final class SessionKey {
+    private final ByteBuffer id;
+    private final long creationTime;
+
+    SessionKey(SSLSession session) {
+      this.id = ByteBuffer.wrap(session.getId());
+      this.creationTime = session.getCreationTime();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof SessionKey)) {
+        return false;
+      }
+      SessionKey other = (SessionKey) o;
+      return creationTime == other.creationTime && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, creationTime);
+    }
+  }
+}
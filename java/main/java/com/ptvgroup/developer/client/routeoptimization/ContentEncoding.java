@@ -0,0 +1,158 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.net.http.HttpHeaders;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Helpers for gzip and deflate content encoding of request and response bodies.
+ */
+final class ContentEncoding {
+  static final String GZIP = "gzip";
+  static final String DEFLATE = "deflate";
+  static final String ACCEPTED_ENCODINGS = GZIP + ", " + DEFLATE;
+
+  private ContentEncoding() {
+  }
+
+  /**
+   * Get the content encoding of a response, if it is one that can be decoded.
+   *
+   * @return "gzip", "deflate", or null if the body is not encoded or uses an
+   * unsupported encoding.
+   */
+  static String of(HttpHeaders headers) {
+    String encoding = headers.firstValue("Content-Encoding").map(value -> value.trim().toLowerCase(Locale.ROOT)).orElse("");
+    return GZIP.equals(encoding) || DEFLATE.equals(encoding) ? encoding : null;
+  }
+
+  static void gzip(byte[] body, int length, OutputStream compressed) throws IOException {
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed, 8192)) {
+      gzip.write(body, 0, length);
+    }
+  }
+
+  static byte[] decode(String encoding, byte[] body) throws IOException {
+    try (InputStream in = decoder(encoding, new ByteArrayInputStream(body))) {
+      return in.readAllBytes();
+    }
+  }
+
+  private static InputStream decoder(String encoding, InputStream in) throws IOException {
+    // an empty body, as of a 204 or 304 response, has no header to decode
+    PushbackInputStream peeked = new PushbackInputStream(in, 1);
+    int first = peeked.read();
+    if (first < 0) {
+      return peeked;
+    }
+    peeked.unread(first);
+    return GZIP.equals(encoding) ? new GZIPInputStream(peeked, 8192) : new InflaterInputStream(peeked);
+  }
+
+  /**
+   * Decode a streamed response body and record its compression figures once it
+   * is read completely or closed.
+   */
+  static InputStream decode(String encoding, InputStream in, String operationId, CompressionStats stats) throws IOException {
+    CountingInputStream compressed = new CountingInputStream(in);
+    long cpuStart = CompressionStats.cpuTimeNanos();
+    InputStream decoder = decoder(encoding, compressed);
+    return new MeteredInputStream(decoder, compressed, operationId, stats, CompressionStats.cpuTimeNanos() - cpuStart);
+  }
+
+  private static class CountingInputStream extends FilterInputStream {
+    long count;
+
+    CountingInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b >= 0) {
+        count++;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n = super.read(b, off, len);
+      if (n > 0) {
+        count += n;
+      }
+      return n;
+    }
+  }
+
+  private static final class MeteredInputStream extends CountingInputStream {
+    private final CountingInputStream compressed;
+    private final String operationId;
+    private final CompressionStats stats;
+    private long cpuNanos;
+    private boolean recorded;
+
+    MeteredInputStream(InputStream decoder, CountingInputStream compressed, String operationId, CompressionStats stats, long cpuNanos) {
+      super(decoder);
+      this.compressed = compressed;
+      this.operationId = operationId;
+      this.stats = stats;
+      this.cpuNanos = cpuNanos;
+    }
+
+    @Override
+    public int read() throws IOException {
+      long cpuStart = CompressionStats.cpuTimeNanos();
+      int b = super.read();
+      cpuNanos += CompressionStats.cpuTimeNanos() - cpuStart;
+      if (b < 0) {
+        record();
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      long cpuStart = CompressionStats.cpuTimeNanos();
+      int n = super.read(b, off, len);
+      cpuNanos += CompressionStats.cpuTimeNanos() - cpuStart;
+      if (n < 0) {
+        record();
+      }
+      return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        record();
+      }
+    }
+
+    private void record() {
+      if (!recorded) {
+        recorded = true;
+        stats.record(new CompressionStats.Sample(operationId, CompressionStats.Direction.RESPONSE, count, compressed.count, cpuNanos));
+      }
+    }
+  }
+}
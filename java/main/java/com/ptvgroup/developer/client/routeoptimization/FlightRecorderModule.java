@@ -0,0 +1,85 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+
+import java.io.IOException;
+
+/**
+ * A Jackson module that records the deserialization of every {@link Plan} as
+ * a {@link SerializationEvent}, while Java Flight Recorder records such
+ * events.
+ *
+ * <p>The module is registered on the shared {@code ObjectMapper} of the
+ * {@link ApiClient} with {@link ApiClient#setFlightRecorderEvents(boolean)};
+ * register it on a custom mapper to record its deserializations too. When no
+ * recording is running, deserializing a plan costs one check whether the event
+ * is enabled.</p>
+ */
+public class FlightRecorderModule extends SimpleModule {
+  private static final long serialVersionUID = 1L;
+
+  public FlightRecorderModule() {
+    super("RouteOptimizationFlightRecorder");
+    setDeserializerModifier(new BeanDeserializerModifier() {
+      @Override
+      public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+        return beanDesc.getBeanClass() == Plan.class ? new RecordingDeserializer(deserializer) : deserializer;
+      }
+    });
+  }
+
+  private static final class RecordingDeserializer extends DelegatingDeserializer {
+    private static final long serialVersionUID = 1L;
+
+    RecordingDeserializer(JsonDeserializer<?> delegatee) {
+      super(delegatee);
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+      return new RecordingDeserializer(newDelegatee);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      SerializationEvent event = new SerializationEvent();
+      if (!event.isEnabled()) {
+        return super.deserialize(p, ctxt);
+      }
+      long startOffset = offset(p.getCurrentLocation());
+      event.begin();
+      Object value = super.deserialize(p, ctxt);
+      event.end();
+      if (event.shouldCommit()) {
+        event.deserialization = true;
+        event.bytes = offset(p.getCurrentLocation()) - startOffset;
+        event.setValue(value);
+        event.commit();
+      }
+      return value;
+    }
+
+    private static long offset(JsonLocation location) {
+      // parsers of strings count characters, not bytes
+      long bytes = location.getByteOffset();
+      return bytes >= 0 ? bytes : location.getCharOffset();
+    }
+  }
+}
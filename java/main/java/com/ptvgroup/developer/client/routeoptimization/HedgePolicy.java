@@ -0,0 +1,315 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hedging of latency-critical idempotent calls.
+ *
+ * <p>If a call of a hedged operation has not been answered after a percentile
+ * of the recently observed latencies of that operation, a second identical
+ * request is sent. Whichever request answers first is passed on, the other one
+ * is cancelled. An attempt that fails with an I/O error does not end the call
+ * while the other attempt is still pending.</p>
+ *
+ * <p>A hedge budget limits the additional load: every hedged call deposits a
+ * fraction of a token, every hedge request withdraws a whole token, and a hedge
+ * is only sent while a token is left. With the default ratio of 0.05, hedging
+ * adds at most 5 percent to the requests of an operation once the initial
+ * balance is spent. No hedge is sent until enough latencies have been
+ * observed.</p>
+ *
+ * <p>The setter methods configure the policy and return the current object to
+ * facilitate a fluent style of configuration; they must not be called once the
+ * policy is in use. The policy is shared by all API classes of an
+ * {@link ApiClient}, its statistics are thread-safe.</p>
+ */
+public class HedgePolicy {
+  private Set<String> operations = new HashSet<>(Arrays.asList("getPlan", "getOperationStatus"));
+  private double percentile = 0.95;
+  private Duration minDelay = Duration.ofMillis(10);
+  private int windowSize = 256;
+  private int minSamples = 32;
+  private double budgetRatio = 0.05;
+  private double budgetCapacity = 10;
+  private double budgetBalance = budgetCapacity;
+
+  private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+  /**
+   * Set the operations that are hedged. Only idempotent operations should be
+   * hedged.
+   *
+   * @param operations The operation IDs (default getPlan and getOperationStatus).
+   * @return This object.
+   */
+  public HedgePolicy setOperations(Set<String> operations) {
+    this.operations = new HashSet<>(operations);
+    return this;
+  }
+
+  /**
+   * Set the percentile of the recent latencies after which a hedge is sent.
+   *
+   * @param percentile A value between 0 and 1 (default 0.95).
+   * @return This object.
+   */
+  public HedgePolicy setPercentile(double percentile) {
+    if (percentile <= 0 || percentile > 1) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 1");
+    }
+    this.percentile = percentile;
+    return this;
+  }
+
+  /**
+   * Set the minimum time to wait for the first request before a hedge is sent.
+   *
+   * @param minDelay The minimum hedge delay (default 10 ms).
+   * @return This object.
+   */
+  public HedgePolicy setMinDelay(Duration minDelay) {
+    this.minDelay = minDelay;
+    return this;
+  }
+
+  /**
+   * Set the number of recent latencies the percentile is computed from, and
+   * how many of them must have been observed before hedging starts.
+   *
+   * @param windowSize The number of latencies kept per operation (default 256).
+   * @param minSamples The number of latencies needed for hedging (default 32).
+   * @return This object.
+   */
+  public HedgePolicy setWindow(int windowSize, int minSamples) {
+    if (minSamples < 1 || minSamples > windowSize) {
+      throw new IllegalArgumentException("minSamples must be between 1 and windowSize");
+    }
+    this.windowSize = windowSize;
+    this.minSamples = minSamples;
+    return this;
+  }
+
+  /**
+   * Configure the hedge budget.
+   *
+   * @param ratio The fraction of a hedge each call earns (default 0.05).
+   * @param capacity The maximum number of hedges that can be saved up, which
+   *                 is also the initial balance (default 10).
+   * @return This object.
+   */
+  public synchronized HedgePolicy setBudget(double ratio, double capacity) {
+    this.budgetRatio = ratio;
+    this.budgetCapacity = capacity;
+    this.budgetBalance = capacity;
+    return this;
+  }
+
+  /**
+   * Check whether the calls of an operation are hedged.
+   *
+   * @param operationId The operation ID.
+   * @return True if the operation is hedged.
+   */
+  public boolean isHedged(String operationId) {
+    return operations.contains(operationId);
+  }
+
+  /**
+   * Record a call of a hedged operation, which earns budget for hedges.
+   *
+   * @param operationId The operation ID.
+   * @return The time to wait for the first request before hedging in
+   * nanoseconds, or -1 if the call is not hedged.
+   */
+  long onCall(String operationId) {
+    Stats operationStats = stats(operationId);
+    operationStats.calls.increment();
+    synchronized (this) {
+      budgetBalance = Math.min(budgetCapacity, budgetBalance + budgetRatio);
+    }
+    long delay = operationStats.latencies.percentile(percentile, minSamples);
+    return delay < 0 ? -1 : Math.max(minDelay.toNanos(), delay);
+  }
+
+  /**
+   * Take a token from the budget for a hedge request.
+   *
+   * @param operationId The operation ID.
+   * @return True if the hedge may be sent.
+   */
+  boolean tryHedge(String operationId) {
+    Stats operationStats = stats(operationId);
+    synchronized (this) {
+      if (budgetBalance < 1) {
+        operationStats.denied.increment();
+        return false;
+      }
+      budgetBalance -= 1;
+    }
+    operationStats.hedges.increment();
+    return true;
+  }
+
+  /**
+   * Record the latency of the first request of a call. If a hedge answered
+   * first, the first request is cancelled and the time it had taken until then
+   * is recorded; it is a lower bound of its latency, while the latency of the
+   * hedge alone would pull the percentile down to the latencies that were fast
+   * enough not to need a hedge.
+   *
+   * @param operationId The operation ID.
+   * @param latencyNanos The latency of the first request in nanoseconds.
+   * @param hedgeWon Whether a hedge answered the call.
+   */
+  void record(String operationId, long latencyNanos, boolean hedgeWon) {
+    Stats operationStats = stats(operationId);
+    operationStats.latencies.add(latencyNanos);
+    if (hedgeWon) {
+      operationStats.wins.increment();
+    }
+  }
+
+  private Stats stats(String operationId) {
+    return stats.computeIfAbsent(operationId, key -> new Stats(windowSize));
+  }
+
+  /**
+   * Get the number of calls of an operation that were eligible for hedging.
+   *
+   * @param operationId The operation ID.
+   * @return Number of calls.
+   */
+  public long getCalls(String operationId) {
+    Stats operationStats = stats.get(operationId);
+    return operationStats == null ? 0 : operationStats.calls.sum();
+  }
+
+  /**
+   * Get the number of hedge requests sent for an operation.
+   *
+   * @param operationId The operation ID.
+   * @return Number of hedges.
+   */
+  public long getHedges(String operationId) {
+    Stats operationStats = stats.get(operationId);
+    return operationStats == null ? 0 : operationStats.hedges.sum();
+  }
+
+  /**
+   * Get the number of hedge requests of an operation that answered before the
+   * first request.
+   *
+   * @param operationId The operation ID.
+   * @return Number of hedge wins.
+   */
+  public long getHedgeWins(String operationId) {
+    Stats operationStats = stats.get(operationId);
+    return operationStats == null ? 0 : operationStats.wins.sum();
+  }
+
+  /**
+   * Get the number of hedges of an operation that were not sent because the
+   * hedge budget was spent.
+   *
+   * @param operationId The operation ID.
+   * @return Number of hedges denied by the budget.
+   */
+  public long getHedgesDenied(String operationId) {
+    Stats operationStats = stats.get(operationId);
+    return operationStats == null ? 0 : operationStats.denied.sum();
+  }
+
+  /**
+   * Get the current hedge delay of an operation.
+   *
+   * @param operationId The operation ID.
+   * @return The delay in nanoseconds, or -1 if too few latencies have been
+   * observed to hedge.
+   */
+  public long getHedgeDelayNanos(String operationId) {
+    Stats operationStats = stats.get(operationId);
+    long delay = operationStats == null ? -1 : operationStats.latencies.percentile(percentile, minSamples);
+    return delay < 0 ? -1 : Math.max(minDelay.toNanos(), delay);
+  }
+
+  /**
+   * Get the operations hedging statistics were recorded for.
+   *
+   * @return The operation IDs.
+   */
+  public Set<String> getHedgedOperations() {
+    return Collections.unmodifiableSet(stats.keySet());
+  }
+
+  /**
+   * Get the current balance of the hedge budget.
+   *
+   * @return The number of hedges that can currently be sent.
+   */
+  public synchronized double getBudgetBalance() {
+    return budgetBalance;
+  }
+
+  private static final class Stats {
+    final LongAdder calls = new LongAdder();
+    final LongAdder hedges = new LongAdder();
+    final LongAdder wins = new LongAdder();
+    final LongAdder denied = new LongAdder();
+    final LatencyWindow latencies;
+
+    Stats(int windowSize) {
+      this.latencies = new LatencyWindow(windowSize);
+    }
+  }
+
+  /**
+   * A ring buffer of the most recent latencies. The percentile is computed
+   * lazily and cached until the next latency is added.
+   */
+  private static final class LatencyWindow {
+    private final long[] samples;
+    private int count;
+    private int next;
+    private long cachedPercentile = -1;
+    private boolean dirty = true;
+
+    LatencyWindow(int size) {
+      this.samples = new long[size];
+    }
+
+    synchronized void add(long latencyNanos) {
+      samples[next] = latencyNanos;
+      next = (next + 1) % samples.length;
+      count = Math.min(count + 1, samples.length);
+      dirty = true;
+    }
+
+    synchronized long percentile(double percentile, int minSamples) {
+      if (count < minSamples) {
+        return -1;
+      }
+      if (dirty) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        cachedPercentile = sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+        dirty = false;
+      }
+      return cachedPercentile;
+    }
+  }
+}
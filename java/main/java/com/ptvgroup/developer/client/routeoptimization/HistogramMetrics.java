@@ -0,0 +1,202 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MetricsCollector} that keeps, per operation, a
+ * {@link LatencyHistogram} of every phase of the calls and of their total
+ * duration, the bytes sent and received, the counts of the status codes and
+ * the number of retries.
+ *
+ * <p>The statistics are read live through {@link #getOperation}, or as copies
+ * with {@link #snapshot()}; {@link #snapshotAndReset()} returns the statistics
+ * since the previous reset, for reporting in intervals.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class HistogramMetrics implements MetricsCollector {
+  private final ConcurrentMap<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+  @Override
+  public void record(CallMetrics call) {
+    operations.computeIfAbsent(call.getOperationId(), operationId -> new OperationMetrics()).record(call);
+  }
+
+  /**
+   * Get the operations calls were recorded for.
+   *
+   * @return The operation IDs.
+   */
+  public Set<String> getOperationIds() {
+    return Collections.unmodifiableSet(operations.keySet());
+  }
+
+  /**
+   * Get the live statistics of an operation.
+   *
+   * @param operationId The operation ID, for example "getPlan".
+   * @return The statistics, or null if no call of the operation was recorded.
+   */
+  public OperationMetrics getOperation(String operationId) {
+    return operations.get(operationId);
+  }
+
+  /**
+   * Copy the statistics of all operations.
+   *
+   * @return The copies by operation ID.
+   */
+  public Map<String, OperationMetrics> snapshot() {
+    return snapshot(false);
+  }
+
+  /**
+   * Copy the statistics of all operations and reset them.
+   *
+   * @return The statistics since the previous reset by operation ID.
+   */
+  public Map<String, OperationMetrics> snapshotAndReset() {
+    return snapshot(true);
+  }
+
+  private Map<String, OperationMetrics> snapshot(boolean reset) {
+    Map<String, OperationMetrics> snapshot = new TreeMap<>();
+    operations.forEach((operationId, metrics) -> snapshot.put(operationId, metrics.copy(reset)));
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  /**
+   * The statistics of the calls of one operation.
+   */
+  public static final class OperationMetrics {
+    private final Map<CallMetrics.Phase, LatencyHistogram> phases = new EnumMap<>(CallMetrics.Phase.class);
+    private final LatencyHistogram total;
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final ConcurrentMap<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+
+    private OperationMetrics() {
+      for (CallMetrics.Phase phase : CallMetrics.Phase.values()) {
+        phases.put(phase, new LatencyHistogram());
+      }
+      total = new LatencyHistogram();
+    }
+
+    private OperationMetrics(Map<CallMetrics.Phase, LatencyHistogram> phases, LatencyHistogram total) {
+      this.phases.putAll(phases);
+      this.total = total;
+    }
+
+    void record(CallMetrics call) {
+      for (Map.Entry<CallMetrics.Phase, LatencyHistogram> phase : phases.entrySet()) {
+        phase.getValue().record(call.getPhaseNanos(phase.getKey()));
+      }
+      total.record(call.getTotalNanos());
+      bytesSent.add(call.getBytesSent());
+      bytesReceived.add(call.getBytesReceived());
+      retries.add(call.getRetries());
+      statusCodes.computeIfAbsent(call.getStatusCode(), statusCode -> new LongAdder()).increment();
+    }
+
+    OperationMetrics copy(boolean reset) {
+      Map<CallMetrics.Phase, LatencyHistogram> copiedPhases = new EnumMap<>(CallMetrics.Phase.class);
+      phases.forEach((phase, histogram) -> copiedPhases.put(phase, reset ? histogram.copyAndReset() : histogram.copy()));
+      OperationMetrics copy = new OperationMetrics(copiedPhases, reset ? total.copyAndReset() : total.copy());
+      copy.bytesSent.add(reset ? bytesSent.sumThenReset() : bytesSent.sum());
+      copy.bytesReceived.add(reset ? bytesReceived.sumThenReset() : bytesReceived.sum());
+      copy.retries.add(reset ? retries.sumThenReset() : retries.sum());
+      statusCodes.forEach((statusCode, count) ->
+          copy.statusCodes.put(statusCode, adder(reset ? count.sumThenReset() : count.sum())));
+      return copy;
+    }
+
+    private static LongAdder adder(long value) {
+      LongAdder adder = new LongAdder();
+      adder.add(value);
+      return adder;
+    }
+
+    /**
+     * Get the number of calls.
+     *
+     * @return Number of calls.
+     */
+    public long getCalls() {
+      return total.getCount();
+    }
+
+    /**
+     * Get the histogram of the durations of a phase.
+     *
+     * @param phase The phase.
+     * @return The histogram.
+     */
+    public LatencyHistogram getLatency(CallMetrics.Phase phase) {
+      return phases.get(phase);
+    }
+
+    /**
+     * Get the histogram of the total durations of the calls.
+     *
+     * @return The histogram.
+     */
+    public LatencyHistogram getTotalLatency() {
+      return total;
+    }
+
+    /**
+     * Get the bytes of the request bodies.
+     *
+     * @return Number of bytes sent.
+     */
+    public long getBytesSent() {
+      return bytesSent.sum();
+    }
+
+    /**
+     * Get the bytes of the response bodies.
+     *
+     * @return Number of bytes received.
+     */
+    public long getBytesReceived() {
+      return bytesReceived.sum();
+    }
+
+    /**
+     * Get the number of retries.
+     *
+     * @return Number of retries.
+     */
+    public long getRetries() {
+      return retries.sum();
+    }
+
+    /**
+     * Get the number of calls per status code of the response; calls without
+     * a response, because of an I/O error, are counted under -1.
+     *
+     * @return The counts by status code.
+     */
+    public Map<Integer, Long> getStatusCodeCounts() {
+      Map<Integer, Long> counts = new TreeMap<>();
+      statusCodes.forEach((statusCode, count) -> counts.put(statusCode, count.sum()));
+      return counts;
+    }
+  }
+}
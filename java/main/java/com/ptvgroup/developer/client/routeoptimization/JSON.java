@@ -46,6 +46,17 @@ public class JSON {
     mapper.registerModule(jnm);
   }
 
+  /**
+   * Create the mapper with a {@link JsonAcceleration} module registered.
+   *
+   * @param acceleration The acceleration.
+   * @throws IllegalStateException if the module is not on the class path.
+   */
+  public JSON(JsonAcceleration acceleration) {
+    this();
+    acceleration.register(mapper);
+  }
+
   /**
    * Set the date format for JSON (de)serialization with Date properties.
    *
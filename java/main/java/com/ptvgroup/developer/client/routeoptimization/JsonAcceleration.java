@@ -0,0 +1,113 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The Jackson modules that speed up the bean serializers and deserializers by
+ * replacing the reflective calls of the getters and setters with generated
+ * code.
+ *
+ * <p>The modules are optional dependencies and are loaded by name; add
+ * {@code com.fasterxml.jackson.module:jackson-module-blackbird} or
+ * {@code jackson-module-afterburner} in the version of jackson-databind.
+ * Afterburner is available for every supported Jackson version, from 2.10.4;
+ * Blackbird was first released with 2.12.0, so it requires Jackson 2.12.0 or
+ * later. Blackbird is the successor of Afterburner for Java 11 and later, Afterburner
+ * falls back to reflection for classes it cannot access on these JVMs.</p>
+ *
+ * <p>Both modules only change how properties are accessed.
+ * {@code JsonBenchmark} in the test sources checks that a mapper with the module reads and writes
+ * the model classes, null and undefined {@code JsonNullable} properties,
+ * dates, enums read with {@code toString()} and oneOf schemas exactly like the
+ * default mapper, also together with the {@link StreamingModelModule}, and
+ * measures it on plans of three sizes. The gain depends on the JVM and the
+ * plans; on large plans it can be none, so measure before enabling it.</p>
+ */
+public enum JsonAcceleration {
+  /**
+   * No acceleration.
+   */
+  NONE(null),
+
+  /**
+   * The Blackbird module.
+   */
+  BLACKBIRD("com.fasterxml.jackson.module.blackbird.BlackbirdModule"),
+
+  /**
+   * The Afterburner module.
+   */
+  AFTERBURNER("com.fasterxml.jackson.module.afterburner.AfterburnerModule"),
+
+  /**
+   * Blackbird if it is on the class path, else Afterburner if it is, else
+   * none.
+   */
+  AUTO(null);
+
+  private final String moduleClassName;
+
+  JsonAcceleration(String moduleClassName) {
+    this.moduleClassName = moduleClassName;
+  }
+
+  /**
+   * Check whether the module is on the class path.
+   *
+   * @return True if the acceleration can be used.
+   */
+  public boolean isAvailable() {
+    switch (this) {
+      case NONE:
+        return true;
+      case AUTO:
+        return BLACKBIRD.isAvailable() || AFTERBURNER.isAvailable();
+      default:
+        return loadModuleClass() != null;
+    }
+  }
+
+  /**
+   * Register the module on a mapper.
+   *
+   * @param mapper The object mapper.
+   * @return The acceleration registered, NONE if no module was registered.
+   * @throws IllegalStateException if the module is not on the class path.
+   */
+  public JsonAcceleration register(ObjectMapper mapper) {
+    if (this == NONE) {
+      return NONE;
+    }
+    if (this == AUTO) {
+      return BLACKBIRD.isAvailable() ? BLACKBIRD.register(mapper)
+          : AFTERBURNER.isAvailable() ? AFTERBURNER.register(mapper) : NONE;
+    }
+    Class<?> moduleClass = loadModuleClass();
+    if (moduleClass == null) {
+      throw new IllegalStateException(moduleClassName + " is not on the class path");
+    }
+    try {
+      mapper.registerModule((Module) moduleClass.getConstructor().newInstance());
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to create " + moduleClassName, e);
+    }
+    return this;
+  }
+
+  private Class<?> loadModuleClass() {
+    try {
+      return Class.forName(moduleClassName, false, JsonAcceleration.class.getClassLoader());
+    } catch (ClassNotFoundException | LinkageError e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.ptvgroup.developer.client.routeoptimization.model.Operation;
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+import com.ptvgroup.developer.client.routeoptimization.model.PlanSummaries;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The {@link ObjectMapper} shared by the API classes of an {@link ApiClient},
+ * with the readers and writers of the bodies of the service.
+ *
+ * <p>Readers and writers are immutable and look up the deserializer or
+ * serializer of their type once, when they are created, instead of on every
+ * call. The serializers and deserializers of the nested types are found on
+ * first use and cached by the mapper, which makes the first calls of a client
+ * slow; {@link #warmUp()} finds them in advance.</p>
+ *
+ * <p>This class is thread-safe, as long as the configuration of the mapper is
+ * not changed.</p>
+ */
+public final class JsonCodecs {
+  private final ObjectMapper mapper;
+  private final ObjectReader planReader;
+  private final ObjectWriter planWriter;
+  private final ObjectReader operationReader;
+  private final ObjectReader planSummariesReader;
+
+  /**
+   * Create the readers and writers of a mapper.
+   *
+   * @param mapper The configured object mapper.
+   */
+  public JsonCodecs(ObjectMapper mapper) {
+    this.mapper = mapper;
+    planReader = mapper.readerFor(Plan.class);
+    planWriter = mapper.writerFor(Plan.class);
+    operationReader = mapper.readerFor(Operation.class);
+    planSummariesReader = mapper.readerFor(PlanSummaries.class);
+  }
+
+  /**
+   * Find the serializers and deserializers of all types that can be part of
+   * a plan, an operation or the plan summaries, and run each reader and
+   * writer once. Call this method at startup to take the introspection of the
+   * model classes off the first API calls.
+   *
+   * @return This object.
+   */
+  public JsonCodecs warmUp() {
+    Set<JavaType> seen = new HashSet<>();
+    Deque<JavaType> pending = new ArrayDeque<>();
+    for (Class<?> root : new Class<?>[] {Plan.class, Operation.class, PlanSummaries.class}) {
+      pending.add(mapper.constructType(root));
+    }
+    Package modelPackage = Plan.class.getPackage();
+    while (!pending.isEmpty()) {
+      JavaType type = pending.poll();
+      while (type.isContainerType()) {
+        type = type.getContentType();
+      }
+      if (!seen.add(type) || type.getRawClass().getPackage() != modelPackage) {
+        continue;
+      }
+      // both look-ups are cached by the mapper
+      mapper.readerFor(type);
+      mapper.writerFor(type);
+      if (type.isEnumType()) {
+        continue;
+      }
+      for (BeanPropertyDefinition property : mapper.getSerializationConfig().introspect(type).findProperties()) {
+        pending.add(property.getPrimaryType());
+      }
+    }
+    try {
+      planReader.readValue(planWriter.writeValueAsBytes(new Plan()));
+      operationReader.readValue(mapper.writeValueAsBytes(new Operation()));
+      planSummariesReader.readValue(mapper.writeValueAsBytes(new PlanSummaries()));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to warm up the object mapper", e);
+    }
+    return this;
+  }
+
+  /**
+   * Make a deep copy of a plan, as if it was written and read again, without
+   * encoding it as JSON.
+   *
+   * @param plan The plan.
+   * @return The copy.
+   * @throws IOException if the plan cannot be serialized.
+   */
+  public Plan copyPlan(Plan plan) throws IOException {
+    TokenBuffer buffer = new TokenBuffer(mapper, false);
+    planWriter.writeValue(buffer, plan);
+    try (JsonParser parser = buffer.asParser()) {
+      return planReader.readValue(parser);
+    }
+  }
+
+  /**
+   * Get the shared object mapper. Its configuration must not be changed.
+   *
+   * @return The object mapper.
+   */
+  public ObjectMapper getMapper() {
+    return mapper;
+  }
+
+  /**
+   * Get the reader of a {@link Plan}.
+   *
+   * @return The plan reader.
+   */
+  public ObjectReader getPlanReader() {
+    return planReader;
+  }
+
+  /**
+   * Get the writer of a {@link Plan}.
+   *
+   * @return The plan writer.
+   */
+  public ObjectWriter getPlanWriter() {
+    return planWriter;
+  }
+
+  /**
+   * Get the reader of an {@link Operation}.
+   *
+   * @return The operation reader.
+   */
+  public ObjectReader getOperationReader() {
+    return operationReader;
+  }
+
+  /**
+   * Get the reader of the {@link PlanSummaries}.
+   *
+   * @return The plan summaries reader.
+   */
+  public ObjectReader getPlanSummariesReader() {
+    return planSummariesReader;
+  }
+}
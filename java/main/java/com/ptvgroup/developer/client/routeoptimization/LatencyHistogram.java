@@ -0,0 +1,161 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations with a bounded relative error, in the manner of
+ * HdrHistogram.
+ *
+ * <p>Values below 64 ns are counted exactly. Above, every power of two is
+ * divided into 32 buckets of equal width, so a value is reported with an
+ * error of at most 1/32 (about 3 %), from nanoseconds to hours. Values above
+ * 2<sup>43</sup> ns (about 2.4 hours) are counted in the highest bucket. The
+ * histogram takes about 10 KB, however many values are recorded; recording
+ * is lock-free and takes constant time.</p>
+ *
+ * <p>This class is thread-safe. Values recorded while a copy is taken may or
+ * may not be part of the copy.</p>
+ */
+public class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 6;
+  private static final long MAX_VALUE = (1L << 43) - 1;
+  private static final int BUCKETS = index(MAX_VALUE) + 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  private static int index(long value) {
+    if (value < 1L << SUB_BUCKET_BITS) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+    return (shift << (SUB_BUCKET_BITS - 1)) + (int) (value >>> shift);
+  }
+
+  /**
+   * The highest value counted in a bucket.
+   */
+  private static long highestValue(int index) {
+    if (index < 1 << SUB_BUCKET_BITS) {
+      return index;
+    }
+    int shift = (index >> (SUB_BUCKET_BITS - 1)) - 1;
+    long subBucket = index - ((long) shift << (SUB_BUCKET_BITS - 1));
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  /**
+   * Record a value.
+   *
+   * @param valueNanos The value in nanoseconds; negative values are counted as 0.
+   */
+  public void record(long valueNanos) {
+    long value = Math.max(0, Math.min(MAX_VALUE, valueNanos));
+    counts.incrementAndGet(index(value));
+    count.increment();
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * Get the number of recorded values.
+   *
+   * @return Number of values.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Get the highest recorded value.
+   *
+   * @return The maximum in nanoseconds, or 0 if no value was recorded.
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Get the mean of the recorded values.
+   *
+   * @return The mean in nanoseconds, or 0 if no value was recorded.
+   */
+  public double getMean() {
+    long values = count.sum();
+    return values == 0 ? 0 : (double) sum.sum() / values;
+  }
+
+  /**
+   * Get the value below or at which a percentage of the recorded values lie.
+   *
+   * @param percentile The percentage, for example 99.9.
+   * @return The value in nanoseconds, or 0 if no value was recorded.
+   */
+  public long getValueAtPercentile(double percentile) {
+    long values = count.sum();
+    if (values == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(Math.min(100, percentile) / 100 * values));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return Math.min(highestValue(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * Copy the histogram.
+   *
+   * @return A new histogram with the values recorded so far.
+   */
+  public LatencyHistogram copy() {
+    return copy(false);
+  }
+
+  /**
+   * Copy the histogram and remove the copied values from it, to report the
+   * values of an interval.
+   *
+   * @return A new histogram with the values recorded since the last reset.
+   */
+  public LatencyHistogram copyAndReset() {
+    return copy(true);
+  }
+
+  private LatencyHistogram copy(boolean reset) {
+    LatencyHistogram copy = new LatencyHistogram();
+    long copied = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      long bucketCount = reset ? counts.getAndSet(i, 0) : counts.get(i);
+      if (bucketCount != 0) {
+        copy.counts.set(i, bucketCount);
+        copied += bucketCount;
+      }
+    }
+    // the count is derived from the copied buckets, so that the percentiles
+    // of the copy are consistent even while values are recorded
+    copy.count.add(copied);
+    copy.sum.add(reset ? sum.sumThenReset() : sum.sum());
+    copy.max.accumulate(reset ? max.getThenReset() : max.get());
+    if (reset) {
+      count.add(-copied);
+    }
+    return copy;
+  }
+}
@@ -0,0 +1,26 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+/**
+ * Receives the measurements of the API calls of an {@link ApiClient}.
+ *
+ * <p>{@link HistogramMetrics} is the built-in implementation; others can pass
+ * the measurements on to a metrics library. Implementations are called on the
+ * threads finishing the calls, concurrently, and should be quick and
+ * thread-safe.</p>
+ */
+public interface MetricsCollector {
+  /**
+   * Record a finished call.
+   *
+   * @param call The measurements of the call.
+   */
+  void record(CallMetrics call);
+}
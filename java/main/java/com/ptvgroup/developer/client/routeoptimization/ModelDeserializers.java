@@ -0,0 +1,1203 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.ptvgroup.developer.client.routeoptimization.model.BreakRule;
+import com.ptvgroup.developer.client.routeoptimization.model.CapacitiesChangePosition;
+import com.ptvgroup.developer.client.routeoptimization.model.CustomerLocationAttributes;
+import com.ptvgroup.developer.client.routeoptimization.model.DailyRestPosition;
+import com.ptvgroup.developer.client.routeoptimization.model.DailyRestRule;
+import com.ptvgroup.developer.client.routeoptimization.model.DepotLocationAttributes;
+import com.ptvgroup.developer.client.routeoptimization.model.Driver;
+import com.ptvgroup.developer.client.routeoptimization.model.Event;
+import com.ptvgroup.developer.client.routeoptimization.model.EventType;
+import com.ptvgroup.developer.client.routeoptimization.model.Location;
+import com.ptvgroup.developer.client.routeoptimization.model.LocationType;
+import com.ptvgroup.developer.client.routeoptimization.model.MixedLoadingProhibition;
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+import com.ptvgroup.developer.client.routeoptimization.model.PlanningRestrictions;
+import com.ptvgroup.developer.client.routeoptimization.model.PositionInTrip;
+import com.ptvgroup.developer.client.routeoptimization.model.RoadAccess;
+import com.ptvgroup.developer.client.routeoptimization.model.Route;
+import com.ptvgroup.developer.client.routeoptimization.model.RouteReport;
+import com.ptvgroup.developer.client.routeoptimization.model.Stop;
+import com.ptvgroup.developer.client.routeoptimization.model.StopReport;
+import com.ptvgroup.developer.client.routeoptimization.model.TimeInterval;
+import com.ptvgroup.developer.client.routeoptimization.model.Transport;
+import com.ptvgroup.developer.client.routeoptimization.model.Vehicle;
+import com.ptvgroup.developer.client.routeoptimization.model.Violation;
+import com.ptvgroup.developer.client.routeoptimization.model.ViolationType;
+import com.ptvgroup.developer.client.routeoptimization.model.Warning;
+import com.ptvgroup.developer.client.routeoptimization.model.WayReport;
+import com.ptvgroup.developer.client.routeoptimization.model.WorkLogbook;
+import com.ptvgroup.developer.client.routeoptimization.model.WorkingHoursPreset;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The deserializers of {@link StreamingModelModule}. Each reads the
+ * properties of its class in a single pass over the parser, calling the
+ * setters directly instead of through reflection. Values in a form other than
+ * the common one, for example numbers in strings, are passed to the
+ * deserializers of the {@code ObjectMapper}, so that they are read as the
+ * mapper would read them.
+ */
+final class ModelDeserializers {
+  private ModelDeserializers() {
+  }
+
+  /**
+   * Move into an object.
+   *
+   * @return The name of the first property, or null if the object is empty.
+   */
+  static String startObject(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      return p.nextFieldName();
+    }
+    if (token == JsonToken.FIELD_NAME) {
+      return p.currentName();
+    }
+    if (token == JsonToken.END_OBJECT) {
+      return null;
+    }
+    // always throws
+    ctxt.reportWrongTokenException(type, JsonToken.START_OBJECT, null);
+    return null;
+  }
+
+  static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.VALUE_STRING) {
+      return p.getText();
+    }
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return ctxt.readValue(p, String.class);
+  }
+
+  static Integer readInteger(JsonParser p, DeserializationContext ctxt) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.VALUE_NUMBER_INT) {
+      return p.getIntValue();
+    }
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return ctxt.readValue(p, Integer.class);
+  }
+
+  static Double readDouble(JsonParser p, DeserializationContext ctxt) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+      return p.getDoubleValue();
+    }
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return ctxt.readValue(p, Double.class);
+  }
+
+  static Boolean readBoolean(JsonParser p, DeserializationContext ctxt) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.VALUE_TRUE) {
+      return Boolean.TRUE;
+    }
+    if (token == JsonToken.VALUE_FALSE) {
+      return Boolean.FALSE;
+    }
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return ctxt.readValue(p, Boolean.class);
+  }
+
+  static UUID readUuid(JsonParser p, DeserializationContext ctxt) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.VALUE_STRING) {
+      String text = p.getText();
+      // UUID.fromString accepts more than the canonical form
+      if (text.length() == 36) {
+        try {
+          return UUID.fromString(text);
+        } catch (IllegalArgumentException e) {
+          // left to the mapper
+        }
+      }
+    } else if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return ctxt.readValue(p, UUID.class);
+  }
+
+  static OffsetDateTime readDateTime(JsonParser p, DeserializationContext ctxt) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.VALUE_STRING && !ctxt.isEnabled(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)) {
+      try {
+        return OffsetDateTime.parse(p.getText(), DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+      } catch (DateTimeParseException e) {
+        // other forms, for example timestamps, are left to the JavaTimeModule
+      }
+    } else if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return ctxt.readValue(p, OffsetDateTime.class);
+  }
+
+  static <E extends Enum<E>> E readEnum(JsonParser p, DeserializationContext ctxt, Class<E> type,
+      Function<String, E> fromValue) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.VALUE_STRING) {
+      String text = p.getText();
+      try {
+        return fromValue.apply(text);
+      } catch (IllegalArgumentException e) {
+        throw ctxt.weirdStringException(text, type, e.getMessage());
+      }
+    }
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return ctxt.readValue(p, type);
+  }
+
+  static <T> T readObject(JsonParser p, DeserializationContext ctxt, JsonDeserializer<T> deserializer) throws IOException {
+    return p.currentToken() == JsonToken.VALUE_NULL ? null : deserializer.deserialize(p, ctxt);
+  }
+
+  static <T> List<T> readList(JsonParser p, DeserializationContext ctxt, JsonDeserializer<T> deserializer) throws IOException {
+    if (!startArray(p, ctxt)) {
+      return p.currentToken() == JsonToken.VALUE_NULL
+          ? null : Collections.singletonList(readObject(p, ctxt, deserializer));
+    }
+    List<T> list = new ArrayList<>();
+    while (p.nextToken() != JsonToken.END_ARRAY) {
+      list.add(readObject(p, ctxt, deserializer));
+    }
+    return list;
+  }
+
+  static List<String> readStringList(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (!startArray(p, ctxt)) {
+      return p.currentToken() == JsonToken.VALUE_NULL ? null : Collections.singletonList(readString(p, ctxt));
+    }
+    List<String> list = new ArrayList<>();
+    while (p.nextToken() != JsonToken.END_ARRAY) {
+      list.add(readString(p, ctxt));
+    }
+    return list;
+  }
+
+  static List<Integer> readIntegerList(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (!startArray(p, ctxt)) {
+      return p.currentToken() == JsonToken.VALUE_NULL ? null : Collections.singletonList(readInteger(p, ctxt));
+    }
+    List<Integer> list = new ArrayList<>();
+    while (p.nextToken() != JsonToken.END_ARRAY) {
+      list.add(readInteger(p, ctxt));
+    }
+    return list;
+  }
+
+  static List<List<Integer>> readIntegerLists(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (!startArray(p, ctxt)) {
+      return p.currentToken() == JsonToken.VALUE_NULL ? null : Collections.singletonList(readIntegerList(p, ctxt));
+    }
+    List<List<Integer>> list = new ArrayList<>();
+    while (p.nextToken() != JsonToken.END_ARRAY) {
+      list.add(readIntegerList(p, ctxt));
+    }
+    return list;
+  }
+
+  /**
+   * Check for the start of an array. A value other than an array or null is
+   * read as an array of this value if the mapper accepts single values as
+   * arrays.
+   *
+   * @return True at the start of an array, false at null or a single value.
+   */
+  private static boolean startArray(JsonParser p, DeserializationContext ctxt) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.START_ARRAY) {
+      return true;
+    }
+    if (token != JsonToken.VALUE_NULL && !ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
+      ctxt.reportWrongTokenException(List.class, JsonToken.START_ARRAY, null);
+    }
+    return false;
+  }
+
+  @SuppressWarnings("unchecked")
+  static Map<String, Object> readMap(JsonParser p, DeserializationContext ctxt) throws IOException {
+    return p.currentToken() == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Map.class);
+  }
+
+  static final class PlanDeserializer extends StdDeserializer<Plan> {
+    private static final long serialVersionUID = 1L;
+
+    static final PlanDeserializer INSTANCE = new PlanDeserializer();
+
+    private PlanDeserializer() {
+      super(Plan.class);
+    }
+
+    @Override
+    public Plan deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      // the read-only properties are only set by the constructor
+      UUID id = null;
+      String description = null;
+      List<Location> locations = null;
+      List<Vehicle> vehicles = null;
+      List<Driver> drivers = null;
+      List<Transport> transports = null;
+      TimeInterval planningHorizon = null;
+      PlanningRestrictions restrictions = null;
+      List<Route> routes = null;
+      List<String> unplannedVehicleIds = null;
+      List<String> unplannedTransportIds = null;
+      List<Warning> warnings = null;
+      for (String name = startObject(p, ctxt, Plan.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case Plan.JSON_PROPERTY_ID:
+            id = readUuid(p, ctxt);
+            break;
+          case Plan.JSON_PROPERTY_DESCRIPTION:
+            description = readString(p, ctxt);
+            break;
+          case Plan.JSON_PROPERTY_LOCATIONS:
+            locations = readList(p, ctxt, LocationDeserializer.INSTANCE);
+            break;
+          case Plan.JSON_PROPERTY_VEHICLES:
+            vehicles = readList(p, ctxt, VehicleDeserializer.INSTANCE);
+            break;
+          case Plan.JSON_PROPERTY_DRIVERS:
+            drivers = readList(p, ctxt, DriverDeserializer.INSTANCE);
+            break;
+          case Plan.JSON_PROPERTY_TRANSPORTS:
+            transports = readList(p, ctxt, TransportDeserializer.INSTANCE);
+            break;
+          case Plan.JSON_PROPERTY_PLANNING_HORIZON:
+            planningHorizon = readObject(p, ctxt, TimeIntervalDeserializer.INSTANCE);
+            break;
+          case Plan.JSON_PROPERTY_RESTRICTIONS:
+            restrictions = readObject(p, ctxt, PlanningRestrictionsDeserializer.INSTANCE);
+            break;
+          case Plan.JSON_PROPERTY_ROUTES:
+            routes = readList(p, ctxt, RouteDeserializer.INSTANCE);
+            break;
+          case Plan.JSON_PROPERTY_UNPLANNED_VEHICLE_IDS:
+            unplannedVehicleIds = readStringList(p, ctxt);
+            break;
+          case Plan.JSON_PROPERTY_UNPLANNED_TRANSPORT_IDS:
+            unplannedTransportIds = readStringList(p, ctxt);
+            break;
+          case Plan.JSON_PROPERTY_WARNINGS:
+            warnings = readList(p, ctxt, WarningDeserializer.INSTANCE);
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, Plan.class, name);
+        }
+      }
+      Plan value = new Plan(id, unplannedVehicleIds, unplannedTransportIds, warnings);
+      value.setDescription(description);
+      value.setLocations(locations);
+      value.setVehicles(vehicles);
+      value.setDrivers(drivers);
+      value.setTransports(transports);
+      value.setPlanningHorizon(planningHorizon);
+      value.setRestrictions(restrictions);
+      value.setRoutes(routes);
+      return value;
+    }
+  }
+
+  static final class LocationDeserializer extends StdDeserializer<Location> {
+    private static final long serialVersionUID = 1L;
+
+    static final LocationDeserializer INSTANCE = new LocationDeserializer();
+
+    private LocationDeserializer() {
+      super(Location.class);
+    }
+
+    @Override
+    public Location deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      Location value = new Location();
+      for (String name = startObject(p, ctxt, Location.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case Location.JSON_PROPERTY_ID:
+            value.setId(readString(p, ctxt));
+            break;
+          case Location.JSON_PROPERTY_TYPE:
+            value.setType(readEnum(p, ctxt, LocationType.class, LocationType::fromValue));
+            break;
+          case Location.JSON_PROPERTY_LATITUDE:
+            value.setLatitude(readDouble(p, ctxt));
+            break;
+          case Location.JSON_PROPERTY_LONGITUDE:
+            value.setLongitude(readDouble(p, ctxt));
+            break;
+          case Location.JSON_PROPERTY_ROAD_ACCESS:
+            value.setRoadAccess(readObject(p, ctxt, RoadAccessDeserializer.INSTANCE));
+            break;
+          case Location.JSON_PROPERTY_INCLUDE_LAST_METERS:
+            value.setIncludeLastMeters(readBoolean(p, ctxt));
+            break;
+          case Location.JSON_PROPERTY_MATCH_SIDE_OF_STREET:
+            value.setMatchSideOfStreet(readBoolean(p, ctxt));
+            break;
+          case Location.JSON_PROPERTY_APPLY_VEHICLE_DEPENDENT_SERVICE_TIME_FACTOR:
+            value.setApplyVehicleDependentServiceTimeFactor(readBoolean(p, ctxt));
+            break;
+          case Location.JSON_PROPERTY_OPENING_INTERVALS:
+            value.setOpeningIntervals(readList(p, ctxt, TimeIntervalDeserializer.INSTANCE));
+            break;
+          case Location.JSON_PROPERTY_DEPOT_LOCATION_ATTRIBUTES:
+            value.setDepotLocationAttributes(readObject(p, ctxt, DepotLocationAttributesDeserializer.INSTANCE));
+            break;
+          case Location.JSON_PROPERTY_CUSTOMER_LOCATION_ATTRIBUTES:
+            value.setCustomerLocationAttributes(readObject(p, ctxt, CustomerLocationAttributesDeserializer.INSTANCE));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class VehicleDeserializer extends StdDeserializer<Vehicle> {
+    private static final long serialVersionUID = 1L;
+
+    static final VehicleDeserializer INSTANCE = new VehicleDeserializer();
+
+    private VehicleDeserializer() {
+      super(Vehicle.class);
+    }
+
+    @Override
+    public Vehicle deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      Vehicle value = new Vehicle();
+      for (String name = startObject(p, ctxt, Vehicle.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case Vehicle.JSON_PROPERTY_ID:
+            value.setId(readString(p, ctxt));
+            break;
+          case Vehicle.JSON_PROPERTY_CAPACITIES:
+            value.setCapacities(readIntegerList(p, ctxt));
+            break;
+          case Vehicle.JSON_PROPERTY_ALTERNATIVE_CAPACITIES:
+            value.setAlternativeCapacities(readIntegerLists(p, ctxt));
+            break;
+          case Vehicle.JSON_PROPERTY_CAPACITIES_CHANGE_POSITION:
+            value.setCapacitiesChangePosition(readEnum(p, ctxt, CapacitiesChangePosition.class, CapacitiesChangePosition::fromValue));
+            break;
+          case Vehicle.JSON_PROPERTY_EQUIPMENT:
+            value.setEquipment(readStringList(p, ctxt));
+            break;
+          case Vehicle.JSON_PROPERTY_PROFILE:
+            value.setProfile(readString(p, ctxt));
+            break;
+          case Vehicle.JSON_PROPERTY_START_LOCATION_ID:
+            value.setStartLocationId(readString(p, ctxt));
+            break;
+          case Vehicle.JSON_PROPERTY_END_LOCATION_ID:
+            value.setEndLocationId(readString(p, ctxt));
+            break;
+          case Vehicle.JSON_PROPERTY_SERVICE_TIME_PER_TRANSPORT_STOP:
+            value.setServiceTimePerTransportStop(readInteger(p, ctxt));
+            break;
+          case Vehicle.JSON_PROPERTY_SERVICE_TIME_FACTOR:
+            value.setServiceTimeFactor(readDouble(p, ctxt));
+            break;
+          case Vehicle.JSON_PROPERTY_IGNORE_MIXED_LOADING_PROHIBITIONS:
+            value.setIgnoreMixedLoadingProhibitions(readBoolean(p, ctxt));
+            break;
+          case Vehicle.JSON_PROPERTY_ROUTE_START_INTERVAL:
+            value.setRouteStartInterval(readObject(p, ctxt, TimeIntervalDeserializer.INSTANCE));
+            break;
+          case Vehicle.JSON_PROPERTY_MAXIMUM_DISTANCE:
+            value.setMaximumDistance_JsonNullable(JsonNullable.of(readInteger(p, ctxt)));
+            break;
+          case Vehicle.JSON_PROPERTY_MAXIMUM_NUMBER_OF_CUSTOMER_STOPS:
+            value.setMaximumNumberOfCustomerStops_JsonNullable(JsonNullable.of(readInteger(p, ctxt)));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class TransportDeserializer extends StdDeserializer<Transport> {
+    private static final long serialVersionUID = 1L;
+
+    static final TransportDeserializer INSTANCE = new TransportDeserializer();
+
+    private TransportDeserializer() {
+      super(Transport.class);
+    }
+
+    @Override
+    public Transport deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      Transport value = new Transport();
+      for (String name = startObject(p, ctxt, Transport.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case Transport.JSON_PROPERTY_ID:
+            value.setId(readString(p, ctxt));
+            break;
+          case Transport.JSON_PROPERTY_QUANTITIES:
+            value.setQuantities(readIntegerList(p, ctxt));
+            break;
+          case Transport.JSON_PROPERTY_PICKUP_LOCATION_ID:
+            value.setPickupLocationId(readString(p, ctxt));
+            break;
+          case Transport.JSON_PROPERTY_PICKUP_SERVICE_TIME:
+            value.setPickupServiceTime(readInteger(p, ctxt));
+            break;
+          case Transport.JSON_PROPERTY_DELIVERY_LOCATION_ID:
+            value.setDeliveryLocationId(readString(p, ctxt));
+            break;
+          case Transport.JSON_PROPERTY_DELIVERY_SERVICE_TIME:
+            value.setDeliveryServiceTime(readInteger(p, ctxt));
+            break;
+          case Transport.JSON_PROPERTY_REQUIRED_EQUIPMENT:
+            value.setRequiredEquipment(readStringList(p, ctxt));
+            break;
+          case Transport.JSON_PROPERTY_PRIORITY:
+            value.setPriority_JsonNullable(JsonNullable.of(readInteger(p, ctxt)));
+            break;
+          case Transport.JSON_PROPERTY_LOAD_CATEGORY:
+            value.setLoadCategory(readString(p, ctxt));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class DriverDeserializer extends StdDeserializer<Driver> {
+    private static final long serialVersionUID = 1L;
+
+    static final DriverDeserializer INSTANCE = new DriverDeserializer();
+
+    private DriverDeserializer() {
+      super(Driver.class);
+    }
+
+    @Override
+    public Driver deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      Driver value = new Driver();
+      for (String name = startObject(p, ctxt, Driver.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case Driver.JSON_PROPERTY_ID:
+            value.setId(readString(p, ctxt));
+            break;
+          case Driver.JSON_PROPERTY_VEHICLE_ID:
+            value.setVehicleId(readString(p, ctxt));
+            break;
+          case Driver.JSON_PROPERTY_AVAILABILITIES:
+            value.setAvailabilities(readList(p, ctxt, TimeIntervalDeserializer.INSTANCE));
+            break;
+          case Driver.JSON_PROPERTY_WORKING_HOURS_PRESET:
+            value.setWorkingHoursPreset_JsonNullable(JsonNullable.of(readEnum(p, ctxt, WorkingHoursPreset.class, WorkingHoursPreset::fromValue)));
+            break;
+          case Driver.JSON_PROPERTY_BREAK_RULE:
+            value.setBreakRule(readObject(p, ctxt, BreakRuleDeserializer.INSTANCE));
+            break;
+          case Driver.JSON_PROPERTY_DAILY_REST_RULE:
+            value.setDailyRestRule(readObject(p, ctxt, DailyRestRuleDeserializer.INSTANCE));
+            break;
+          case Driver.JSON_PROPERTY_WORK_LOGBOOK:
+            value.setWorkLogbook(readObject(p, ctxt, WorkLogbookDeserializer.INSTANCE));
+            break;
+          case Driver.JSON_PROPERTY_MAXIMUM_DRIVING_TIME:
+            value.setMaximumDrivingTime_JsonNullable(JsonNullable.of(readInteger(p, ctxt)));
+            break;
+          case Driver.JSON_PROPERTY_MAXIMUM_TRAVEL_TIME:
+            value.setMaximumTravelTime_JsonNullable(JsonNullable.of(readInteger(p, ctxt)));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class RouteDeserializer extends StdDeserializer<Route> {
+    private static final long serialVersionUID = 1L;
+
+    static final RouteDeserializer INSTANCE = new RouteDeserializer();
+
+    private RouteDeserializer() {
+      super(Route.class);
+    }
+
+    @Override
+    public Route deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      // the read-only properties are only set by the constructor
+      String vehicleId = null;
+      List<Stop> stops = null;
+      RouteReport report = null;
+      for (String name = startObject(p, ctxt, Route.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case Route.JSON_PROPERTY_VEHICLE_ID:
+            vehicleId = readString(p, ctxt);
+            break;
+          case Route.JSON_PROPERTY_STOPS:
+            stops = readList(p, ctxt, StopDeserializer.INSTANCE);
+            break;
+          case Route.JSON_PROPERTY_REPORT:
+            report = readObject(p, ctxt, RouteReportDeserializer.INSTANCE);
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, Route.class, name);
+        }
+      }
+      Route value = new Route(report);
+      value.setVehicleId(vehicleId);
+      value.setStops(stops);
+      return value;
+    }
+  }
+
+  static final class StopDeserializer extends StdDeserializer<Stop> {
+    private static final long serialVersionUID = 1L;
+
+    static final StopDeserializer INSTANCE = new StopDeserializer();
+
+    private StopDeserializer() {
+      super(Stop.class);
+    }
+
+    @Override
+    public Stop deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      // the read-only properties are only set by the constructor
+      String locationId = null;
+      String tripId = null;
+      List<String> deliveryIds = null;
+      List<String> pickupIds = null;
+      WayReport reportForWayToStop = null;
+      StopReport reportForStop = null;
+      List<Event> eventsOnWayToStop = null;
+      List<Event> eventsAtStop = null;
+      List<Violation> violationsOnWayToStop = null;
+      List<Violation> violationsAtStop = null;
+      for (String name = startObject(p, ctxt, Stop.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case Stop.JSON_PROPERTY_LOCATION_ID:
+            locationId = readString(p, ctxt);
+            break;
+          case Stop.JSON_PROPERTY_TRIP_ID:
+            tripId = readString(p, ctxt);
+            break;
+          case Stop.JSON_PROPERTY_DELIVERY_IDS:
+            deliveryIds = readStringList(p, ctxt);
+            break;
+          case Stop.JSON_PROPERTY_PICKUP_IDS:
+            pickupIds = readStringList(p, ctxt);
+            break;
+          case Stop.JSON_PROPERTY_REPORT_FOR_WAY_TO_STOP:
+            reportForWayToStop = readObject(p, ctxt, WayReportDeserializer.INSTANCE);
+            break;
+          case Stop.JSON_PROPERTY_REPORT_FOR_STOP:
+            reportForStop = readObject(p, ctxt, StopReportDeserializer.INSTANCE);
+            break;
+          case Stop.JSON_PROPERTY_EVENTS_ON_WAY_TO_STOP:
+            eventsOnWayToStop = readList(p, ctxt, EventDeserializer.INSTANCE);
+            break;
+          case Stop.JSON_PROPERTY_EVENTS_AT_STOP:
+            eventsAtStop = readList(p, ctxt, EventDeserializer.INSTANCE);
+            break;
+          case Stop.JSON_PROPERTY_VIOLATIONS_ON_WAY_TO_STOP:
+            violationsOnWayToStop = readList(p, ctxt, ViolationDeserializer.INSTANCE);
+            break;
+          case Stop.JSON_PROPERTY_VIOLATIONS_AT_STOP:
+            violationsAtStop = readList(p, ctxt, ViolationDeserializer.INSTANCE);
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, Stop.class, name);
+        }
+      }
+      Stop value = new Stop(reportForWayToStop, reportForStop, eventsOnWayToStop, eventsAtStop, violationsOnWayToStop, violationsAtStop);
+      value.setLocationId(locationId);
+      value.setTripId(tripId);
+      value.setDeliveryIds(deliveryIds);
+      value.setPickupIds(pickupIds);
+      return value;
+    }
+  }
+
+  static final class EventDeserializer extends StdDeserializer<Event> {
+    private static final long serialVersionUID = 1L;
+
+    static final EventDeserializer INSTANCE = new EventDeserializer();
+
+    private EventDeserializer() {
+      super(Event.class);
+    }
+
+    @Override
+    public Event deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      Event value = new Event();
+      for (String name = startObject(p, ctxt, Event.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case Event.JSON_PROPERTY_TYPE:
+            value.setType(readEnum(p, ctxt, EventType.class, EventType::fromValue));
+            break;
+          case Event.JSON_PROPERTY_START_TIME:
+            value.setStartTime(readDateTime(p, ctxt));
+            break;
+          case Event.JSON_PROPERTY_DURATION:
+            value.setDuration(readInteger(p, ctxt));
+            break;
+          case Event.JSON_PROPERTY_TRANSPORT_ID:
+            value.setTransportId(readString(p, ctxt));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class RouteReportDeserializer extends StdDeserializer<RouteReport> {
+    private static final long serialVersionUID = 1L;
+
+    static final RouteReportDeserializer INSTANCE = new RouteReportDeserializer();
+
+    private RouteReportDeserializer() {
+      super(RouteReport.class);
+    }
+
+    @Override
+    public RouteReport deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      RouteReport value = new RouteReport();
+      for (String name = startObject(p, ctxt, RouteReport.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case RouteReport.JSON_PROPERTY_START_TIME:
+            value.setStartTime(readDateTime(p, ctxt));
+            break;
+          case RouteReport.JSON_PROPERTY_END_TIME:
+            value.setEndTime(readDateTime(p, ctxt));
+            break;
+          case RouteReport.JSON_PROPERTY_TRAVEL_TIME:
+            value.setTravelTime(readInteger(p, ctxt));
+            break;
+          case RouteReport.JSON_PROPERTY_DISTANCE:
+            value.setDistance(readInteger(p, ctxt));
+            break;
+          case RouteReport.JSON_PROPERTY_DRIVING_TIME:
+            value.setDrivingTime(readInteger(p, ctxt));
+            break;
+          case RouteReport.JSON_PROPERTY_SERVICE_TIME:
+            value.setServiceTime(readInteger(p, ctxt));
+            break;
+          case RouteReport.JSON_PROPERTY_WAITING_TIME:
+            value.setWaitingTime(readInteger(p, ctxt));
+            break;
+          case RouteReport.JSON_PROPERTY_BREAK_TIME:
+            value.setBreakTime(readInteger(p, ctxt));
+            break;
+          case RouteReport.JSON_PROPERTY_REST_TIME:
+            value.setRestTime(readInteger(p, ctxt));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class StopReportDeserializer extends StdDeserializer<StopReport> {
+    private static final long serialVersionUID = 1L;
+
+    static final StopReportDeserializer INSTANCE = new StopReportDeserializer();
+
+    private StopReportDeserializer() {
+      super(StopReport.class);
+    }
+
+    @Override
+    public StopReport deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      StopReport value = new StopReport();
+      for (String name = startObject(p, ctxt, StopReport.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case StopReport.JSON_PROPERTY_ARRIVAL_TIME:
+            value.setArrivalTime(readDateTime(p, ctxt));
+            break;
+          case StopReport.JSON_PROPERTY_DEPARTURE_TIME:
+            value.setDepartureTime(readDateTime(p, ctxt));
+            break;
+          case StopReport.JSON_PROPERTY_SERVICE_TIME:
+            value.setServiceTime(readInteger(p, ctxt));
+            break;
+          case StopReport.JSON_PROPERTY_WAITING_TIME:
+            value.setWaitingTime(readInteger(p, ctxt));
+            break;
+          case StopReport.JSON_PROPERTY_BREAK_TIME:
+            value.setBreakTime(readInteger(p, ctxt));
+            break;
+          case StopReport.JSON_PROPERTY_REST_TIME:
+            value.setRestTime(readInteger(p, ctxt));
+            break;
+          case StopReport.JSON_PROPERTY_QUANTITIES:
+            value.setQuantities(readIntegerList(p, ctxt));
+            break;
+          case StopReport.JSON_PROPERTY_ALTERNATIVE_CAPACITIES_INDEX:
+            value.setAlternativeCapacitiesIndex_JsonNullable(JsonNullable.of(readInteger(p, ctxt)));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class WayReportDeserializer extends StdDeserializer<WayReport> {
+    private static final long serialVersionUID = 1L;
+
+    static final WayReportDeserializer INSTANCE = new WayReportDeserializer();
+
+    private WayReportDeserializer() {
+      super(WayReport.class);
+    }
+
+    @Override
+    public WayReport deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      WayReport value = new WayReport();
+      for (String name = startObject(p, ctxt, WayReport.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case WayReport.JSON_PROPERTY_DISTANCE:
+            value.setDistance(readInteger(p, ctxt));
+            break;
+          case WayReport.JSON_PROPERTY_DRIVING_TIME:
+            value.setDrivingTime(readInteger(p, ctxt));
+            break;
+          case WayReport.JSON_PROPERTY_WAITING_TIME:
+            value.setWaitingTime(readInteger(p, ctxt));
+            break;
+          case WayReport.JSON_PROPERTY_BREAK_TIME:
+            value.setBreakTime(readInteger(p, ctxt));
+            break;
+          case WayReport.JSON_PROPERTY_REST_TIME:
+            value.setRestTime(readInteger(p, ctxt));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class ViolationDeserializer extends StdDeserializer<Violation> {
+    private static final long serialVersionUID = 1L;
+
+    static final ViolationDeserializer INSTANCE = new ViolationDeserializer();
+
+    private ViolationDeserializer() {
+      super(Violation.class);
+    }
+
+    @Override
+    public Violation deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      Violation value = new Violation();
+      for (String name = startObject(p, ctxt, Violation.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case Violation.JSON_PROPERTY_TYPE:
+            value.setType(readEnum(p, ctxt, ViolationType.class, ViolationType::fromValue));
+            break;
+          case Violation.JSON_PROPERTY_TIME_EXCEEDANCE:
+            value.setTimeExceedance(readInteger(p, ctxt));
+            break;
+          case Violation.JSON_PROPERTY_DISTANCE_EXCEEDANCE:
+            value.setDistanceExceedance(readInteger(p, ctxt));
+            break;
+          case Violation.JSON_PROPERTY_NUMBER_OF_STOPS_EXCEEDANCE:
+            value.setNumberOfStopsExceedance(readInteger(p, ctxt));
+            break;
+          case Violation.JSON_PROPERTY_CAPACITY_EXCEEDANCE:
+            value.setCapacityExceedance(readIntegerList(p, ctxt));
+            break;
+          case Violation.JSON_PROPERTY_MISSING_EQUIPMENT:
+            value.setMissingEquipment(readStringList(p, ctxt));
+            break;
+          case Violation.JSON_PROPERTY_MIXED_LOADING_PROHIBITIONS:
+            value.setMixedLoadingProhibitions(readList(p, ctxt, MixedLoadingProhibitionDeserializer.INSTANCE));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class WarningDeserializer extends StdDeserializer<Warning> {
+    private static final long serialVersionUID = 1L;
+
+    static final WarningDeserializer INSTANCE = new WarningDeserializer();
+
+    private WarningDeserializer() {
+      super(Warning.class);
+    }
+
+    @Override
+    public Warning deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      Warning value = new Warning();
+      for (String name = startObject(p, ctxt, Warning.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case Warning.JSON_PROPERTY_DESCRIPTION:
+            value.setDescription(readString(p, ctxt));
+            break;
+          case Warning.JSON_PROPERTY_WARNING_CODE:
+            value.setWarningCode(readString(p, ctxt));
+            break;
+          case Warning.JSON_PROPERTY_DETAILS:
+            value.setDetails(readMap(p, ctxt));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class WorkLogbookDeserializer extends StdDeserializer<WorkLogbook> {
+    private static final long serialVersionUID = 1L;
+
+    static final WorkLogbookDeserializer INSTANCE = new WorkLogbookDeserializer();
+
+    private WorkLogbookDeserializer() {
+      super(WorkLogbook.class);
+    }
+
+    @Override
+    public WorkLogbook deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      WorkLogbook value = new WorkLogbook();
+      for (String name = startObject(p, ctxt, WorkLogbook.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case WorkLogbook.JSON_PROPERTY_LAST_TIME_THE_DRIVER_WORKED:
+            value.setLastTimeTheDriverWorked(readDateTime(p, ctxt));
+            break;
+          case WorkLogbook.JSON_PROPERTY_ACCUMULATED_DRIVING_TIME_SINCE_LAST_BREAK:
+            value.setAccumulatedDrivingTimeSinceLastBreak(readInteger(p, ctxt));
+            break;
+          case WorkLogbook.JSON_PROPERTY_ACCUMULATED_WORKING_TIME_SINCE_LAST_BREAK:
+            value.setAccumulatedWorkingTimeSinceLastBreak_JsonNullable(JsonNullable.of(readInteger(p, ctxt)));
+            break;
+          case WorkLogbook.JSON_PROPERTY_ACCUMULATED_DRIVING_TIME_SINCE_LAST_DAILY_REST:
+            value.setAccumulatedDrivingTimeSinceLastDailyRest_JsonNullable(JsonNullable.of(readInteger(p, ctxt)));
+            break;
+          case WorkLogbook.JSON_PROPERTY_ACCUMULATED_TRAVEL_TIME_SINCE_LAST_DAILY_REST:
+            value.setAccumulatedTravelTimeSinceLastDailyRest_JsonNullable(JsonNullable.of(readInteger(p, ctxt)));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class BreakRuleDeserializer extends StdDeserializer<BreakRule> {
+    private static final long serialVersionUID = 1L;
+
+    static final BreakRuleDeserializer INSTANCE = new BreakRuleDeserializer();
+
+    private BreakRuleDeserializer() {
+      super(BreakRule.class);
+    }
+
+    @Override
+    public BreakRule deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      BreakRule value = new BreakRule();
+      for (String name = startObject(p, ctxt, BreakRule.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case BreakRule.JSON_PROPERTY_BREAK_TIME:
+            value.setBreakTime(readInteger(p, ctxt));
+            break;
+          case BreakRule.JSON_PROPERTY_MAXIMUM_DRIVING_TIME_BETWEEN_BREAKS:
+            value.setMaximumDrivingTimeBetweenBreaks_JsonNullable(JsonNullable.of(readInteger(p, ctxt)));
+            break;
+          case BreakRule.JSON_PROPERTY_MAXIMUM_WORKING_TIME_BETWEEN_BREAKS:
+            value.setMaximumWorkingTimeBetweenBreaks_JsonNullable(JsonNullable.of(readInteger(p, ctxt)));
+            break;
+          case BreakRule.JSON_PROPERTY_WORKING_TIME_THRESHOLD:
+            value.setWorkingTimeThreshold(readInteger(p, ctxt));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class DailyRestRuleDeserializer extends StdDeserializer<DailyRestRule> {
+    private static final long serialVersionUID = 1L;
+
+    static final DailyRestRuleDeserializer INSTANCE = new DailyRestRuleDeserializer();
+
+    private DailyRestRuleDeserializer() {
+      super(DailyRestRule.class);
+    }
+
+    @Override
+    public DailyRestRule deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      DailyRestRule value = new DailyRestRule();
+      for (String name = startObject(p, ctxt, DailyRestRule.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case DailyRestRule.JSON_PROPERTY_DAILY_REST_TIME:
+            value.setDailyRestTime(readInteger(p, ctxt));
+            break;
+          case DailyRestRule.JSON_PROPERTY_MAXIMUM_DRIVING_TIME_BETWEEN_DAILY_RESTS:
+            value.setMaximumDrivingTimeBetweenDailyRests_JsonNullable(JsonNullable.of(readInteger(p, ctxt)));
+            break;
+          case DailyRestRule.JSON_PROPERTY_MAXIMUM_TRAVEL_TIME_BETWEEN_DAILY_RESTS:
+            value.setMaximumTravelTimeBetweenDailyRests_JsonNullable(JsonNullable.of(readInteger(p, ctxt)));
+            break;
+          case DailyRestRule.JSON_PROPERTY_DAILY_REST_POSITION:
+            value.setDailyRestPosition(readEnum(p, ctxt, DailyRestPosition.class, DailyRestPosition::fromValue));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class PlanningRestrictionsDeserializer extends StdDeserializer<PlanningRestrictions> {
+    private static final long serialVersionUID = 1L;
+
+    static final PlanningRestrictionsDeserializer INSTANCE = new PlanningRestrictionsDeserializer();
+
+    private PlanningRestrictionsDeserializer() {
+      super(PlanningRestrictions.class);
+    }
+
+    @Override
+    public PlanningRestrictions deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      PlanningRestrictions value = new PlanningRestrictions();
+      for (String name = startObject(p, ctxt, PlanningRestrictions.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case PlanningRestrictions.JSON_PROPERTY_SINGLE_TRIP_PER_ROUTE:
+            value.setSingleTripPerRoute(readBoolean(p, ctxt));
+            break;
+          case PlanningRestrictions.JSON_PROPERTY_SINGLE_DEPOT_PER_ROUTE:
+            value.setSingleDepotPerRoute(readBoolean(p, ctxt));
+            break;
+          case PlanningRestrictions.JSON_PROPERTY_MIXED_LOADING_PROHIBITIONS:
+            value.setMixedLoadingProhibitions(readList(p, ctxt, MixedLoadingProhibitionDeserializer.INSTANCE));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class MixedLoadingProhibitionDeserializer extends StdDeserializer<MixedLoadingProhibition> {
+    private static final long serialVersionUID = 1L;
+
+    static final MixedLoadingProhibitionDeserializer INSTANCE = new MixedLoadingProhibitionDeserializer();
+
+    private MixedLoadingProhibitionDeserializer() {
+      super(MixedLoadingProhibition.class);
+    }
+
+    @Override
+    public MixedLoadingProhibition deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      MixedLoadingProhibition value = new MixedLoadingProhibition();
+      for (String name = startObject(p, ctxt, MixedLoadingProhibition.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case MixedLoadingProhibition.JSON_PROPERTY_CONFLICTING_LOAD_CATEGORY1:
+            value.setConflictingLoadCategory1(readString(p, ctxt));
+            break;
+          case MixedLoadingProhibition.JSON_PROPERTY_CONFLICTING_LOAD_CATEGORY2:
+            value.setConflictingLoadCategory2(readString(p, ctxt));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class TimeIntervalDeserializer extends StdDeserializer<TimeInterval> {
+    private static final long serialVersionUID = 1L;
+
+    static final TimeIntervalDeserializer INSTANCE = new TimeIntervalDeserializer();
+
+    private TimeIntervalDeserializer() {
+      super(TimeInterval.class);
+    }
+
+    @Override
+    public TimeInterval deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      TimeInterval value = new TimeInterval();
+      for (String name = startObject(p, ctxt, TimeInterval.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case TimeInterval.JSON_PROPERTY_START:
+            value.setStart(readDateTime(p, ctxt));
+            break;
+          case TimeInterval.JSON_PROPERTY_END:
+            value.setEnd(readDateTime(p, ctxt));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class RoadAccessDeserializer extends StdDeserializer<RoadAccess> {
+    private static final long serialVersionUID = 1L;
+
+    static final RoadAccessDeserializer INSTANCE = new RoadAccessDeserializer();
+
+    private RoadAccessDeserializer() {
+      super(RoadAccess.class);
+    }
+
+    @Override
+    public RoadAccess deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      RoadAccess value = new RoadAccess();
+      for (String name = startObject(p, ctxt, RoadAccess.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case RoadAccess.JSON_PROPERTY_LATITUDE:
+            value.setLatitude(readDouble(p, ctxt));
+            break;
+          case RoadAccess.JSON_PROPERTY_LONGITUDE:
+            value.setLongitude(readDouble(p, ctxt));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class DepotLocationAttributesDeserializer extends StdDeserializer<DepotLocationAttributes> {
+    private static final long serialVersionUID = 1L;
+
+    static final DepotLocationAttributesDeserializer INSTANCE = new DepotLocationAttributesDeserializer();
+
+    private DepotLocationAttributesDeserializer() {
+      super(DepotLocationAttributes.class);
+    }
+
+    @Override
+    public DepotLocationAttributes deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      DepotLocationAttributes value = new DepotLocationAttributes();
+      for (String name = startObject(p, ctxt, DepotLocationAttributes.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case DepotLocationAttributes.JSON_PROPERTY_SERVICE_TIME_PER_PICKUP_STOP:
+            value.setServiceTimePerPickupStop(readInteger(p, ctxt));
+            break;
+          case DepotLocationAttributes.JSON_PROPERTY_SERVICE_TIME_PER_DELIVERY_STOP:
+            value.setServiceTimePerDeliveryStop(readInteger(p, ctxt));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+
+  static final class CustomerLocationAttributesDeserializer extends StdDeserializer<CustomerLocationAttributes> {
+    private static final long serialVersionUID = 1L;
+
+    static final CustomerLocationAttributesDeserializer INSTANCE = new CustomerLocationAttributesDeserializer();
+
+    private CustomerLocationAttributesDeserializer() {
+      super(CustomerLocationAttributes.class);
+    }
+
+    @Override
+    public CustomerLocationAttributes deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      CustomerLocationAttributes value = new CustomerLocationAttributes();
+      for (String name = startObject(p, ctxt, CustomerLocationAttributes.class); name != null; name = p.nextFieldName()) {
+        p.nextToken();
+        switch (name) {
+          case CustomerLocationAttributes.JSON_PROPERTY_SERVICE_TIME_PER_TRANSPORT_STOP:
+            value.setServiceTimePerTransportStop(readInteger(p, ctxt));
+            break;
+          case CustomerLocationAttributes.JSON_PROPERTY_CUSTOMER_ID:
+            value.setCustomerId(readString(p, ctxt));
+            break;
+          case CustomerLocationAttributes.JSON_PROPERTY_POSITION_IN_TRIP:
+            value.setPositionInTrip_JsonNullable(JsonNullable.of(readEnum(p, ctxt, PositionInTrip.class, PositionInTrip::fromValue)));
+            break;
+          case CustomerLocationAttributes.JSON_PROPERTY_TRIP_SECTION_NUMBER:
+            value.setTripSectionNumber_JsonNullable(JsonNullable.of(readInteger(p, ctxt)));
+            break;
+          default:
+            ctxt.handleUnknownProperty(p, this, value, name);
+        }
+      }
+      return value;
+    }
+  }
+}
@@ -0,0 +1,894 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.ptvgroup.developer.client.routeoptimization.model.BreakRule;
+import com.ptvgroup.developer.client.routeoptimization.model.CustomerLocationAttributes;
+import com.ptvgroup.developer.client.routeoptimization.model.DailyRestRule;
+import com.ptvgroup.developer.client.routeoptimization.model.DepotLocationAttributes;
+import com.ptvgroup.developer.client.routeoptimization.model.Driver;
+import com.ptvgroup.developer.client.routeoptimization.model.Event;
+import com.ptvgroup.developer.client.routeoptimization.model.Location;
+import com.ptvgroup.developer.client.routeoptimization.model.MixedLoadingProhibition;
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+import com.ptvgroup.developer.client.routeoptimization.model.PlanningRestrictions;
+import com.ptvgroup.developer.client.routeoptimization.model.RoadAccess;
+import com.ptvgroup.developer.client.routeoptimization.model.Route;
+import com.ptvgroup.developer.client.routeoptimization.model.RouteReport;
+import com.ptvgroup.developer.client.routeoptimization.model.Stop;
+import com.ptvgroup.developer.client.routeoptimization.model.StopReport;
+import com.ptvgroup.developer.client.routeoptimization.model.TimeInterval;
+import com.ptvgroup.developer.client.routeoptimization.model.Transport;
+import com.ptvgroup.developer.client.routeoptimization.model.Vehicle;
+import com.ptvgroup.developer.client.routeoptimization.model.Violation;
+import com.ptvgroup.developer.client.routeoptimization.model.Warning;
+import com.ptvgroup.developer.client.routeoptimization.model.WayReport;
+import com.ptvgroup.developer.client.routeoptimization.model.WorkLogbook;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * The serializers of {@link StreamingModelModule}. Each writes the properties
+ * of its class in the order and with the inclusion rules of the annotations
+ * of the class, calling the getters directly instead of through reflection.
+ */
+final class ModelSerializers {
+  // the time zone of a mapper without an explicit one
+  private static final TimeZone DEFAULT_TIME_ZONE = new ObjectMapper().getSerializationConfig().getTimeZone();
+
+  private ModelSerializers() {
+  }
+
+  static void writeString(JsonGenerator gen, SerializableString name, String value, boolean always) throws IOException {
+    if (value != null) {
+      gen.writeFieldName(name);
+      gen.writeString(value);
+    } else if (always) {
+      gen.writeFieldName(name);
+      gen.writeNull();
+    }
+  }
+
+  static void writeInteger(JsonGenerator gen, SerializableString name, Integer value, boolean always) throws IOException {
+    if (value != null) {
+      gen.writeFieldName(name);
+      gen.writeNumber(value.intValue());
+    } else if (always) {
+      gen.writeFieldName(name);
+      gen.writeNull();
+    }
+  }
+
+  static void writeDouble(JsonGenerator gen, SerializableString name, Double value, boolean always) throws IOException {
+    if (value != null) {
+      gen.writeFieldName(name);
+      gen.writeNumber(value.doubleValue());
+    } else if (always) {
+      gen.writeFieldName(name);
+      gen.writeNull();
+    }
+  }
+
+  static void writeBoolean(JsonGenerator gen, SerializableString name, Boolean value, boolean always) throws IOException {
+    if (value != null) {
+      gen.writeFieldName(name);
+      gen.writeBoolean(value.booleanValue());
+    } else if (always) {
+      gen.writeFieldName(name);
+      gen.writeNull();
+    }
+  }
+
+  static void writeUuid(JsonGenerator gen, SerializableString name, UUID value, boolean always) throws IOException {
+    writeString(gen, name, value == null ? null : value.toString(), always);
+  }
+
+  static void writeEnum(JsonGenerator gen, SerializableString name, Enum<?> value, boolean always) throws IOException {
+    // the enums of the model write their value with toString()
+    writeString(gen, name, value == null ? null : value.toString(), always);
+  }
+
+  static void writeDateTime(JsonGenerator gen, SerializerProvider provider, SerializableString name, OffsetDateTime value,
+      boolean always) throws IOException {
+    if (value != null && (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        || provider.getConfig().getTimeZone() != DEFAULT_TIME_ZONE)) {
+      // formats other than the default one are left to the JavaTimeModule
+      gen.writeFieldName(name);
+      provider.defaultSerializeValue(value, gen);
+    } else {
+      writeString(gen, name, value == null ? null : DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value), always);
+    }
+  }
+
+  static <T> void writeObject(JsonGenerator gen, SerializerProvider provider, SerializableString name, T value,
+      boolean always, JsonSerializer<T> serializer) throws IOException {
+    if (value != null) {
+      gen.writeFieldName(name);
+      serializer.serialize(value, gen, provider);
+    } else if (always) {
+      gen.writeFieldName(name);
+      gen.writeNull();
+    }
+  }
+
+  static <T> void writeList(JsonGenerator gen, SerializerProvider provider, SerializableString name, List<T> value,
+      boolean always, JsonSerializer<T> serializer) throws IOException {
+    if (value == null) {
+      writeString(gen, name, null, always);
+      return;
+    }
+    gen.writeFieldName(name);
+    gen.writeStartArray();
+    gen.setCurrentValue(value);
+    for (T element : value) {
+      if (element == null) {
+        gen.writeNull();
+      } else {
+        serializer.serialize(element, gen, provider);
+      }
+    }
+    gen.writeEndArray();
+  }
+
+  static void writeStringList(JsonGenerator gen, SerializableString name, List<String> value, boolean always) throws IOException {
+    if (value == null) {
+      writeString(gen, name, null, always);
+      return;
+    }
+    gen.writeFieldName(name);
+    gen.writeStartArray();
+    gen.setCurrentValue(value);
+    for (String element : value) {
+      gen.writeString(element);
+    }
+    gen.writeEndArray();
+  }
+
+  static void writeIntegerList(JsonGenerator gen, SerializableString name, List<Integer> value, boolean always) throws IOException {
+    if (value == null) {
+      writeString(gen, name, null, always);
+      return;
+    }
+    gen.writeFieldName(name);
+    writeIntegers(gen, value);
+  }
+
+  static void writeIntegerLists(JsonGenerator gen, SerializableString name, List<List<Integer>> value, boolean always) throws IOException {
+    if (value == null) {
+      writeString(gen, name, null, always);
+      return;
+    }
+    gen.writeFieldName(name);
+    gen.writeStartArray();
+    gen.setCurrentValue(value);
+    for (List<Integer> element : value) {
+      if (element == null) {
+        gen.writeNull();
+      } else {
+        writeIntegers(gen, element);
+      }
+    }
+    gen.writeEndArray();
+  }
+
+  private static void writeIntegers(JsonGenerator gen, List<Integer> value) throws IOException {
+    gen.writeStartArray();
+    gen.setCurrentValue(value);
+    for (Integer element : value) {
+      if (element == null) {
+        gen.writeNull();
+      } else {
+        gen.writeNumber(element.intValue());
+      }
+    }
+    gen.writeEndArray();
+  }
+
+  static void writeMap(JsonGenerator gen, SerializerProvider provider, SerializableString name, Map<String, Object> value,
+      boolean always) throws IOException {
+    if (value == null) {
+      writeString(gen, name, null, always);
+      return;
+    }
+    gen.writeFieldName(name);
+    writeAny(gen, provider, value);
+  }
+
+  /**
+   * Write a value of a map of the model. The entries of maps are written even
+   * if their value is null, also in nested maps, as the annotations of the
+   * maps of the model demand.
+   */
+  private static void writeAny(JsonGenerator gen, SerializerProvider provider, Object value) throws IOException {
+    if (value instanceof Map) {
+      gen.writeStartObject(value);
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        gen.writeFieldName(String.valueOf(entry.getKey()));
+        writeAny(gen, provider, entry.getValue());
+      }
+      gen.writeEndObject();
+    } else if (value instanceof Collection) {
+      gen.writeStartArray();
+      gen.setCurrentValue(value);
+      for (Object element : (Collection<?>) value) {
+        writeAny(gen, provider, element);
+      }
+      gen.writeEndArray();
+    } else {
+      provider.defaultSerializeValue(value, gen);
+    }
+  }
+
+  static void writeNullableInteger(JsonGenerator gen, SerializableString name, JsonNullable<Integer> value) throws IOException {
+    // an undefined value is left out, a null value is written
+    if (value != null && value.isPresent()) {
+      writeInteger(gen, name, value.get(), true);
+    }
+  }
+
+  static void writeNullableEnum(JsonGenerator gen, SerializableString name, JsonNullable<? extends Enum<?>> value) throws IOException {
+    if (value != null && value.isPresent()) {
+      writeEnum(gen, name, value.get(), true);
+    }
+  }
+
+  static final class PlanSerializer extends StdSerializer<Plan> {
+    private static final long serialVersionUID = 1L;
+
+    static final PlanSerializer INSTANCE = new PlanSerializer();
+
+    private static final SerializedString ID = new SerializedString(Plan.JSON_PROPERTY_ID);
+    private static final SerializedString DESCRIPTION = new SerializedString(Plan.JSON_PROPERTY_DESCRIPTION);
+    private static final SerializedString LOCATIONS = new SerializedString(Plan.JSON_PROPERTY_LOCATIONS);
+    private static final SerializedString VEHICLES = new SerializedString(Plan.JSON_PROPERTY_VEHICLES);
+    private static final SerializedString DRIVERS = new SerializedString(Plan.JSON_PROPERTY_DRIVERS);
+    private static final SerializedString TRANSPORTS = new SerializedString(Plan.JSON_PROPERTY_TRANSPORTS);
+    private static final SerializedString PLANNING_HORIZON = new SerializedString(Plan.JSON_PROPERTY_PLANNING_HORIZON);
+    private static final SerializedString RESTRICTIONS = new SerializedString(Plan.JSON_PROPERTY_RESTRICTIONS);
+    private static final SerializedString ROUTES = new SerializedString(Plan.JSON_PROPERTY_ROUTES);
+    private static final SerializedString UNPLANNED_VEHICLE_IDS = new SerializedString(Plan.JSON_PROPERTY_UNPLANNED_VEHICLE_IDS);
+    private static final SerializedString UNPLANNED_TRANSPORT_IDS = new SerializedString(Plan.JSON_PROPERTY_UNPLANNED_TRANSPORT_IDS);
+    private static final SerializedString WARNINGS = new SerializedString(Plan.JSON_PROPERTY_WARNINGS);
+
+    private PlanSerializer() {
+      super(Plan.class);
+    }
+
+    @Override
+    public void serialize(Plan value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeUuid(gen, ID, value.getId(), true);
+      writeString(gen, DESCRIPTION, value.getDescription(), false);
+      writeList(gen, provider, LOCATIONS, value.getLocations(), true, LocationSerializer.INSTANCE);
+      writeList(gen, provider, VEHICLES, value.getVehicles(), true, VehicleSerializer.INSTANCE);
+      writeList(gen, provider, DRIVERS, value.getDrivers(), false, DriverSerializer.INSTANCE);
+      writeList(gen, provider, TRANSPORTS, value.getTransports(), true, TransportSerializer.INSTANCE);
+      writeObject(gen, provider, PLANNING_HORIZON, value.getPlanningHorizon(), false, TimeIntervalSerializer.INSTANCE);
+      writeObject(gen, provider, RESTRICTIONS, value.getRestrictions(), false, PlanningRestrictionsSerializer.INSTANCE);
+      writeList(gen, provider, ROUTES, value.getRoutes(), false, RouteSerializer.INSTANCE);
+      writeStringList(gen, UNPLANNED_VEHICLE_IDS, value.getUnplannedVehicleIds(), false);
+      writeStringList(gen, UNPLANNED_TRANSPORT_IDS, value.getUnplannedTransportIds(), false);
+      writeList(gen, provider, WARNINGS, value.getWarnings(), false, WarningSerializer.INSTANCE);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class LocationSerializer extends StdSerializer<Location> {
+    private static final long serialVersionUID = 1L;
+
+    static final LocationSerializer INSTANCE = new LocationSerializer();
+
+    private static final SerializedString ID = new SerializedString(Location.JSON_PROPERTY_ID);
+    private static final SerializedString TYPE = new SerializedString(Location.JSON_PROPERTY_TYPE);
+    private static final SerializedString LATITUDE = new SerializedString(Location.JSON_PROPERTY_LATITUDE);
+    private static final SerializedString LONGITUDE = new SerializedString(Location.JSON_PROPERTY_LONGITUDE);
+    private static final SerializedString ROAD_ACCESS = new SerializedString(Location.JSON_PROPERTY_ROAD_ACCESS);
+    private static final SerializedString INCLUDE_LAST_METERS = new SerializedString(Location.JSON_PROPERTY_INCLUDE_LAST_METERS);
+    private static final SerializedString MATCH_SIDE_OF_STREET = new SerializedString(Location.JSON_PROPERTY_MATCH_SIDE_OF_STREET);
+    private static final SerializedString APPLY_VEHICLE_DEPENDENT_SERVICE_TIME_FACTOR = new SerializedString(Location.JSON_PROPERTY_APPLY_VEHICLE_DEPENDENT_SERVICE_TIME_FACTOR);
+    private static final SerializedString OPENING_INTERVALS = new SerializedString(Location.JSON_PROPERTY_OPENING_INTERVALS);
+    private static final SerializedString DEPOT_LOCATION_ATTRIBUTES = new SerializedString(Location.JSON_PROPERTY_DEPOT_LOCATION_ATTRIBUTES);
+    private static final SerializedString CUSTOMER_LOCATION_ATTRIBUTES = new SerializedString(Location.JSON_PROPERTY_CUSTOMER_LOCATION_ATTRIBUTES);
+
+    private LocationSerializer() {
+      super(Location.class);
+    }
+
+    @Override
+    public void serialize(Location value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeString(gen, ID, value.getId(), true);
+      writeEnum(gen, TYPE, value.getType(), false);
+      writeDouble(gen, LATITUDE, value.getLatitude(), true);
+      writeDouble(gen, LONGITUDE, value.getLongitude(), true);
+      writeObject(gen, provider, ROAD_ACCESS, value.getRoadAccess(), false, RoadAccessSerializer.INSTANCE);
+      writeBoolean(gen, INCLUDE_LAST_METERS, value.getIncludeLastMeters(), false);
+      writeBoolean(gen, MATCH_SIDE_OF_STREET, value.getMatchSideOfStreet(), false);
+      writeBoolean(gen, APPLY_VEHICLE_DEPENDENT_SERVICE_TIME_FACTOR, value.getApplyVehicleDependentServiceTimeFactor(), false);
+      writeList(gen, provider, OPENING_INTERVALS, value.getOpeningIntervals(), false, TimeIntervalSerializer.INSTANCE);
+      writeObject(gen, provider, DEPOT_LOCATION_ATTRIBUTES, value.getDepotLocationAttributes(), false, DepotLocationAttributesSerializer.INSTANCE);
+      writeObject(gen, provider, CUSTOMER_LOCATION_ATTRIBUTES, value.getCustomerLocationAttributes(), false, CustomerLocationAttributesSerializer.INSTANCE);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class VehicleSerializer extends StdSerializer<Vehicle> {
+    private static final long serialVersionUID = 1L;
+
+    static final VehicleSerializer INSTANCE = new VehicleSerializer();
+
+    private static final SerializedString ID = new SerializedString(Vehicle.JSON_PROPERTY_ID);
+    private static final SerializedString CAPACITIES = new SerializedString(Vehicle.JSON_PROPERTY_CAPACITIES);
+    private static final SerializedString ALTERNATIVE_CAPACITIES = new SerializedString(Vehicle.JSON_PROPERTY_ALTERNATIVE_CAPACITIES);
+    private static final SerializedString CAPACITIES_CHANGE_POSITION = new SerializedString(Vehicle.JSON_PROPERTY_CAPACITIES_CHANGE_POSITION);
+    private static final SerializedString EQUIPMENT = new SerializedString(Vehicle.JSON_PROPERTY_EQUIPMENT);
+    private static final SerializedString PROFILE = new SerializedString(Vehicle.JSON_PROPERTY_PROFILE);
+    private static final SerializedString START_LOCATION_ID = new SerializedString(Vehicle.JSON_PROPERTY_START_LOCATION_ID);
+    private static final SerializedString END_LOCATION_ID = new SerializedString(Vehicle.JSON_PROPERTY_END_LOCATION_ID);
+    private static final SerializedString SERVICE_TIME_PER_TRANSPORT_STOP = new SerializedString(Vehicle.JSON_PROPERTY_SERVICE_TIME_PER_TRANSPORT_STOP);
+    private static final SerializedString SERVICE_TIME_FACTOR = new SerializedString(Vehicle.JSON_PROPERTY_SERVICE_TIME_FACTOR);
+    private static final SerializedString IGNORE_MIXED_LOADING_PROHIBITIONS = new SerializedString(Vehicle.JSON_PROPERTY_IGNORE_MIXED_LOADING_PROHIBITIONS);
+    private static final SerializedString ROUTE_START_INTERVAL = new SerializedString(Vehicle.JSON_PROPERTY_ROUTE_START_INTERVAL);
+    private static final SerializedString MAXIMUM_DISTANCE = new SerializedString(Vehicle.JSON_PROPERTY_MAXIMUM_DISTANCE);
+    private static final SerializedString MAXIMUM_NUMBER_OF_CUSTOMER_STOPS = new SerializedString(Vehicle.JSON_PROPERTY_MAXIMUM_NUMBER_OF_CUSTOMER_STOPS);
+
+    private VehicleSerializer() {
+      super(Vehicle.class);
+    }
+
+    @Override
+    public void serialize(Vehicle value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeString(gen, ID, value.getId(), true);
+      writeIntegerList(gen, CAPACITIES, value.getCapacities(), false);
+      writeIntegerLists(gen, ALTERNATIVE_CAPACITIES, value.getAlternativeCapacities(), false);
+      writeEnum(gen, CAPACITIES_CHANGE_POSITION, value.getCapacitiesChangePosition(), false);
+      writeStringList(gen, EQUIPMENT, value.getEquipment(), false);
+      writeString(gen, PROFILE, value.getProfile(), false);
+      writeString(gen, START_LOCATION_ID, value.getStartLocationId(), false);
+      writeString(gen, END_LOCATION_ID, value.getEndLocationId(), false);
+      writeInteger(gen, SERVICE_TIME_PER_TRANSPORT_STOP, value.getServiceTimePerTransportStop(), false);
+      writeDouble(gen, SERVICE_TIME_FACTOR, value.getServiceTimeFactor(), false);
+      writeBoolean(gen, IGNORE_MIXED_LOADING_PROHIBITIONS, value.getIgnoreMixedLoadingProhibitions(), false);
+      writeObject(gen, provider, ROUTE_START_INTERVAL, value.getRouteStartInterval(), false, TimeIntervalSerializer.INSTANCE);
+      writeNullableInteger(gen, MAXIMUM_DISTANCE, value.getMaximumDistance_JsonNullable());
+      writeNullableInteger(gen, MAXIMUM_NUMBER_OF_CUSTOMER_STOPS, value.getMaximumNumberOfCustomerStops_JsonNullable());
+      gen.writeEndObject();
+    }
+  }
+
+  static final class TransportSerializer extends StdSerializer<Transport> {
+    private static final long serialVersionUID = 1L;
+
+    static final TransportSerializer INSTANCE = new TransportSerializer();
+
+    private static final SerializedString ID = new SerializedString(Transport.JSON_PROPERTY_ID);
+    private static final SerializedString QUANTITIES = new SerializedString(Transport.JSON_PROPERTY_QUANTITIES);
+    private static final SerializedString PICKUP_LOCATION_ID = new SerializedString(Transport.JSON_PROPERTY_PICKUP_LOCATION_ID);
+    private static final SerializedString PICKUP_SERVICE_TIME = new SerializedString(Transport.JSON_PROPERTY_PICKUP_SERVICE_TIME);
+    private static final SerializedString DELIVERY_LOCATION_ID = new SerializedString(Transport.JSON_PROPERTY_DELIVERY_LOCATION_ID);
+    private static final SerializedString DELIVERY_SERVICE_TIME = new SerializedString(Transport.JSON_PROPERTY_DELIVERY_SERVICE_TIME);
+    private static final SerializedString REQUIRED_EQUIPMENT = new SerializedString(Transport.JSON_PROPERTY_REQUIRED_EQUIPMENT);
+    private static final SerializedString PRIORITY = new SerializedString(Transport.JSON_PROPERTY_PRIORITY);
+    private static final SerializedString LOAD_CATEGORY = new SerializedString(Transport.JSON_PROPERTY_LOAD_CATEGORY);
+
+    private TransportSerializer() {
+      super(Transport.class);
+    }
+
+    @Override
+    public void serialize(Transport value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeString(gen, ID, value.getId(), true);
+      writeIntegerList(gen, QUANTITIES, value.getQuantities(), false);
+      writeString(gen, PICKUP_LOCATION_ID, value.getPickupLocationId(), true);
+      writeInteger(gen, PICKUP_SERVICE_TIME, value.getPickupServiceTime(), false);
+      writeString(gen, DELIVERY_LOCATION_ID, value.getDeliveryLocationId(), true);
+      writeInteger(gen, DELIVERY_SERVICE_TIME, value.getDeliveryServiceTime(), false);
+      writeStringList(gen, REQUIRED_EQUIPMENT, value.getRequiredEquipment(), false);
+      writeNullableInteger(gen, PRIORITY, value.getPriority_JsonNullable());
+      writeString(gen, LOAD_CATEGORY, value.getLoadCategory(), false);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class DriverSerializer extends StdSerializer<Driver> {
+    private static final long serialVersionUID = 1L;
+
+    static final DriverSerializer INSTANCE = new DriverSerializer();
+
+    private static final SerializedString ID = new SerializedString(Driver.JSON_PROPERTY_ID);
+    private static final SerializedString VEHICLE_ID = new SerializedString(Driver.JSON_PROPERTY_VEHICLE_ID);
+    private static final SerializedString AVAILABILITIES = new SerializedString(Driver.JSON_PROPERTY_AVAILABILITIES);
+    private static final SerializedString WORKING_HOURS_PRESET = new SerializedString(Driver.JSON_PROPERTY_WORKING_HOURS_PRESET);
+    private static final SerializedString BREAK_RULE = new SerializedString(Driver.JSON_PROPERTY_BREAK_RULE);
+    private static final SerializedString DAILY_REST_RULE = new SerializedString(Driver.JSON_PROPERTY_DAILY_REST_RULE);
+    private static final SerializedString WORK_LOGBOOK = new SerializedString(Driver.JSON_PROPERTY_WORK_LOGBOOK);
+    private static final SerializedString MAXIMUM_DRIVING_TIME = new SerializedString(Driver.JSON_PROPERTY_MAXIMUM_DRIVING_TIME);
+    private static final SerializedString MAXIMUM_TRAVEL_TIME = new SerializedString(Driver.JSON_PROPERTY_MAXIMUM_TRAVEL_TIME);
+
+    private DriverSerializer() {
+      super(Driver.class);
+    }
+
+    @Override
+    public void serialize(Driver value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeString(gen, ID, value.getId(), true);
+      writeString(gen, VEHICLE_ID, value.getVehicleId(), true);
+      writeList(gen, provider, AVAILABILITIES, value.getAvailabilities(), false, TimeIntervalSerializer.INSTANCE);
+      writeNullableEnum(gen, WORKING_HOURS_PRESET, value.getWorkingHoursPreset_JsonNullable());
+      writeObject(gen, provider, BREAK_RULE, value.getBreakRule(), false, BreakRuleSerializer.INSTANCE);
+      writeObject(gen, provider, DAILY_REST_RULE, value.getDailyRestRule(), false, DailyRestRuleSerializer.INSTANCE);
+      writeObject(gen, provider, WORK_LOGBOOK, value.getWorkLogbook(), false, WorkLogbookSerializer.INSTANCE);
+      writeNullableInteger(gen, MAXIMUM_DRIVING_TIME, value.getMaximumDrivingTime_JsonNullable());
+      writeNullableInteger(gen, MAXIMUM_TRAVEL_TIME, value.getMaximumTravelTime_JsonNullable());
+      gen.writeEndObject();
+    }
+  }
+
+  static final class RouteSerializer extends StdSerializer<Route> {
+    private static final long serialVersionUID = 1L;
+
+    static final RouteSerializer INSTANCE = new RouteSerializer();
+
+    private static final SerializedString VEHICLE_ID = new SerializedString(Route.JSON_PROPERTY_VEHICLE_ID);
+    private static final SerializedString STOPS = new SerializedString(Route.JSON_PROPERTY_STOPS);
+    private static final SerializedString REPORT = new SerializedString(Route.JSON_PROPERTY_REPORT);
+
+    private RouteSerializer() {
+      super(Route.class);
+    }
+
+    @Override
+    public void serialize(Route value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeString(gen, VEHICLE_ID, value.getVehicleId(), true);
+      writeList(gen, provider, STOPS, value.getStops(), true, StopSerializer.INSTANCE);
+      writeObject(gen, provider, REPORT, value.getReport(), true, RouteReportSerializer.INSTANCE);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class StopSerializer extends StdSerializer<Stop> {
+    private static final long serialVersionUID = 1L;
+
+    static final StopSerializer INSTANCE = new StopSerializer();
+
+    private static final SerializedString LOCATION_ID = new SerializedString(Stop.JSON_PROPERTY_LOCATION_ID);
+    private static final SerializedString TRIP_ID = new SerializedString(Stop.JSON_PROPERTY_TRIP_ID);
+    private static final SerializedString DELIVERY_IDS = new SerializedString(Stop.JSON_PROPERTY_DELIVERY_IDS);
+    private static final SerializedString PICKUP_IDS = new SerializedString(Stop.JSON_PROPERTY_PICKUP_IDS);
+    private static final SerializedString REPORT_FOR_WAY_TO_STOP = new SerializedString(Stop.JSON_PROPERTY_REPORT_FOR_WAY_TO_STOP);
+    private static final SerializedString REPORT_FOR_STOP = new SerializedString(Stop.JSON_PROPERTY_REPORT_FOR_STOP);
+    private static final SerializedString EVENTS_ON_WAY_TO_STOP = new SerializedString(Stop.JSON_PROPERTY_EVENTS_ON_WAY_TO_STOP);
+    private static final SerializedString EVENTS_AT_STOP = new SerializedString(Stop.JSON_PROPERTY_EVENTS_AT_STOP);
+    private static final SerializedString VIOLATIONS_ON_WAY_TO_STOP = new SerializedString(Stop.JSON_PROPERTY_VIOLATIONS_ON_WAY_TO_STOP);
+    private static final SerializedString VIOLATIONS_AT_STOP = new SerializedString(Stop.JSON_PROPERTY_VIOLATIONS_AT_STOP);
+
+    private StopSerializer() {
+      super(Stop.class);
+    }
+
+    @Override
+    public void serialize(Stop value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeString(gen, LOCATION_ID, value.getLocationId(), true);
+      writeString(gen, TRIP_ID, value.getTripId(), false);
+      writeStringList(gen, DELIVERY_IDS, value.getDeliveryIds(), false);
+      writeStringList(gen, PICKUP_IDS, value.getPickupIds(), false);
+      writeObject(gen, provider, REPORT_FOR_WAY_TO_STOP, value.getReportForWayToStop(), true, WayReportSerializer.INSTANCE);
+      writeObject(gen, provider, REPORT_FOR_STOP, value.getReportForStop(), true, StopReportSerializer.INSTANCE);
+      writeList(gen, provider, EVENTS_ON_WAY_TO_STOP, value.getEventsOnWayToStop(), true, EventSerializer.INSTANCE);
+      writeList(gen, provider, EVENTS_AT_STOP, value.getEventsAtStop(), true, EventSerializer.INSTANCE);
+      writeList(gen, provider, VIOLATIONS_ON_WAY_TO_STOP, value.getViolationsOnWayToStop(), true, ViolationSerializer.INSTANCE);
+      writeList(gen, provider, VIOLATIONS_AT_STOP, value.getViolationsAtStop(), true, ViolationSerializer.INSTANCE);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class EventSerializer extends StdSerializer<Event> {
+    private static final long serialVersionUID = 1L;
+
+    static final EventSerializer INSTANCE = new EventSerializer();
+
+    private static final SerializedString TYPE = new SerializedString(Event.JSON_PROPERTY_TYPE);
+    private static final SerializedString START_TIME = new SerializedString(Event.JSON_PROPERTY_START_TIME);
+    private static final SerializedString DURATION = new SerializedString(Event.JSON_PROPERTY_DURATION);
+    private static final SerializedString TRANSPORT_ID = new SerializedString(Event.JSON_PROPERTY_TRANSPORT_ID);
+
+    private EventSerializer() {
+      super(Event.class);
+    }
+
+    @Override
+    public void serialize(Event value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeEnum(gen, TYPE, value.getType(), true);
+      writeDateTime(gen, provider, START_TIME, value.getStartTime(), true);
+      writeInteger(gen, DURATION, value.getDuration(), true);
+      writeString(gen, TRANSPORT_ID, value.getTransportId(), false);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class RouteReportSerializer extends StdSerializer<RouteReport> {
+    private static final long serialVersionUID = 1L;
+
+    static final RouteReportSerializer INSTANCE = new RouteReportSerializer();
+
+    private static final SerializedString START_TIME = new SerializedString(RouteReport.JSON_PROPERTY_START_TIME);
+    private static final SerializedString END_TIME = new SerializedString(RouteReport.JSON_PROPERTY_END_TIME);
+    private static final SerializedString TRAVEL_TIME = new SerializedString(RouteReport.JSON_PROPERTY_TRAVEL_TIME);
+    private static final SerializedString DISTANCE = new SerializedString(RouteReport.JSON_PROPERTY_DISTANCE);
+    private static final SerializedString DRIVING_TIME = new SerializedString(RouteReport.JSON_PROPERTY_DRIVING_TIME);
+    private static final SerializedString SERVICE_TIME = new SerializedString(RouteReport.JSON_PROPERTY_SERVICE_TIME);
+    private static final SerializedString WAITING_TIME = new SerializedString(RouteReport.JSON_PROPERTY_WAITING_TIME);
+    private static final SerializedString BREAK_TIME = new SerializedString(RouteReport.JSON_PROPERTY_BREAK_TIME);
+    private static final SerializedString REST_TIME = new SerializedString(RouteReport.JSON_PROPERTY_REST_TIME);
+
+    private RouteReportSerializer() {
+      super(RouteReport.class);
+    }
+
+    @Override
+    public void serialize(RouteReport value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeDateTime(gen, provider, START_TIME, value.getStartTime(), true);
+      writeDateTime(gen, provider, END_TIME, value.getEndTime(), true);
+      writeInteger(gen, TRAVEL_TIME, value.getTravelTime(), true);
+      writeInteger(gen, DISTANCE, value.getDistance(), true);
+      writeInteger(gen, DRIVING_TIME, value.getDrivingTime(), true);
+      writeInteger(gen, SERVICE_TIME, value.getServiceTime(), true);
+      writeInteger(gen, WAITING_TIME, value.getWaitingTime(), true);
+      writeInteger(gen, BREAK_TIME, value.getBreakTime(), true);
+      writeInteger(gen, REST_TIME, value.getRestTime(), true);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class StopReportSerializer extends StdSerializer<StopReport> {
+    private static final long serialVersionUID = 1L;
+
+    static final StopReportSerializer INSTANCE = new StopReportSerializer();
+
+    private static final SerializedString ARRIVAL_TIME = new SerializedString(StopReport.JSON_PROPERTY_ARRIVAL_TIME);
+    private static final SerializedString DEPARTURE_TIME = new SerializedString(StopReport.JSON_PROPERTY_DEPARTURE_TIME);
+    private static final SerializedString SERVICE_TIME = new SerializedString(StopReport.JSON_PROPERTY_SERVICE_TIME);
+    private static final SerializedString WAITING_TIME = new SerializedString(StopReport.JSON_PROPERTY_WAITING_TIME);
+    private static final SerializedString BREAK_TIME = new SerializedString(StopReport.JSON_PROPERTY_BREAK_TIME);
+    private static final SerializedString REST_TIME = new SerializedString(StopReport.JSON_PROPERTY_REST_TIME);
+    private static final SerializedString QUANTITIES = new SerializedString(StopReport.JSON_PROPERTY_QUANTITIES);
+    private static final SerializedString ALTERNATIVE_CAPACITIES_INDEX = new SerializedString(StopReport.JSON_PROPERTY_ALTERNATIVE_CAPACITIES_INDEX);
+
+    private StopReportSerializer() {
+      super(StopReport.class);
+    }
+
+    @Override
+    public void serialize(StopReport value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeDateTime(gen, provider, ARRIVAL_TIME, value.getArrivalTime(), true);
+      writeDateTime(gen, provider, DEPARTURE_TIME, value.getDepartureTime(), true);
+      writeInteger(gen, SERVICE_TIME, value.getServiceTime(), true);
+      writeInteger(gen, WAITING_TIME, value.getWaitingTime(), true);
+      writeInteger(gen, BREAK_TIME, value.getBreakTime(), true);
+      writeInteger(gen, REST_TIME, value.getRestTime(), true);
+      writeIntegerList(gen, QUANTITIES, value.getQuantities(), false);
+      writeNullableInteger(gen, ALTERNATIVE_CAPACITIES_INDEX, value.getAlternativeCapacitiesIndex_JsonNullable());
+      gen.writeEndObject();
+    }
+  }
+
+  static final class WayReportSerializer extends StdSerializer<WayReport> {
+    private static final long serialVersionUID = 1L;
+
+    static final WayReportSerializer INSTANCE = new WayReportSerializer();
+
+    private static final SerializedString DISTANCE = new SerializedString(WayReport.JSON_PROPERTY_DISTANCE);
+    private static final SerializedString DRIVING_TIME = new SerializedString(WayReport.JSON_PROPERTY_DRIVING_TIME);
+    private static final SerializedString WAITING_TIME = new SerializedString(WayReport.JSON_PROPERTY_WAITING_TIME);
+    private static final SerializedString BREAK_TIME = new SerializedString(WayReport.JSON_PROPERTY_BREAK_TIME);
+    private static final SerializedString REST_TIME = new SerializedString(WayReport.JSON_PROPERTY_REST_TIME);
+
+    private WayReportSerializer() {
+      super(WayReport.class);
+    }
+
+    @Override
+    public void serialize(WayReport value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeInteger(gen, DISTANCE, value.getDistance(), true);
+      writeInteger(gen, DRIVING_TIME, value.getDrivingTime(), true);
+      writeInteger(gen, WAITING_TIME, value.getWaitingTime(), true);
+      writeInteger(gen, BREAK_TIME, value.getBreakTime(), true);
+      writeInteger(gen, REST_TIME, value.getRestTime(), true);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class ViolationSerializer extends StdSerializer<Violation> {
+    private static final long serialVersionUID = 1L;
+
+    static final ViolationSerializer INSTANCE = new ViolationSerializer();
+
+    private static final SerializedString TYPE = new SerializedString(Violation.JSON_PROPERTY_TYPE);
+    private static final SerializedString TIME_EXCEEDANCE = new SerializedString(Violation.JSON_PROPERTY_TIME_EXCEEDANCE);
+    private static final SerializedString DISTANCE_EXCEEDANCE = new SerializedString(Violation.JSON_PROPERTY_DISTANCE_EXCEEDANCE);
+    private static final SerializedString NUMBER_OF_STOPS_EXCEEDANCE = new SerializedString(Violation.JSON_PROPERTY_NUMBER_OF_STOPS_EXCEEDANCE);
+    private static final SerializedString CAPACITY_EXCEEDANCE = new SerializedString(Violation.JSON_PROPERTY_CAPACITY_EXCEEDANCE);
+    private static final SerializedString MISSING_EQUIPMENT = new SerializedString(Violation.JSON_PROPERTY_MISSING_EQUIPMENT);
+    private static final SerializedString MIXED_LOADING_PROHIBITIONS = new SerializedString(Violation.JSON_PROPERTY_MIXED_LOADING_PROHIBITIONS);
+
+    private ViolationSerializer() {
+      super(Violation.class);
+    }
+
+    @Override
+    public void serialize(Violation value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeEnum(gen, TYPE, value.getType(), true);
+      writeInteger(gen, TIME_EXCEEDANCE, value.getTimeExceedance(), false);
+      writeInteger(gen, DISTANCE_EXCEEDANCE, value.getDistanceExceedance(), false);
+      writeInteger(gen, NUMBER_OF_STOPS_EXCEEDANCE, value.getNumberOfStopsExceedance(), false);
+      writeIntegerList(gen, CAPACITY_EXCEEDANCE, value.getCapacityExceedance(), false);
+      writeStringList(gen, MISSING_EQUIPMENT, value.getMissingEquipment(), false);
+      writeList(gen, provider, MIXED_LOADING_PROHIBITIONS, value.getMixedLoadingProhibitions(), false, MixedLoadingProhibitionSerializer.INSTANCE);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class WarningSerializer extends StdSerializer<Warning> {
+    private static final long serialVersionUID = 1L;
+
+    static final WarningSerializer INSTANCE = new WarningSerializer();
+
+    private static final SerializedString DESCRIPTION = new SerializedString(Warning.JSON_PROPERTY_DESCRIPTION);
+    private static final SerializedString WARNING_CODE = new SerializedString(Warning.JSON_PROPERTY_WARNING_CODE);
+    private static final SerializedString DETAILS = new SerializedString(Warning.JSON_PROPERTY_DETAILS);
+
+    private WarningSerializer() {
+      super(Warning.class);
+    }
+
+    @Override
+    public void serialize(Warning value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeString(gen, DESCRIPTION, value.getDescription(), true);
+      writeString(gen, WARNING_CODE, value.getWarningCode(), true);
+      writeMap(gen, provider, DETAILS, value.getDetails(), false);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class WorkLogbookSerializer extends StdSerializer<WorkLogbook> {
+    private static final long serialVersionUID = 1L;
+
+    static final WorkLogbookSerializer INSTANCE = new WorkLogbookSerializer();
+
+    private static final SerializedString LAST_TIME_THE_DRIVER_WORKED = new SerializedString(WorkLogbook.JSON_PROPERTY_LAST_TIME_THE_DRIVER_WORKED);
+    private static final SerializedString ACCUMULATED_DRIVING_TIME_SINCE_LAST_BREAK = new SerializedString(WorkLogbook.JSON_PROPERTY_ACCUMULATED_DRIVING_TIME_SINCE_LAST_BREAK);
+    private static final SerializedString ACCUMULATED_WORKING_TIME_SINCE_LAST_BREAK = new SerializedString(WorkLogbook.JSON_PROPERTY_ACCUMULATED_WORKING_TIME_SINCE_LAST_BREAK);
+    private static final SerializedString ACCUMULATED_DRIVING_TIME_SINCE_LAST_DAILY_REST = new SerializedString(WorkLogbook.JSON_PROPERTY_ACCUMULATED_DRIVING_TIME_SINCE_LAST_DAILY_REST);
+    private static final SerializedString ACCUMULATED_TRAVEL_TIME_SINCE_LAST_DAILY_REST = new SerializedString(WorkLogbook.JSON_PROPERTY_ACCUMULATED_TRAVEL_TIME_SINCE_LAST_DAILY_REST);
+
+    private WorkLogbookSerializer() {
+      super(WorkLogbook.class);
+    }
+
+    @Override
+    public void serialize(WorkLogbook value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeDateTime(gen, provider, LAST_TIME_THE_DRIVER_WORKED, value.getLastTimeTheDriverWorked(), true);
+      writeInteger(gen, ACCUMULATED_DRIVING_TIME_SINCE_LAST_BREAK, value.getAccumulatedDrivingTimeSinceLastBreak(), false);
+      writeNullableInteger(gen, ACCUMULATED_WORKING_TIME_SINCE_LAST_BREAK, value.getAccumulatedWorkingTimeSinceLastBreak_JsonNullable());
+      writeNullableInteger(gen, ACCUMULATED_DRIVING_TIME_SINCE_LAST_DAILY_REST, value.getAccumulatedDrivingTimeSinceLastDailyRest_JsonNullable());
+      writeNullableInteger(gen, ACCUMULATED_TRAVEL_TIME_SINCE_LAST_DAILY_REST, value.getAccumulatedTravelTimeSinceLastDailyRest_JsonNullable());
+      gen.writeEndObject();
+    }
+  }
+
+  static final class BreakRuleSerializer extends StdSerializer<BreakRule> {
+    private static final long serialVersionUID = 1L;
+
+    static final BreakRuleSerializer INSTANCE = new BreakRuleSerializer();
+
+    private static final SerializedString BREAK_TIME = new SerializedString(BreakRule.JSON_PROPERTY_BREAK_TIME);
+    private static final SerializedString MAXIMUM_DRIVING_TIME_BETWEEN_BREAKS = new SerializedString(BreakRule.JSON_PROPERTY_MAXIMUM_DRIVING_TIME_BETWEEN_BREAKS);
+    private static final SerializedString MAXIMUM_WORKING_TIME_BETWEEN_BREAKS = new SerializedString(BreakRule.JSON_PROPERTY_MAXIMUM_WORKING_TIME_BETWEEN_BREAKS);
+    private static final SerializedString WORKING_TIME_THRESHOLD = new SerializedString(BreakRule.JSON_PROPERTY_WORKING_TIME_THRESHOLD);
+
+    private BreakRuleSerializer() {
+      super(BreakRule.class);
+    }
+
+    @Override
+    public void serialize(BreakRule value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeInteger(gen, BREAK_TIME, value.getBreakTime(), true);
+      writeNullableInteger(gen, MAXIMUM_DRIVING_TIME_BETWEEN_BREAKS, value.getMaximumDrivingTimeBetweenBreaks_JsonNullable());
+      writeNullableInteger(gen, MAXIMUM_WORKING_TIME_BETWEEN_BREAKS, value.getMaximumWorkingTimeBetweenBreaks_JsonNullable());
+      writeInteger(gen, WORKING_TIME_THRESHOLD, value.getWorkingTimeThreshold(), false);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class DailyRestRuleSerializer extends StdSerializer<DailyRestRule> {
+    private static final long serialVersionUID = 1L;
+
+    static final DailyRestRuleSerializer INSTANCE = new DailyRestRuleSerializer();
+
+    private static final SerializedString DAILY_REST_TIME = new SerializedString(DailyRestRule.JSON_PROPERTY_DAILY_REST_TIME);
+    private static final SerializedString MAXIMUM_DRIVING_TIME_BETWEEN_DAILY_RESTS = new SerializedString(DailyRestRule.JSON_PROPERTY_MAXIMUM_DRIVING_TIME_BETWEEN_DAILY_RESTS);
+    private static final SerializedString MAXIMUM_TRAVEL_TIME_BETWEEN_DAILY_RESTS = new SerializedString(DailyRestRule.JSON_PROPERTY_MAXIMUM_TRAVEL_TIME_BETWEEN_DAILY_RESTS);
+    private static final SerializedString DAILY_REST_POSITION = new SerializedString(DailyRestRule.JSON_PROPERTY_DAILY_REST_POSITION);
+
+    private DailyRestRuleSerializer() {
+      super(DailyRestRule.class);
+    }
+
+    @Override
+    public void serialize(DailyRestRule value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeInteger(gen, DAILY_REST_TIME, value.getDailyRestTime(), true);
+      writeNullableInteger(gen, MAXIMUM_DRIVING_TIME_BETWEEN_DAILY_RESTS, value.getMaximumDrivingTimeBetweenDailyRests_JsonNullable());
+      writeNullableInteger(gen, MAXIMUM_TRAVEL_TIME_BETWEEN_DAILY_RESTS, value.getMaximumTravelTimeBetweenDailyRests_JsonNullable());
+      writeEnum(gen, DAILY_REST_POSITION, value.getDailyRestPosition(), false);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class PlanningRestrictionsSerializer extends StdSerializer<PlanningRestrictions> {
+    private static final long serialVersionUID = 1L;
+
+    static final PlanningRestrictionsSerializer INSTANCE = new PlanningRestrictionsSerializer();
+
+    private static final SerializedString SINGLE_TRIP_PER_ROUTE = new SerializedString(PlanningRestrictions.JSON_PROPERTY_SINGLE_TRIP_PER_ROUTE);
+    private static final SerializedString SINGLE_DEPOT_PER_ROUTE = new SerializedString(PlanningRestrictions.JSON_PROPERTY_SINGLE_DEPOT_PER_ROUTE);
+    private static final SerializedString MIXED_LOADING_PROHIBITIONS = new SerializedString(PlanningRestrictions.JSON_PROPERTY_MIXED_LOADING_PROHIBITIONS);
+
+    private PlanningRestrictionsSerializer() {
+      super(PlanningRestrictions.class);
+    }
+
+    @Override
+    public void serialize(PlanningRestrictions value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeBoolean(gen, SINGLE_TRIP_PER_ROUTE, value.getSingleTripPerRoute(), false);
+      writeBoolean(gen, SINGLE_DEPOT_PER_ROUTE, value.getSingleDepotPerRoute(), false);
+      writeList(gen, provider, MIXED_LOADING_PROHIBITIONS, value.getMixedLoadingProhibitions(), false, MixedLoadingProhibitionSerializer.INSTANCE);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class MixedLoadingProhibitionSerializer extends StdSerializer<MixedLoadingProhibition> {
+    private static final long serialVersionUID = 1L;
+
+    static final MixedLoadingProhibitionSerializer INSTANCE = new MixedLoadingProhibitionSerializer();
+
+    private static final SerializedString CONFLICTING_LOAD_CATEGORY1 = new SerializedString(MixedLoadingProhibition.JSON_PROPERTY_CONFLICTING_LOAD_CATEGORY1);
+    private static final SerializedString CONFLICTING_LOAD_CATEGORY2 = new SerializedString(MixedLoadingProhibition.JSON_PROPERTY_CONFLICTING_LOAD_CATEGORY2);
+
+    private MixedLoadingProhibitionSerializer() {
+      super(MixedLoadingProhibition.class);
+    }
+
+    @Override
+    public void serialize(MixedLoadingProhibition value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeString(gen, CONFLICTING_LOAD_CATEGORY1, value.getConflictingLoadCategory1(), true);
+      writeString(gen, CONFLICTING_LOAD_CATEGORY2, value.getConflictingLoadCategory2(), true);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class TimeIntervalSerializer extends StdSerializer<TimeInterval> {
+    private static final long serialVersionUID = 1L;
+
+    static final TimeIntervalSerializer INSTANCE = new TimeIntervalSerializer();
+
+    private static final SerializedString START = new SerializedString(TimeInterval.JSON_PROPERTY_START);
+    private static final SerializedString END = new SerializedString(TimeInterval.JSON_PROPERTY_END);
+
+    private TimeIntervalSerializer() {
+      super(TimeInterval.class);
+    }
+
+    @Override
+    public void serialize(TimeInterval value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeDateTime(gen, provider, START, value.getStart(), true);
+      writeDateTime(gen, provider, END, value.getEnd(), true);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class RoadAccessSerializer extends StdSerializer<RoadAccess> {
+    private static final long serialVersionUID = 1L;
+
+    static final RoadAccessSerializer INSTANCE = new RoadAccessSerializer();
+
+    private static final SerializedString LATITUDE = new SerializedString(RoadAccess.JSON_PROPERTY_LATITUDE);
+    private static final SerializedString LONGITUDE = new SerializedString(RoadAccess.JSON_PROPERTY_LONGITUDE);
+
+    private RoadAccessSerializer() {
+      super(RoadAccess.class);
+    }
+
+    @Override
+    public void serialize(RoadAccess value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeDouble(gen, LATITUDE, value.getLatitude(), true);
+      writeDouble(gen, LONGITUDE, value.getLongitude(), true);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class DepotLocationAttributesSerializer extends StdSerializer<DepotLocationAttributes> {
+    private static final long serialVersionUID = 1L;
+
+    static final DepotLocationAttributesSerializer INSTANCE = new DepotLocationAttributesSerializer();
+
+    private static final SerializedString SERVICE_TIME_PER_PICKUP_STOP = new SerializedString(DepotLocationAttributes.JSON_PROPERTY_SERVICE_TIME_PER_PICKUP_STOP);
+    private static final SerializedString SERVICE_TIME_PER_DELIVERY_STOP = new SerializedString(DepotLocationAttributes.JSON_PROPERTY_SERVICE_TIME_PER_DELIVERY_STOP);
+
+    private DepotLocationAttributesSerializer() {
+      super(DepotLocationAttributes.class);
+    }
+
+    @Override
+    public void serialize(DepotLocationAttributes value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeInteger(gen, SERVICE_TIME_PER_PICKUP_STOP, value.getServiceTimePerPickupStop(), false);
+      writeInteger(gen, SERVICE_TIME_PER_DELIVERY_STOP, value.getServiceTimePerDeliveryStop(), false);
+      gen.writeEndObject();
+    }
+  }
+
+  static final class CustomerLocationAttributesSerializer extends StdSerializer<CustomerLocationAttributes> {
+    private static final long serialVersionUID = 1L;
+
+    static final CustomerLocationAttributesSerializer INSTANCE = new CustomerLocationAttributesSerializer();
+
+    private static final SerializedString SERVICE_TIME_PER_TRANSPORT_STOP = new SerializedString(CustomerLocationAttributes.JSON_PROPERTY_SERVICE_TIME_PER_TRANSPORT_STOP);
+    private static final SerializedString CUSTOMER_ID = new SerializedString(CustomerLocationAttributes.JSON_PROPERTY_CUSTOMER_ID);
+    private static final SerializedString POSITION_IN_TRIP = new SerializedString(CustomerLocationAttributes.JSON_PROPERTY_POSITION_IN_TRIP);
+    private static final SerializedString TRIP_SECTION_NUMBER = new SerializedString(CustomerLocationAttributes.JSON_PROPERTY_TRIP_SECTION_NUMBER);
+
+    private CustomerLocationAttributesSerializer() {
+      super(CustomerLocationAttributes.class);
+    }
+
+    @Override
+    public void serialize(CustomerLocationAttributes value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeStartObject(value);
+      writeInteger(gen, SERVICE_TIME_PER_TRANSPORT_STOP, value.getServiceTimePerTransportStop(), false);
+      writeString(gen, CUSTOMER_ID, value.getCustomerId(), false);
+      writeNullableEnum(gen, POSITION_IN_TRIP, value.getPositionInTrip_JsonNullable());
+      writeNullableInteger(gen, TRIP_SECTION_NUMBER, value.getTripSectionNumber_JsonNullable());
+      gen.writeEndObject();
+    }
+  }
+}
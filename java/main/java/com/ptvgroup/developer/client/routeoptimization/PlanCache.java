@@ -0,0 +1,699 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+import com.ptvgroup.developer.client.routeoptimization.model.PlanSummaries;
+import com.ptvgroup.developer.client.routeoptimization.model.PlanSummary;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of the plans retrieved with {@code PlansApi.getPlan}, revalidated with
+ * the service on every call.
+ *
+ * <p>If the service answers with an {@code ETag} or {@code Last-Modified}
+ * header, the next call of the plan is a conditional request, which the
+ * service answers with 304 Not Modified and no body if the plan is unchanged.
+ * Otherwise the cached plan is revalidated with the update time of its
+ * {@link PlanSummary}: one call of {@code getPlanSummaries} replaces the
+ * download of an unchanged plan, and its result is used for all plans
+ * revalidated within the summary window (see
+ * {@link #setSummaryWindow(long, TimeUnit)}). Without validators and without
+ * summary revalidation a plan is not cached. A cached plan is only returned
+ * after it has been revalidated, so it is at most the summary window older
+ * than the call. If the summaries cannot be retrieved, the plan is requested
+ * from the service instead.</p>
+ *
+ * <p>A plan returned from the cache is answered with status 200 and the
+ * headers of the response it was downloaded with.</p>
+ *
+ * <p>The service lists only the 1000 least recently updated plans in the
+ * summaries. A plan that is not listed cannot be revalidated with them; it is
+ * removed from the cache and bypasses it for a while, so that it is not
+ * charged with the summaries on top of its download.</p>
+ *
+ * <p>The cache is bounded by the estimated heap the cached plans retain, not
+ * by their number, since one plan may take a hundred kilobytes and another a
+ * few hundred megabytes. The retained heap is estimated from the size of the
+ * JSON a plan was read from (see {@link #setWeigher(Weigher)}). Eviction
+ * follows a segmented LRU policy: a new plan enters a probation segment and
+ * moves to a protected segment when it is read again, so plans read once
+ * are evicted before plans read repeatedly. The entries are spread over
+ * independently locked stripes; the least recently used entry of all
+ * stripes is evicted first.</p>
+ *
+ * <p>A plan is removed from the cache when it is deleted or an optimization,
+ * evaluation or cancellation is started for it through the API classes.</p>
+ *
+ * <p>By default the API classes cache a copy of a downloaded plan and return
+ * a copy of a cached plan, so that callers may modify the plans they get (see
+ * {@link #setCopyOnRead(boolean)}).</p>
+ *
+ * <p>The cache is shared by the API classes of an {@link ApiClient}. It is
+ * thread-safe.</p>
+ */
+public class PlanCache {
+  private static final int STRIPES = 16;
+  private static final double PROTECTED_RATIO = 0.8;
+  private static final int MAX_BYPASSED = 4096;
+  private static final long BYPASS_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+  private final Stripe[] stripes = new Stripe[STRIPES];
+  private final AtomicLong weight = new AtomicLong();
+  private final AtomicLong clock = new AtomicLong();
+  private volatile long maxWeight = 256L * 1024 * 1024;
+  private volatile Weigher weigher = (plan, jsonSize) -> 3 * jsonSize;
+  private volatile boolean summaryRevalidation = true;
+  private volatile long summaryWindowNanos = TimeUnit.SECONDS.toNanos(1);
+  private volatile boolean copyOnRead = true;
+  private volatile RecentSummaries recentSummaries;
+  private final LinkedHashMap<UUID, Long> bypassed = new LinkedHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder bytesSaved = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder rejections = new LongAdder();
+  private final LongAdder bypasses = new LongAdder();
+
+  /**
+   * Estimates the heap retained by a cached plan.
+   */
+  @FunctionalInterface
+  public interface Weigher {
+    /**
+     * Estimate the heap retained by a plan.
+     *
+     * @param plan The plan.
+     * @param jsonSize The size of the JSON the plan was read from in bytes.
+     * @return The estimated retained heap in bytes.
+     */
+    long weigh(Plan plan, long jsonSize);
+  }
+
+  public PlanCache() {
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new Stripe();
+    }
+  }
+
+  /**
+   * Set the maximum estimated heap retained by the cached plans. A plan
+   * heavier than the maximum is not cached.
+   *
+   * @param maxWeight The maximum weight in bytes (default 256 MB).
+   * @return This object.
+   */
+  public PlanCache setMaxWeight(long maxWeight) {
+    this.maxWeight = maxWeight;
+    evict();
+    return this;
+  }
+
+  /**
+   * Set how the heap retained by a plan is estimated. The default estimate is
+   * three times the size of its JSON, which allows for object headers,
+   * references and boxed numbers of the deserialized model.
+   *
+   * @param weigher The weigher.
+   * @return This object.
+   */
+  public PlanCache setWeigher(Weigher weigher) {
+    this.weigher = weigher;
+    return this;
+  }
+
+  /**
+   * Set whether plans are revalidated with the update time of their summary
+   * when the service sends no validators for them. Without summary
+   * revalidation such plans are not cached and downloaded on every call.
+   *
+   * @param summaryRevalidation True to revalidate with the summaries (default).
+   * @return This object.
+   */
+  public PlanCache setSummaryRevalidation(boolean summaryRevalidation) {
+    this.summaryRevalidation = summaryRevalidation;
+    return this;
+  }
+
+  /**
+   * Set how long the result of one call of {@code getPlanSummaries} is used
+   * to revalidate plans. Within the window, a plan may be returned from the
+   * cache although it was changed after the summaries were retrieved.
+   *
+   * @param window The summary window (default 1 second), 0 to retrieve the
+   *               summaries for every revalidation.
+   * @param unit The unit of the window.
+   * @return This object.
+   */
+  public PlanCache setSummaryWindow(long window, TimeUnit unit) {
+    this.summaryWindowNanos = unit.toNanos(window);
+    return this;
+  }
+
+  /**
+   * Set whether the API classes copy the plans they cache and return from the
+   * cache. Without copies, all callers of a plan get the same instance, which
+   * must then not be modified; this saves the time and heap of one copy per
+   * call.
+   *
+   * @param copyOnRead True to copy the plans (default).
+   * @return This object.
+   */
+  public PlanCache setCopyOnRead(boolean copyOnRead) {
+    this.copyOnRead = copyOnRead;
+    return this;
+  }
+
+  /**
+   * Get whether the API classes copy the plans they cache and return from the
+   * cache.
+   *
+   * @return True if the plans are copied.
+   */
+  public boolean isCopyOnRead() {
+    return copyOnRead;
+  }
+
+  /**
+   * Get the plan summaries retrieved within the summary window.
+   *
+   * @return The summaries, or null if they must be retrieved.
+   */
+  public PlanSummaries getRecentSummaries() {
+    RecentSummaries recent = recentSummaries;
+    if (recent == null || System.nanoTime() - recent.retrieved > summaryWindowNanos) {
+      return null;
+    }
+    return recent.summaries;
+  }
+
+  /**
+   * Keep retrieved plan summaries for the revalidations within the summary
+   * window.
+   *
+   * @param summaries The plan summaries.
+   */
+  public void putSummaries(PlanSummaries summaries) {
+    recentSummaries = new RecentSummaries(summaries, System.nanoTime());
+  }
+
+  /**
+   * Remove a plan that is not listed in the summaries from the cache, and do
+   * not cache it again for a while unless the service sends validators for
+   * it.
+   *
+   * @param id The plan ID.
+   */
+  public void bypass(UUID id) {
+    invalidate(id);
+    bypasses.increment();
+    synchronized (bypassed) {
+      bypassed.remove(id);
+      bypassed.put(id, System.nanoTime());
+      if (bypassed.size() > MAX_BYPASSED) {
+        Iterator<UUID> eldest = bypassed.keySet().iterator();
+        eldest.next();
+        eldest.remove();
+      }
+    }
+  }
+
+  private boolean isBypassed(UUID id) {
+    synchronized (bypassed) {
+      Long since = bypassed.get(id);
+      if (since == null) {
+        return false;
+      }
+      if (System.nanoTime() - since > BYPASS_NANOS) {
+        bypassed.remove(id);
+        return false;
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Get the cache entry of a plan.
+   *
+   * @param id The plan ID.
+   * @return The entry, which must be revalidated before its plan is used, or
+   * null if the plan is not cached.
+   */
+  public Entry get(UUID id) {
+    return stripe(id).get(id);
+  }
+
+  /**
+   * Check whether a cache entry is revalidated with the plan summaries rather
+   * than with a conditional request.
+   *
+   * @param entry The cache entry.
+   * @return True if the summaries must be retrieved to revalidate the entry.
+   */
+  public boolean isSummaryRevalidated(Entry entry) {
+    return summaryRevalidation && entry.eTag == null && entry.lastModified == null;
+  }
+
+  /**
+   * Cache a downloaded plan. This counts as a miss.
+   *
+   * @param id The plan ID.
+   * @param plan The plan.
+   * @param headers The headers of the response the plan was read from.
+   * @param size The size of the response body in bytes.
+   * @param updateTime The update time from the plan summary, retrieved before
+   *                   the plan was requested, or null if not known.
+   */
+  public void put(UUID id, Plan plan, HttpHeaders headers, long size, OffsetDateTime updateTime) {
+    misses.increment();
+    // a plan without validators can only be revalidated with the summaries
+    if (headers.firstValue("ETag").isEmpty() && headers.firstValue("Last-Modified").isEmpty()
+        && (!summaryRevalidation || isBypassed(id))) {
+      invalidate(id);
+      return;
+    }
+    long entryWeight = plan == null ? 0 : Math.max(1, weigher.weigh(plan, size));
+    if (plan == null || entryWeight > maxWeight) {
+      if (plan != null) {
+        rejections.increment();
+      }
+      invalidate(id);
+      return;
+    }
+    Entry entry = new Entry(id, plan, headers, size, updateTime, entryWeight);
+    entry.lastAccess = clock.incrementAndGet();
+    Entry previous = stripe(id).put(entry);
+    weight.addAndGet(entryWeight - (previous == null ? 0 : previous.weight));
+    evict();
+  }
+
+  /**
+   * Remove a plan from the cache.
+   *
+   * @param id The plan ID.
+   */
+  public void invalidate(UUID id) {
+    Entry removed = stripe(id).remove(id);
+    if (removed != null) {
+      weight.addAndGet(-removed.weight);
+    }
+  }
+
+  /**
+   * Remove all plans from the cache.
+   */
+  public void invalidateAll() {
+    for (Stripe stripe : stripes) {
+      weight.addAndGet(-stripe.clear());
+    }
+  }
+
+  private Stripe stripe(UUID id) {
+    int hash = id.hashCode();
+    return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+  }
+
+  /**
+   * Evict the least recently used entries until the weight is within bounds,
+   * preferring entries on probation. The eldest entries of the stripes are
+   * compared without holding more than one lock at a time.
+   */
+  private void evict() {
+    while (weight.get() > maxWeight) {
+      Stripe victim = eldestStripe(true);
+      if (victim == null) {
+        victim = eldestStripe(false);
+      }
+      if (victim == null) {
+        return;
+      }
+      Entry evicted = victim.evictEldest();
+      if (evicted != null) {
+        weight.addAndGet(-evicted.weight);
+        evictions.increment();
+      }
+    }
+  }
+
+  private Stripe eldestStripe(boolean probation) {
+    Stripe victim = null;
+    long oldest = Long.MAX_VALUE;
+    for (Stripe stripe : stripes) {
+      Entry eldest = stripe.eldest(probation);
+      if (eldest != null && eldest.lastAccess < oldest) {
+        oldest = eldest.lastAccess;
+        victim = stripe;
+      }
+    }
+    return victim;
+  }
+
+  /**
+   * Use a cached plan after it was revalidated. This counts as a hit.
+   *
+   * @param entry The revalidated cache entry.
+   * @return The cached plan.
+   */
+  public Plan hit(Entry entry) {
+    hits.increment();
+    bytesSaved.add(entry.size);
+    entry.lastAccess = clock.incrementAndGet();
+    stripe(entry.id).promote(entry, (long) (PROTECTED_RATIO * maxWeight / STRIPES));
+    return entry.plan;
+  }
+
+  /**
+   * Find the update time of a plan in the plan summaries.
+   *
+   * @param summaries The plan summaries.
+   * @param id The plan ID.
+   * @return The update time, or null if the plan is not listed.
+   */
+  public static OffsetDateTime updateTime(PlanSummaries summaries, UUID id) {
+    if (summaries == null || summaries.getSummaries() == null) {
+      return null;
+    }
+    for (PlanSummary summary : summaries.getSummaries()) {
+      if (id.equals(summary.getId())) {
+        return summary.getUpdateTime();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Get the number of calls answered from the cache.
+   *
+   * @return Number of hits.
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Get the number of calls that downloaded the plan.
+   *
+   * @return Number of misses.
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Get the fraction of the calls answered from the cache.
+   *
+   * @return The hit ratio between 0 and 1, or 0 without calls.
+   */
+  public double getHitRatio() {
+    long hitCount = hits.sum();
+    long total = hitCount + misses.sum();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  /**
+   * Get the number of response body bytes that were not downloaded because
+   * the cached plan was used.
+   *
+   * @return Bytes saved, counted as the size of the uncompressed JSON.
+   */
+  public long getBytesSaved() {
+    return bytesSaved.sum();
+  }
+
+  /**
+   * Get the number of plans evicted to stay within the maximum weight.
+   *
+   * @return Number of evictions.
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * Get the number of plans not cached because they alone exceed the maximum
+   * weight.
+   *
+   * @return Number of rejected plans.
+   */
+  public long getRejections() {
+    return rejections.sum();
+  }
+
+  /**
+   * Get the number of plans that bypassed the cache because they were not
+   * listed in the plan summaries.
+   *
+   * @return Number of bypassed plans.
+   */
+  public long getBypasses() {
+    return bypasses.sum();
+  }
+
+  /**
+   * Get the estimated heap retained by the cached plans.
+   *
+   * @return The weight in bytes.
+   */
+  public long getWeight() {
+    return weight.get();
+  }
+
+  /**
+   * Get the maximum estimated heap retained by the cached plans.
+   *
+   * @return The maximum weight in bytes.
+   */
+  public long getMaxWeight() {
+    return maxWeight;
+  }
+
+  /**
+   * Get the number of cached plans.
+   *
+   * @return Number of entries.
+   */
+  public int size() {
+    int size = 0;
+    for (Stripe stripe : stripes) {
+      size += stripe.size();
+    }
+    return size;
+  }
+
+  /**
+   * A stripe of the cache with its own lock, holding a probation and a
+   * protected segment in LRU order.
+   */
+  private static final class Stripe {
+    private final LinkedHashMap<UUID, Entry> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<UUID, Entry> protectedEntries = new LinkedHashMap<>();
+    private long protectedWeight;
+
+    synchronized Entry get(UUID id) {
+      Entry entry = probation.get(id);
+      return entry != null ? entry : protectedEntries.get(id);
+    }
+
+    synchronized Entry put(Entry entry) {
+      Entry previous = removeEntry(entry.id);
+      probation.put(entry.id, entry);
+      return previous;
+    }
+
+    synchronized Entry remove(UUID id) {
+      return removeEntry(id);
+    }
+
+    private Entry removeEntry(UUID id) {
+      Entry entry = probation.remove(id);
+      if (entry == null) {
+        entry = protectedEntries.remove(id);
+        if (entry != null) {
+          protectedWeight -= entry.weight;
+        }
+      }
+      return entry;
+    }
+
+    synchronized void promote(Entry entry, long maxProtectedWeight) {
+      if (probation.remove(entry.id, entry)) {
+        protectedEntries.put(entry.id, entry);
+        protectedWeight += entry.weight;
+        // demote the least recently used protected entries, keeping the
+        // promoted one even if it exceeds the protected share alone
+        Iterator<Entry> it = protectedEntries.values().iterator();
+        while (protectedWeight > maxProtectedWeight && protectedEntries.size() > 1) {
+          Entry demoted = it.next();
+          it.remove();
+          protectedWeight -= demoted.weight;
+          probation.put(demoted.id, demoted);
+        }
+      } else if (protectedEntries.remove(entry.id, entry)) {
+        protectedEntries.put(entry.id, entry);
+      }
+    }
+
+    synchronized Entry eldest(boolean fromProbation) {
+      Map<UUID, Entry> segment = fromProbation ? probation : protectedEntries;
+      return segment.isEmpty() ? null : segment.values().iterator().next();
+    }
+
+    synchronized Entry evictEldest() {
+      Entry eldest = eldest(true);
+      if (eldest == null) {
+        eldest = eldest(false);
+      }
+      return eldest == null ? null : removeEntry(eldest.id);
+    }
+
+    synchronized long clear() {
+      long cleared = protectedWeight;
+      for (Entry entry : probation.values()) {
+        cleared += entry.weight;
+      }
+      probation.clear();
+      protectedEntries.clear();
+      protectedWeight = 0;
+      return cleared;
+    }
+
+    synchronized int size() {
+      return probation.size() + protectedEntries.size();
+    }
+  }
+
+  private static final class RecentSummaries {
+    final PlanSummaries summaries;
+    final long retrieved;
+
+    RecentSummaries(PlanSummaries summaries, long retrieved) {
+      this.summaries = summaries;
+      this.retrieved = retrieved;
+    }
+  }
+
+  /**
+   * A cached plan with its validators.
+   */
+  public static final class Entry {
+    private final UUID id;
+    private final Plan plan;
+    private final Map<String, List<String>> headers;
+    private final String eTag;
+    private final String lastModified;
+    private final OffsetDateTime date;
+    private final OffsetDateTime updateTime;
+    private final long size;
+    private final long weight;
+    private volatile long lastAccess;
+
+    Entry(UUID id, Plan plan, HttpHeaders headers, long size, OffsetDateTime updateTime, long weight) {
+      this.id = id;
+      this.plan = plan;
+      this.headers = headers.map();
+      this.eTag = headers.firstValue("ETag").orElse(null);
+      this.lastModified = headers.firstValue("Last-Modified").orElse(null);
+      this.date = headers.firstValue("Date").map(Entry::parseDate).orElse(null);
+      this.updateTime = updateTime;
+      this.size = size;
+      this.weight = weight;
+    }
+
+    private static OffsetDateTime parseDate(String value) {
+      try {
+        return OffsetDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+      } catch (DateTimeParseException e) {
+        return null;
+      }
+    }
+
+    /**
+     * Make a request conditional on the plan having changed.
+     *
+     * @param requestBuilder The request of the plan.
+     */
+    public void addConditionalHeaders(HttpRequest.Builder requestBuilder) {
+      if (eTag != null) {
+        requestBuilder.header("If-None-Match", eTag);
+      }
+      if (lastModified != null) {
+        requestBuilder.header("If-Modified-Since", lastModified);
+      }
+    }
+
+    /**
+     * Check whether the cached plan is unchanged according to the update time
+     * of its summary.
+     *
+     * @param currentUpdateTime The update time of the plan summary.
+     * @return True if the cached plan is current.
+     */
+    public boolean isFresh(OffsetDateTime currentUpdateTime) {
+      if (currentUpdateTime == null) {
+        return false;
+      }
+      if (updateTime != null) {
+        return currentUpdateTime.isEqual(updateTime);
+      }
+      // the Date header has a resolution of seconds, an update in the same
+      // second as the download is treated as a change
+      return date != null && currentUpdateTime.isBefore(date);
+    }
+
+    /**
+     * Get the cached plan itself, which must not be modified.
+     *
+     * @return The plan.
+     */
+    public Plan getPlan() {
+      return plan;
+    }
+
+    /**
+     * Get the headers of the response the plan was read from.
+     *
+     * @return The response headers.
+     */
+    public Map<String, List<String>> getHeaders() {
+      return headers;
+    }
+
+    /**
+     * Get the size of the response body the plan was read from.
+     *
+     * @return The size in bytes.
+     */
+    public long getSize() {
+      return size;
+    }
+
+    /**
+     * Get the estimated heap retained by the cached plan.
+     *
+     * @return The weight in bytes.
+     */
+    public long getWeight() {
+      return weight;
+    }
+  }
+}
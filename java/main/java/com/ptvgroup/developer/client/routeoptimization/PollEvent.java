@@ -0,0 +1,47 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Java Flight Recorder event for a poll of the status of a running
+ * operation. The duration of the event is the duration of the poll.
+ */
+@Name("com.ptvgroup.routeoptimization.Poll")
+@Label("Operation Poll")
+@Category("Route Optimization")
+@Description("A poll of the status of a running optimization or evaluation")
+@StackTrace(false)
+public final class PollEvent extends jdk.jfr.Event {
+  @Label("Operation")
+  public String operation;
+
+  @Label("Plan ID")
+  public String planId;
+
+  @Label("Status")
+  @Description("The status of the operation, or null if the poll failed")
+  public String status;
+
+  @Label("Elapsed Time")
+  @Description("The time the operation has been running")
+  @Timespan
+  public long elapsedTime;
+
+  @Label("Next Poll Delay")
+  @Description("The time until the next poll, or -1 if the operation is no longer polled")
+  @Timespan
+  public long nextPollDelay;
+}
@@ -0,0 +1,111 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * A growing in-memory output stream whose buffers come from a
+ * {@link BufferPool}. The current buffer is returned to the pool by
+ * {@link #release()}; {@link #close()} has no effect, so that the stream can
+ * be passed to writers that close it.
+ */
+final class PooledOutputStream extends OutputStream {
+  private final BufferPool pool;
+  private byte[] buffer;
+  private int count;
+
+  /**
+   * Create a stream.
+   *
+   * @param pool The pool, or null to allocate the buffers.
+   */
+  PooledOutputStream(BufferPool pool) {
+    this.pool = pool;
+    this.buffer = pool != null ? pool.acquire(0) : new byte[8192];
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= buffer.length) {
+      return;
+    }
+    if (capacity < 0) {
+      throw new OutOfMemoryError("Buffer larger than 2 GB");
+    }
+    int size = Math.max(capacity, buffer.length << 1);
+    byte[] grown = pool != null ? pool.acquire(size < 0 ? capacity : size) : new byte[size < 0 ? capacity : size];
+    System.arraycopy(buffer, 0, grown, 0, count);
+    if (pool != null) {
+      pool.release(buffer);
+    }
+    buffer = grown;
+  }
+
+  @Override
+  public void write(int b) {
+    ensureCapacity(count + 1);
+    buffer[count++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    ensureCapacity(count + len);
+    System.arraycopy(b, off, buffer, count, len);
+    count += len;
+  }
+
+  /**
+   * Read a stream to its end into this stream.
+   *
+   * @param in The stream to read.
+   * @throws IOException if reading fails.
+   */
+  void readFrom(InputStream in) throws IOException {
+    while (true) {
+      if (count == buffer.length) {
+        ensureCapacity(count + 1);
+      }
+      int read = in.read(buffer, count, buffer.length - count);
+      if (read < 0) {
+        return;
+      }
+      count += read;
+    }
+  }
+
+  byte[] buffer() {
+    return buffer;
+  }
+
+  int size() {
+    return count;
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(buffer, count);
+  }
+
+  String toString(Charset charset) {
+    return new String(buffer, 0, count, charset);
+  }
+
+  /**
+   * Return the buffer to the pool. The stream must not be used afterwards.
+   */
+  void release() {
+    if (pool != null && buffer != null) {
+      pool.release(buffer);
+    }
+    buffer = null;
+  }
+}
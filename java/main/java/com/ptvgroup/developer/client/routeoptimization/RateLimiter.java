@@ -0,0 +1,266 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.net.http.HttpRequest;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side token-bucket rate limiting of the requests of an
+ * {@link ApiClient}, per API key and per operation.
+ *
+ * <p>Each operation with a configured rate gets one token bucket per API key,
+ * which is taken from the {@code ApiKey} header of the request (see
+ * {@link #setKeyHeader(String)}). A bucket refills at the configured rate up
+ * to its burst size. Requests that find the bucket empty reserve a future
+ * token and wait until it is due, so waiting requests are served in the order
+ * they arrived. Operations without a configured rate are not limited, unless a
+ * default rate is set.</p>
+ *
+ * <p>For example, status polling and plan uploads can be limited separately:</p>
+ * <pre>
+ * new RateLimiter()
+ *     .setRate("getOperationStatus", 20, 20)
+ *     .setRate("createPlan", 2, 5);
+ * </pre>
+ *
+ * <p>The setter methods configure the limiter and return the current object
+ * to facilitate a fluent style of configuration. The limiter is thread-safe.</p>
+ */
+public class RateLimiter {
+  private final Map<String, Rate> rates = new ConcurrentHashMap<>();
+  private volatile Rate defaultRate;
+  private volatile String keyHeader = "ApiKey";
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private final Map<String, WaitStats> waitStats = new ConcurrentHashMap<>();
+
+  /**
+   * Set the rate of an operation.
+   *
+   * @param operationId The operation, for example "getOperationStatus".
+   * @param permitsPerSecond The sustained number of requests per second.
+   * @param burst The number of requests that may be sent at once after an idle
+   *              period.
+   * @return This object.
+   */
+  public RateLimiter setRate(String operationId, double permitsPerSecond, int burst) {
+    rates.put(operationId, new Rate(permitsPerSecond, burst));
+    buckets.clear();
+    return this;
+  }
+
+  /**
+   * Set the rate of all operations without a rate of their own.
+   *
+   * @param permitsPerSecond The sustained number of requests per second.
+   * @param burst The number of requests that may be sent at once after an idle
+   *              period.
+   * @return This object.
+   */
+  public RateLimiter setDefaultRate(double permitsPerSecond, int burst) {
+    defaultRate = new Rate(permitsPerSecond, burst);
+    buckets.clear();
+    return this;
+  }
+
+  /**
+   * Set the request header that identifies the API key.
+   *
+   * @param keyHeader The header name (default "ApiKey").
+   * @return This object.
+   */
+  public RateLimiter setKeyHeader(String keyHeader) {
+    this.keyHeader = keyHeader;
+    return this;
+  }
+
+  /**
+   * Wait until a request of an operation may be sent.
+   *
+   * @param operationId The operation of the request.
+   * @param request The request, which identifies the API key.
+   * @throws InterruptedException if interrupted while waiting.
+   */
+  public void acquire(String operationId, HttpRequest request) throws InterruptedException {
+    long waitNanos = reserve(operationId, request);
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  /**
+   * Get a future that completes when a request of an operation may be sent,
+   * without blocking the calling thread.
+   *
+   * @param operationId The operation of the request.
+   * @param request The request, which identifies the API key.
+   * @return A future completed when the request may be sent.
+   */
+  public CompletableFuture<Void> acquireAsync(String operationId, HttpRequest request) {
+    long waitNanos = reserve(operationId, request);
+    if (waitNanos <= 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS));
+  }
+
+  /**
+   * Take a permit for a request of an operation if one is available right away.
+   *
+   * @param operationId The operation of the request.
+   * @param request The request, which identifies the API key.
+   * @return True if the request may be sent now, false if it would have to wait.
+   */
+  public boolean tryAcquire(String operationId, HttpRequest request) {
+    TokenBucket bucket = bucket(operationId, request);
+    if (bucket == null) {
+      return true;
+    }
+    if (!bucket.tryTake()) {
+      return false;
+    }
+    waitStats.computeIfAbsent(operationId, key -> new WaitStats()).record(0);
+    return true;
+  }
+
+  private long reserve(String operationId, HttpRequest request) {
+    TokenBucket bucket = bucket(operationId, request);
+    if (bucket == null) {
+      return 0;
+    }
+    long waitNanos = bucket.reserve();
+    waitStats.computeIfAbsent(operationId, key -> new WaitStats()).record(waitNanos);
+    return waitNanos;
+  }
+
+  private TokenBucket bucket(String operationId, HttpRequest request) {
+    Rate rate = rates.getOrDefault(operationId, defaultRate);
+    if (rate == null) {
+      return null;
+    }
+    String apiKey = request.headers().firstValue(keyHeader).orElse("");
+    return buckets.computeIfAbsent(apiKey + '\n' + operationId, key -> new TokenBucket(rate));
+  }
+
+  /**
+   * Get the number of requests of an operation that passed the limiter.
+   *
+   * @param operationId The operation.
+   * @return Number of permits.
+   */
+  public long getPermits(String operationId) {
+    WaitStats stats = waitStats.get(operationId);
+    return stats == null ? 0 : stats.permits.sum();
+  }
+
+  /**
+   * Get the number of requests of an operation that had to wait.
+   *
+   * @param operationId The operation.
+   * @return Number of delayed requests.
+   */
+  public long getDelayed(String operationId) {
+    WaitStats stats = waitStats.get(operationId);
+    return stats == null ? 0 : stats.delayed.sum();
+  }
+
+  /**
+   * Get the total time requests of an operation waited for a permit.
+   *
+   * @param operationId The operation.
+   * @return Total wait time in nanoseconds.
+   */
+  public long getTotalWaitNanos(String operationId) {
+    WaitStats stats = waitStats.get(operationId);
+    return stats == null ? 0 : stats.totalWaitNanos.sum();
+  }
+
+  /**
+   * Get the longest time a request of an operation waited for a permit.
+   *
+   * @param operationId The operation.
+   * @return Maximum wait time in nanoseconds.
+   */
+  public long getMaxWaitNanos(String operationId) {
+    WaitStats stats = waitStats.get(operationId);
+    return stats == null ? 0 : stats.maxWaitNanos.get();
+  }
+
+  private static final class Rate {
+    final double permitsPerSecond;
+    final int burst;
+
+    Rate(double permitsPerSecond, int burst) {
+      if (permitsPerSecond <= 0 || burst < 1) {
+        throw new IllegalArgumentException("Rate and burst must be positive");
+      }
+      this.permitsPerSecond = permitsPerSecond;
+      this.burst = burst;
+    }
+  }
+
+  /**
+   * A token bucket whose balance may become negative to record reservations of
+   * future tokens.
+   */
+  private static final class TokenBucket {
+    private final double tokensPerNano;
+    private final int capacity;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(Rate rate) {
+      this.tokensPerNano = rate.permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+      this.capacity = rate.burst;
+      this.tokens = rate.burst;
+      this.lastRefill = System.nanoTime();
+    }
+
+    private void refill(long now) {
+      tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+      lastRefill = now;
+    }
+
+    synchronized long reserve() {
+      refill(System.nanoTime());
+      tokens -= 1;
+      return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+
+    synchronized boolean tryTake() {
+      refill(System.nanoTime());
+      if (tokens < 1) {
+        return false;
+      }
+      tokens -= 1;
+      return true;
+    }
+  }
+
+  private static final class WaitStats {
+    final LongAdder permits = new LongAdder();
+    final LongAdder delayed = new LongAdder();
+    final LongAdder totalWaitNanos = new LongAdder();
+    final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    void record(long waitNanos) {
+      permits.increment();
+      if (waitNanos > 0) {
+        delayed.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulate(waitNanos);
+      }
+    }
+  }
+}
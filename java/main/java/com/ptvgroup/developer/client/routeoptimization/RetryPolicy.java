@@ -0,0 +1,292 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Retries of idempotent calls that failed with an I/O error or a transient
+ * status code.
+ *
+ * <p>The delay between two attempts is chosen with decorrelated jitter: it is
+ * a random duration between the base delay and three times the previous
+ * delay, capped by the maximum delay. A {@code Retry-After} header of a 429 or
+ * 503 response takes precedence over the computed delay.</p>
+ *
+ * <p>A retry budget keeps retries from amplifying an outage: every call that
+ * may be retried deposits a fraction of a token, every retry withdraws a whole
+ * token, and a retry is only made while a token is left. With the default
+ * ratio of 0.1, retries add at most 10 percent to the request rate once the
+ * initial balance is spent.</p>
+ *
+ * <p>The setter methods configure the policy and return the current object to
+ * facilitate a fluent style of configuration; they must not be called once the
+ * policy is in use. The policy is shared by all API classes of an
+ * {@link ApiClient}, its statistics are thread-safe.</p>
+ */
+public class RetryPolicy {
+  private static final Set<Integer> RETRY_AFTER_STATUS_CODES = Set.of(429, 503);
+
+  private int maxAttempts = 3;
+  private Duration baseDelay = Duration.ofMillis(100);
+  private Duration maxDelay = Duration.ofSeconds(10);
+  private Duration maxRetryAfter = Duration.ofSeconds(60);
+  private Set<String> operations = new HashSet<>(Arrays.asList("getPlan", "getOperationStatus", "getPlanSummaries", "deletePlan"));
+  private Set<Integer> statusCodes = new HashSet<>(Arrays.asList(429, 502, 503, 504));
+  private double budgetRatio = 0.1;
+  private double budgetCapacity = 100;
+  private double budgetBalance = budgetCapacity;
+
+  private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+  /**
+   * Set the maximum number of attempts of a call, including the first one.
+   *
+   * @param maxAttempts The maximum number of attempts (default 3).
+   * @return This object.
+   */
+  public RetryPolicy setMaxAttempts(int maxAttempts) {
+    this.maxAttempts = maxAttempts;
+    return this;
+  }
+
+  /**
+   * Set the minimum delay between two attempts.
+   *
+   * @param baseDelay The minimum delay (default 100 ms).
+   * @return This object.
+   */
+  public RetryPolicy setBaseDelay(Duration baseDelay) {
+    this.baseDelay = baseDelay;
+    return this;
+  }
+
+  /**
+   * Set the maximum computed delay between two attempts.
+   *
+   * @param maxDelay The maximum delay (default 10 s).
+   * @return This object.
+   */
+  public RetryPolicy setMaxDelay(Duration maxDelay) {
+    this.maxDelay = maxDelay;
+    return this;
+  }
+
+  /**
+   * Set the longest {@code Retry-After} delay that is waited for. A response
+   * asking for a longer delay is returned to the caller instead.
+   *
+   * @param maxRetryAfter The maximum honored {@code Retry-After} (default 60 s).
+   * @return This object.
+   */
+  public RetryPolicy setMaxRetryAfter(Duration maxRetryAfter) {
+    this.maxRetryAfter = maxRetryAfter;
+    return this;
+  }
+
+  /**
+   * Set the operations that are retried. Only idempotent operations should be
+   * retried.
+   *
+   * @param operations The operation IDs (default getPlan, getOperationStatus,
+   *                   getPlanSummaries and deletePlan).
+   * @return This object.
+   */
+  public RetryPolicy setOperations(Set<String> operations) {
+    this.operations = new HashSet<>(operations);
+    return this;
+  }
+
+  /**
+   * Set the status codes of responses that are retried.
+   *
+   * @param statusCodes The status codes (default 429, 502, 503 and 504).
+   * @return This object.
+   */
+  public RetryPolicy setStatusCodes(Set<Integer> statusCodes) {
+    this.statusCodes = new HashSet<>(statusCodes);
+    return this;
+  }
+
+  /**
+   * Configure the retry budget.
+   *
+   * @param ratio The fraction of a retry each call earns (default 0.1).
+   * @param capacity The maximum number of retries that can be saved up, which
+   *                 is also the initial balance (default 100).
+   * @return This object.
+   */
+  public synchronized RetryPolicy setBudget(double ratio, double capacity) {
+    this.budgetRatio = ratio;
+    this.budgetCapacity = capacity;
+    this.budgetBalance = capacity;
+    return this;
+  }
+
+  /**
+   * Check whether the calls of an operation are retried.
+   *
+   * @param operationId The operation ID.
+   * @return True if the operation is retried.
+   */
+  public boolean isRetryable(String operationId) {
+    return operations.contains(operationId);
+  }
+
+  /**
+   * Check whether a response is retried.
+   *
+   * @param statusCode The status code of the response.
+   * @return True if responses with this status code are retried.
+   */
+  public boolean isRetryableStatus(int statusCode) {
+    return statusCodes.contains(statusCode);
+  }
+
+  /**
+   * Record a call of a retryable operation, which earns budget for retries.
+   */
+  synchronized void onCall() {
+    budgetBalance = Math.min(budgetCapacity, budgetBalance + budgetRatio);
+  }
+
+  /**
+   * Decide whether a failed attempt is retried and how long to wait before.
+   *
+   * @param operationId The operation ID.
+   * @param attempt The number of the failed attempt, starting at 1.
+   * @param previousDelayNanos The previous delay, or 0 after the first attempt.
+   * @param headers The headers of the response, or null if the attempt failed
+   *                with an I/O error.
+   * @param statusCode The status code of the response, ignored without headers.
+   * @return The delay in nanoseconds, or -1 if the attempt is not retried.
+   */
+  long retryDelayNanos(String operationId, int attempt, long previousDelayNanos, HttpHeaders headers, int statusCode) {
+    Counters operationCounters = counters.computeIfAbsent(operationId, key -> new Counters());
+    if (attempt >= maxAttempts) {
+      operationCounters.exhausted.increment();
+      return -1;
+    }
+    long delay = jitteredDelayNanos(previousDelayNanos);
+    if (headers != null && RETRY_AFTER_STATUS_CODES.contains(statusCode)) {
+      Optional<Duration> retryAfter = retryAfter(headers);
+      if (retryAfter.isPresent()) {
+        if (retryAfter.get().compareTo(maxRetryAfter) > 0) {
+          operationCounters.exhausted.increment();
+          return -1;
+        }
+        delay = retryAfter.get().toNanos() + ThreadLocalRandom.current().nextLong(baseDelay.toNanos() + 1);
+      }
+    }
+    synchronized (this) {
+      if (budgetBalance < 1) {
+        operationCounters.denied.increment();
+        return -1;
+      }
+      budgetBalance -= 1;
+    }
+    operationCounters.retries.increment();
+    return delay;
+  }
+
+  private long jitteredDelayNanos(long previousDelayNanos) {
+    long base = baseDelay.toNanos();
+    long upper = Math.max(base, Math.max(base, previousDelayNanos) * 3);
+    long delay = upper == base ? base : ThreadLocalRandom.current().nextLong(base, upper + 1);
+    return Math.min(maxDelay.toNanos(), delay);
+  }
+
+  static Optional<Duration> retryAfter(HttpHeaders headers) {
+    return headers.firstValue("Retry-After").flatMap(value -> {
+      try {
+        return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+      } catch (NumberFormatException e) {
+        try {
+          Duration delay = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+          return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+        } catch (DateTimeParseException e2) {
+          return Optional.empty();
+        }
+      }
+    });
+  }
+
+  /**
+   * Get the number of retries made for an operation.
+   *
+   * @param operationId The operation ID.
+   * @return Number of retries.
+   */
+  public long getRetries(String operationId) {
+    Counters operationCounters = counters.get(operationId);
+    return operationCounters == null ? 0 : operationCounters.retries.sum();
+  }
+
+  /**
+   * Get the number of retries of an operation that were not made because the
+   * retry budget was spent.
+   *
+   * @param operationId The operation ID.
+   * @return Number of retries denied by the budget.
+   */
+  public long getRetriesDenied(String operationId) {
+    Counters operationCounters = counters.get(operationId);
+    return operationCounters == null ? 0 : operationCounters.denied.sum();
+  }
+
+  /**
+   * Get the number of calls of an operation that failed after the maximum
+   * number of attempts or because the service asked for a longer delay than
+   * honored.
+   *
+   * @param operationId The operation ID.
+   * @return Number of calls that were given up.
+   */
+  public long getRetriesExhausted(String operationId) {
+    Counters operationCounters = counters.get(operationId);
+    return operationCounters == null ? 0 : operationCounters.exhausted.sum();
+  }
+
+  /**
+   * Get the operations retries were attempted for.
+   *
+   * @return The operation IDs.
+   */
+  public Set<String> getRetriedOperations() {
+    return Collections.unmodifiableSet(counters.keySet());
+  }
+
+  /**
+   * Get the current balance of the retry budget.
+   *
+   * @return The number of retries that can currently be made.
+   */
+  public synchronized double getBudgetBalance() {
+    return budgetBalance;
+  }
+
+  private static final class Counters {
+    final LongAdder retries = new LongAdder();
+    final LongAdder denied = new LongAdder();
+    final LongAdder exhausted = new LongAdder();
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+
+import java.util.List;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for the serialization of a request body or the
+ * deserialization of a plan. The duration of a deserialization includes
+ * reading the body from the connection if it is read while deserializing.
+ */
+@Name("com.ptvgroup.routeoptimization.Serialization")
+@Label("Serialization")
+@Category("Route Optimization")
+@Description("The serialization of a request body or the deserialization of a plan")
+@StackTrace(false)
+public final class SerializationEvent extends jdk.jfr.Event {
+  @Label("Type")
+  String type;
+
+  @Label("Deserialization")
+  boolean deserialization;
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Plan ID")
+  String planId;
+
+  @Label("Bytes")
+  @DataAmount
+  long bytes;
+
+  @Label("Locations")
+  int locations;
+
+  @Label("Vehicles")
+  int vehicles;
+
+  @Label("Transports")
+  int transports;
+
+  @Label("Routes")
+  int routes;
+
+  /**
+   * Set the type, plan ID and entity counts of the serialized value.
+   */
+  void setValue(Object value) {
+    type = value == null ? null : value.getClass().getSimpleName();
+    if (value instanceof Plan) {
+      Plan plan = (Plan) value;
+      planId = plan.getId() == null ? null : plan.getId().toString();
+      locations = size(plan.getLocations());
+      vehicles = size(plan.getVehicles());
+      transports = size(plan.getTransports());
+      routes = size(plan.getRoutes());
+    }
+  }
+
+  private static int size(List<?> list) {
+    return list == null ? 0 : list.size();
+  }
+}
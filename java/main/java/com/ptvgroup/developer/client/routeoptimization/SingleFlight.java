@@ -0,0 +1,202 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalescing of identical concurrent calls.
+ *
+ * <p>A call is identified by its operation and the ID of the plan it is made
+ * for. While a call is in flight, identical calls do not send a request of
+ * their own but wait for the result of the call in flight. Blocking and async
+ * calls are coalesced with each other. A call that is made after the call in
+ * flight completed sends a new request, so no result is older than the
+ * call.</p>
+ *
+ * <p>Coalesced callers share the deserialized result; they must not modify
+ * it.</p>
+ *
+ * <p>The instance is shared by all API classes of an {@link ApiClient}. It is
+ * thread-safe.</p>
+ */
+public class SingleFlight {
+  private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+  /**
+   * A blocking call of an API method.
+   *
+   * @param <T> The result type.
+   */
+  @FunctionalInterface
+  public interface Call<T> {
+    T call() throws ApiException;
+  }
+
+  /**
+   * Make a blocking call, or wait for the identical call in flight.
+   *
+   * @param <T> The result type.
+   * @param operationId The operation of the call.
+   * @param id The ID the call is made for.
+   * @param call The call.
+   * @return The result of the call.
+   * @throws ApiException if the call fails.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String operationId, Object id, Call<T> call) throws ApiException {
+    String key = operationId + ':' + id;
+    CompletableFuture<Object> future = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+    Stats operationStats = stats(operationId);
+    operationStats.calls.increment();
+    if (existing != null) {
+      operationStats.coalesced.increment();
+      try {
+        return (T) existing.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ApiException(e);
+      } catch (ExecutionException e) {
+        throw toApiException(e.getCause());
+      }
+    }
+    try {
+      T result = call.call();
+      inFlight.remove(key, future);
+      future.complete(result);
+      return result;
+    } catch (Throwable e) {
+      inFlight.remove(key, future);
+      future.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Make an async call, or join the identical call in flight.
+   *
+   * @param <T> The result type.
+   * @param operationId The operation of the call.
+   * @param id The ID the call is made for.
+   * @param call The call.
+   * @return A future completed with the result of the call. Cancelling it
+   * does not affect the call in flight.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<T> executeAsync(String operationId, Object id, Supplier<CompletableFuture<T>> call) {
+    String key = operationId + ':' + id;
+    CompletableFuture<Object> future = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+    Stats operationStats = stats(operationId);
+    operationStats.calls.increment();
+    if (existing != null) {
+      operationStats.coalesced.increment();
+      return (CompletableFuture<T>) (CompletableFuture<?>) existing.copy();
+    }
+    try {
+      call.get().whenComplete((result, error) -> {
+        inFlight.remove(key, future);
+        if (error != null) {
+          future.completeExceptionally(error);
+        } else {
+          future.complete(result);
+        }
+      });
+    } catch (RuntimeException e) {
+      inFlight.remove(key, future);
+      future.completeExceptionally(e);
+    }
+    return (CompletableFuture<T>) (CompletableFuture<?>) future.copy();
+  }
+
+  private static ApiException toApiException(Throwable cause) {
+    if (cause instanceof ApiException) {
+      // a new exception, so the stack trace shows the waiting caller
+      ApiException e = (ApiException) cause;
+      return new ApiException(e.getMessage(), e, e.getCode(), e.getResponseHeaders(), e.getResponseBody());
+    }
+    if (cause instanceof RuntimeException) {
+      throw (RuntimeException) cause;
+    }
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return new ApiException(cause);
+  }
+
+  private Stats stats(String operationId) {
+    return stats.computeIfAbsent(operationId, key -> new Stats());
+  }
+
+  /**
+   * Get the number of calls of an operation.
+   *
+   * @param operationId The operation ID.
+   * @return Number of calls, coalesced or not.
+   */
+  public long getCalls(String operationId) {
+    Stats operationStats = stats.get(operationId);
+    return operationStats == null ? 0 : operationStats.calls.sum();
+  }
+
+  /**
+   * Get the number of calls of an operation that joined a call in flight
+   * instead of sending a request.
+   *
+   * @param operationId The operation ID.
+   * @return Number of coalesced calls.
+   */
+  public long getCoalesced(String operationId) {
+    Stats operationStats = stats.get(operationId);
+    return operationStats == null ? 0 : operationStats.coalesced.sum();
+  }
+
+  /**
+   * Get the fraction of the calls of an operation that were coalesced.
+   *
+   * @param operationId The operation ID.
+   * @return The coalescing ratio between 0 and 1, or 0 without calls.
+   */
+  public double getCoalescingRatio(String operationId) {
+    long calls = getCalls(operationId);
+    return calls == 0 ? 0 : (double) getCoalesced(operationId) / calls;
+  }
+
+  /**
+   * Get the number of calls currently in flight.
+   *
+   * @return Number of distinct calls in flight.
+   */
+  public int getInFlight() {
+    return inFlight.size();
+  }
+
+  /**
+   * Get the operations calls were made for.
+   *
+   * @return The operation IDs.
+   */
+  public Set<String> getOperations() {
+    return Collections.unmodifiableSet(stats.keySet());
+  }
+
+  private static final class Stats {
+    final LongAdder calls = new LongAdder();
+    final LongAdder coalesced = new LongAdder();
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A {@link HttpRequest.BodyPublisher} that serializes a value with Jackson
+ * while the request is being sent, instead of serializing it into a byte array
+ * up front.
+ *
+ * <p>The value is written on a background thread into chunks that are handed
+ * to the HTTP client as it requests them, so at most a few chunks of the
+ * serialized body are held in memory. The request is sent with chunked transfer
+ * encoding because its length is not known in advance. Each subscription
+ * serializes the value again, so the publisher can be reused for retries.</p>
+ *
+ * <p>The body can optionally be gzip compressed while it is streamed.</p>
+ */
+public class StreamingBodyPublisher implements HttpRequest.BodyPublisher {
+  static final int CHUNK_SIZE = 16 * 1024;
+
+  private final ObjectWriter writer;
+  private final Object value;
+  private final Executor executor;
+  private final String operationId;
+  private final CompressionStats compressionStats;
+  private final CallMetrics call;
+
+  /**
+   * Create a publisher for a value.
+   *
+   * @param writer The writer used to serialize the value.
+   * @param value The value to serialize.
+   * @param executor The executor running the serialization.
+   */
+  public StreamingBodyPublisher(ObjectWriter writer, Object value, Executor executor) {
+    this(writer, value, executor, null, null);
+  }
+
+  /**
+   * Create a publisher for a value that is gzip compressed while streamed.
+   *
+   * @param writer The writer used to serialize the value.
+   * @param value The value to serialize.
+   * @param executor The executor running the serialization.
+   * @param operationId The operation the body is sent for.
+   * @param compressionStats The statistics the compression is recorded in, or
+   *                         null to send the body uncompressed.
+   */
+  public StreamingBodyPublisher(ObjectWriter writer, Object value, Executor executor, String operationId, CompressionStats compressionStats) {
+    this(writer, value, executor, operationId, compressionStats, null);
+  }
+
+  StreamingBodyPublisher(ObjectWriter writer, Object value, Executor executor, String operationId, CompressionStats compressionStats,
+      CallMetrics call) {
+    this.writer = writer;
+    this.value = value;
+    this.executor = executor;
+    this.operationId = operationId;
+    this.compressionStats = compressionStats;
+    this.call = call;
+  }
+
+  @Override
+  public long contentLength() {
+    return -1;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+    ChunkSubscription subscription = new ChunkSubscription(subscriber);
+    subscriber.onSubscribe(subscription);
+    try {
+      executor.execute(subscription::write);
+    } catch (RejectedExecutionException e) {
+      subscription.fail(new IOException("Cannot serialize request body", e));
+    }
+  }
+
+  /**
+   * Writes the serialized value to its subscriber chunk by chunk as demand
+   * arrives. The serializing thread blocks while there is no demand.
+   */
+  private final class ChunkSubscription extends OutputStream implements Flow.Subscription {
+    private final Flow.Subscriber<? super ByteBuffer> subscriber;
+    private long demand;
+    private boolean cancelled;
+    private byte[] chunk = new byte[CHUNK_SIZE];
+    private int count;
+    private long emitted;
+    private long waitedNanos;
+
+    ChunkSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public synchronized void request(long n) {
+      if (n <= 0) {
+        cancelled = true;
+        subscriber.onError(new IllegalArgumentException("non-positive subscription request: " + n));
+      } else {
+        demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+      }
+      notifyAll();
+    }
+
+    @Override
+    public synchronized void cancel() {
+      cancelled = true;
+      notifyAll();
+    }
+
+    void write() {
+      try {
+        SerializationEvent event = ApiClient.isFlightRecorderAvailable() ? new SerializationEvent() : null;
+        if (event != null) {
+          event.begin();
+        }
+        long start = System.nanoTime();
+        if (compressionStats == null) {
+          writer.writeValue(this, value);
+        } else {
+          writeCompressed();
+        }
+        emit();
+        if (call != null) {
+          call.serialized(System.nanoTime() - start - waitedNanos, emitted, true);
+        }
+        if (event != null) {
+          event.end();
+          if (event.shouldCommit()) {
+            event.operation = operationId;
+            event.bytes = emitted;
+            event.setValue(value);
+            event.commit();
+          }
+        }
+        synchronized (this) {
+          if (cancelled) {
+            return;
+          }
+        }
+        subscriber.onComplete();
+      } catch (IOException | RuntimeException e) {
+        fail(e);
+      }
+    }
+
+    private void writeCompressed() throws IOException {
+      long cpuStart = CompressionStats.cpuTimeNanos();
+      GZIPOutputStream gzip = new GZIPOutputStream(this, CHUNK_SIZE);
+      long[] uncompressed = new long[1];
+      writer.writeValue(new OutputStream() {
+        @Override
+        public void write(int b) throws IOException {
+          gzip.write(b);
+          uncompressed[0]++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          gzip.write(b, off, len);
+          uncompressed[0] += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+          gzip.finish();
+        }
+      }, value);
+      compressionStats.record(new CompressionStats.Sample(operationId, CompressionStats.Direction.REQUEST,
+          uncompressed[0], emitted + count, CompressionStats.cpuTimeNanos() - cpuStart));
+    }
+
+    void fail(Exception e) {
+      synchronized (this) {
+        if (cancelled) {
+          return;
+        }
+        cancelled = true;
+      }
+      subscriber.onError(e);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      if (count == chunk.length) {
+        emit();
+      }
+      chunk[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      while (len > 0) {
+        if (count == chunk.length) {
+          emit();
+        }
+        int n = Math.min(len, chunk.length - count);
+        System.arraycopy(b, off, chunk, count, n);
+        count += n;
+        off += n;
+        len -= n;
+      }
+    }
+
+    @Override
+    public void close() {
+      // the remaining bytes are emitted once the value is written completely
+    }
+
+    private void emit() throws IOException {
+      if (count == 0) {
+        return;
+      }
+      synchronized (this) {
+        try {
+          if (demand == 0 && !cancelled) {
+            // time without demand is spent on the network, not serializing
+            long waitStart = System.nanoTime();
+            while (demand == 0 && !cancelled) {
+              wait();
+            }
+            waitedNanos += System.nanoTime() - waitStart;
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while streaming request body");
+        }
+        if (cancelled) {
+          throw new IOException("Request body subscription cancelled");
+        }
+        demand--;
+      }
+      subscriber.onNext(ByteBuffer.wrap(chunk, 0, count));
+      emitted += count;
+      chunk = new byte[CHUNK_SIZE];
+      count = 0;
+    }
+  }
+}
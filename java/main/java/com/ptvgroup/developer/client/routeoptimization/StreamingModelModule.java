@@ -0,0 +1,97 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.ptvgroup.developer.client.routeoptimization.model.BreakRule;
+import com.ptvgroup.developer.client.routeoptimization.model.CustomerLocationAttributes;
+import com.ptvgroup.developer.client.routeoptimization.model.DailyRestRule;
+import com.ptvgroup.developer.client.routeoptimization.model.DepotLocationAttributes;
+import com.ptvgroup.developer.client.routeoptimization.model.Driver;
+import com.ptvgroup.developer.client.routeoptimization.model.Event;
+import com.ptvgroup.developer.client.routeoptimization.model.Location;
+import com.ptvgroup.developer.client.routeoptimization.model.MixedLoadingProhibition;
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+import com.ptvgroup.developer.client.routeoptimization.model.PlanningRestrictions;
+import com.ptvgroup.developer.client.routeoptimization.model.RoadAccess;
+import com.ptvgroup.developer.client.routeoptimization.model.Route;
+import com.ptvgroup.developer.client.routeoptimization.model.RouteReport;
+import com.ptvgroup.developer.client.routeoptimization.model.Stop;
+import com.ptvgroup.developer.client.routeoptimization.model.StopReport;
+import com.ptvgroup.developer.client.routeoptimization.model.TimeInterval;
+import com.ptvgroup.developer.client.routeoptimization.model.Transport;
+import com.ptvgroup.developer.client.routeoptimization.model.Vehicle;
+import com.ptvgroup.developer.client.routeoptimization.model.Violation;
+import com.ptvgroup.developer.client.routeoptimization.model.Warning;
+import com.ptvgroup.developer.client.routeoptimization.model.WayReport;
+import com.ptvgroup.developer.client.routeoptimization.model.WorkLogbook;
+
+/**
+ * A Jackson module with streaming serializers and deserializers for the
+ * {@link Plan} and all classes a plan consists of, such as the locations,
+ * vehicles, transports, drivers, routes, stops, events and reports.
+ *
+ * <p>The serializers and deserializers write and read the properties with the
+ * {@code JsonGenerator} and {@code JsonParser} and call the getters and
+ * setters directly, without the reflection and the per-property look-ups of
+ * the bean serializers of Jackson. They produce the same JSON as the default
+ * {@code ObjectMapper} of the {@link ApiClient}: null properties are left out
+ * unless the class requires them and undefined {@code JsonNullable}
+ * properties are left out. Serializing and deserializing large plans takes
+ * less CPU time and allocates less.</p>
+ *
+ * <p>The module is not registered by default. To use it, register it on the
+ * mapper of the client before the API classes are created:</p>
+ * <pre>
+ * ObjectMapper mapper = apiClient.getObjectMapper();
+ * mapper.registerModule(new StreamingModelModule());
+ * apiClient.setObjectMapper(mapper);
+ * </pre>
+ *
+ * <p>The (de)serializers are generated from the model classes; they have to
+ * be updated when a model class changes. {@code JsonBenchmark} in the test
+ * sources reports every class that is read or written differently than with
+ * the default mapper.</p>
+ */
+public class StreamingModelModule extends SimpleModule {
+  private static final long serialVersionUID = 1L;
+
+  public StreamingModelModule() {
+    super("RouteOptimizationStreamingModel");
+    add(Plan.class, ModelSerializers.PlanSerializer.INSTANCE, ModelDeserializers.PlanDeserializer.INSTANCE);
+    add(Location.class, ModelSerializers.LocationSerializer.INSTANCE, ModelDeserializers.LocationDeserializer.INSTANCE);
+    add(Vehicle.class, ModelSerializers.VehicleSerializer.INSTANCE, ModelDeserializers.VehicleDeserializer.INSTANCE);
+    add(Transport.class, ModelSerializers.TransportSerializer.INSTANCE, ModelDeserializers.TransportDeserializer.INSTANCE);
+    add(Driver.class, ModelSerializers.DriverSerializer.INSTANCE, ModelDeserializers.DriverDeserializer.INSTANCE);
+    add(Route.class, ModelSerializers.RouteSerializer.INSTANCE, ModelDeserializers.RouteDeserializer.INSTANCE);
+    add(Stop.class, ModelSerializers.StopSerializer.INSTANCE, ModelDeserializers.StopDeserializer.INSTANCE);
+    add(Event.class, ModelSerializers.EventSerializer.INSTANCE, ModelDeserializers.EventDeserializer.INSTANCE);
+    add(RouteReport.class, ModelSerializers.RouteReportSerializer.INSTANCE, ModelDeserializers.RouteReportDeserializer.INSTANCE);
+    add(StopReport.class, ModelSerializers.StopReportSerializer.INSTANCE, ModelDeserializers.StopReportDeserializer.INSTANCE);
+    add(WayReport.class, ModelSerializers.WayReportSerializer.INSTANCE, ModelDeserializers.WayReportDeserializer.INSTANCE);
+    add(Violation.class, ModelSerializers.ViolationSerializer.INSTANCE, ModelDeserializers.ViolationDeserializer.INSTANCE);
+    add(Warning.class, ModelSerializers.WarningSerializer.INSTANCE, ModelDeserializers.WarningDeserializer.INSTANCE);
+    add(WorkLogbook.class, ModelSerializers.WorkLogbookSerializer.INSTANCE, ModelDeserializers.WorkLogbookDeserializer.INSTANCE);
+    add(BreakRule.class, ModelSerializers.BreakRuleSerializer.INSTANCE, ModelDeserializers.BreakRuleDeserializer.INSTANCE);
+    add(DailyRestRule.class, ModelSerializers.DailyRestRuleSerializer.INSTANCE, ModelDeserializers.DailyRestRuleDeserializer.INSTANCE);
+    add(PlanningRestrictions.class, ModelSerializers.PlanningRestrictionsSerializer.INSTANCE, ModelDeserializers.PlanningRestrictionsDeserializer.INSTANCE);
+    add(MixedLoadingProhibition.class, ModelSerializers.MixedLoadingProhibitionSerializer.INSTANCE, ModelDeserializers.MixedLoadingProhibitionDeserializer.INSTANCE);
+    add(TimeInterval.class, ModelSerializers.TimeIntervalSerializer.INSTANCE, ModelDeserializers.TimeIntervalDeserializer.INSTANCE);
+    add(RoadAccess.class, ModelSerializers.RoadAccessSerializer.INSTANCE, ModelDeserializers.RoadAccessDeserializer.INSTANCE);
+    add(DepotLocationAttributes.class, ModelSerializers.DepotLocationAttributesSerializer.INSTANCE, ModelDeserializers.DepotLocationAttributesDeserializer.INSTANCE);
+    add(CustomerLocationAttributes.class, ModelSerializers.CustomerLocationAttributesSerializer.INSTANCE, ModelDeserializers.CustomerLocationAttributesDeserializer.INSTANCE);
+  }
+
+  private <T> void add(Class<T> type, JsonSerializer<T> serializer, JsonDeserializer<T> deserializer) {
+    addSerializer(type, serializer);
+    addDeserializer(type, deserializer);
+  }
+}
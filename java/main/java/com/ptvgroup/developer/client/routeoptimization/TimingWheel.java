@@ -0,0 +1,255 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hierarchical timing wheel that runs delayed tasks with one thread.
+ *
+ * <p>Time advances in ticks of 10 ms. The wheel has four levels: the first
+ * has one bucket per tick for the next 256 ticks (2.56 s), each further level
+ * has 64 buckets covering 64 buckets of the level below, so the wheel spans
+ * about 7.7 days; longer delays are re-scheduled when they come into range.
+ * Scheduling and cancelling take constant time regardless of the number of
+ * pending tasks, and a pending task costs one small object.</p>
+ *
+ * <p>New tasks are handed to the timer thread through a lock-free queue; the
+ * buckets are only touched by the timer thread. Expired tasks are run on the
+ * executor given to the constructor, so slow tasks do not delay the wheel.
+ * Tasks run at the earliest at their deadline and typically within one tick
+ * after it.</p>
+ *
+ * <p>The timer thread is a daemon thread, started on construction and
+ * stopped by {@link #close()}.</p>
+ */
+public class TimingWheel implements AutoCloseable {
+  private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final int ROOT_BITS = 8;
+  private static final int LEVEL_BITS = 6;
+  private static final int LEVELS = 4;
+  private static final long SPAN_TICKS = 1L << (ROOT_BITS + (LEVELS - 1) * LEVEL_BITS);
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+  private final Executor executor;
+  private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+  private final Bucket[][] buckets = new Bucket[LEVELS][];
+  private final long startNanos = System.nanoTime();
+  private final AtomicInteger pending = new AtomicInteger();
+  private final Thread thread;
+  private volatile boolean closed;
+  private long currentTick;
+
+  /**
+   * Create a wheel and start its timer thread.
+   *
+   * @param executor The executor expired tasks are run on.
+   */
+  public TimingWheel(Executor executor) {
+    this.executor = executor;
+    for (int level = 0; level < LEVELS; level++) {
+      buckets[level] = new Bucket[1 << (level == 0 ? ROOT_BITS : LEVEL_BITS)];
+    }
+    thread = new Thread(this::run, "ApiClient-timer-" + THREAD_COUNT.incrementAndGet());
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Run a task after a delay.
+   *
+   * @param task The task.
+   * @param delay The delay.
+   * @param unit The unit of the delay.
+   * @return A handle to cancel the task.
+   * @throws IllegalStateException if the wheel is closed.
+   */
+  public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+    if (closed) {
+      throw new IllegalStateException("The timing wheel is closed");
+    }
+    long deadlineNanos = System.nanoTime() - startNanos + Math.max(0, unit.toNanos(delay));
+    // round up, a task never runs before its deadline
+    Timeout timeout = new Timeout(task, (deadlineNanos + TICK_NANOS - 1) / TICK_NANOS);
+    pending.incrementAndGet();
+    added.add(timeout);
+    return timeout;
+  }
+
+  /**
+   * Get the number of scheduled tasks that have neither run nor been
+   * cancelled.
+   *
+   * @return Number of pending tasks.
+   */
+  public int getPending() {
+    return pending.get();
+  }
+
+  /**
+   * Stop the timer thread. Pending tasks are not run.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    LockSupport.unpark(thread);
+  }
+
+  private void run() {
+    while (!closed) {
+      long nowTick = (System.nanoTime() - startNanos) / TICK_NANOS;
+      while (currentTick <= nowTick && !closed) {
+        transferAdded();
+        cascade();
+        expire();
+        currentTick++;
+      }
+      LockSupport.parkNanos(this, startNanos + currentTick * TICK_NANOS - System.nanoTime());
+    }
+  }
+
+  private void transferAdded() {
+    Timeout timeout;
+    while ((timeout = added.poll()) != null) {
+      if (!timeout.cancelled) {
+        place(timeout);
+      }
+    }
+  }
+
+  /**
+   * Put a timeout into the bucket of the lowest level whose range covers its
+   * deadline.
+   */
+  private void place(Timeout timeout) {
+    long deadline = Math.max(timeout.deadlineTick, currentTick);
+    long delta = Math.min(deadline - currentTick, SPAN_TICKS - 1);
+    deadline = currentTick + delta;
+    int shift = 0;
+    int bits = ROOT_BITS;
+    int level = 0;
+    while (delta >= 1L << (shift + bits) && level < LEVELS - 1) {
+      shift += bits;
+      bits = LEVEL_BITS;
+      level++;
+    }
+    int index = (int) ((deadline >>> shift) & ((1 << bits) - 1));
+    Bucket bucket = buckets[level][index];
+    if (bucket == null) {
+      bucket = new Bucket();
+      buckets[level][index] = bucket;
+    }
+    bucket.timeouts.add(timeout);
+  }
+
+  /**
+   * When a level has completed a revolution, move the timeouts of the next
+   * bucket of the level above down to the levels where they belong now.
+   */
+  private void cascade() {
+    int shift = ROOT_BITS;
+    for (int level = 1; level < LEVELS; level++) {
+      if ((currentTick & ((1L << shift) - 1)) != 0) {
+        return;
+      }
+      int index = (int) ((currentTick >>> shift) & ((1 << LEVEL_BITS) - 1));
+      Bucket bucket = buckets[level][index];
+      if (bucket != null && !bucket.timeouts.isEmpty()) {
+        buckets[level][index] = null;
+        for (Timeout timeout : bucket.timeouts) {
+          if (!timeout.cancelled) {
+            place(timeout);
+          }
+        }
+      }
+      shift += LEVEL_BITS;
+    }
+  }
+
+  private void expire() {
+    int index = (int) (currentTick & ((1 << ROOT_BITS) - 1));
+    Bucket bucket = buckets[0][index];
+    if (bucket == null || bucket.timeouts.isEmpty()) {
+      return;
+    }
+    buckets[0][index] = null;
+    for (Timeout timeout : bucket.timeouts) {
+      if (timeout.cancelled) {
+        continue;
+      }
+      if (timeout.deadlineTick > currentTick) {
+        // beyond the span of the wheel when it was placed
+        place(timeout);
+        continue;
+      }
+      if (timeout.expire()) {
+        pending.decrementAndGet();
+        try {
+          executor.execute(timeout.task);
+        } catch (RuntimeException e) {
+          // the executor was shut down; the wheel keeps running for the others
+        }
+      }
+    }
+  }
+
+  /**
+   * The timeouts of one bucket, in a holder so that the buckets can be kept
+   * in arrays without generic array creation.
+   */
+  private static final class Bucket {
+    final ArrayDeque<Timeout> timeouts = new ArrayDeque<>();
+  }
+
+  /**
+   * A scheduled task.
+   */
+  public final class Timeout {
+    private final Runnable task;
+    private final long deadlineTick;
+    private volatile boolean cancelled;
+    private boolean expired;
+
+    private Timeout(Runnable task, long deadlineTick) {
+      this.task = task;
+      this.deadlineTick = deadlineTick;
+    }
+
+    private synchronized boolean expire() {
+      if (cancelled) {
+        return false;
+      }
+      expired = true;
+      return true;
+    }
+
+    /**
+     * Cancel the task if it has not run yet.
+     *
+     * @return True if the task was cancelled, false if it has already run or
+     * been cancelled.
+     */
+    public boolean cancel() {
+      synchronized (this) {
+        if (expired || cancelled) {
+          return false;
+        }
+        cancelled = true;
+      }
+      pending.decrementAndGet();
+      return true;
+    }
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+package com.ptvgroup.developer.client.routeoptimization.api;
+
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * A running submission of many plans, started by
+ * {@link OptimizationPipeline#submitAll}.
+ *
+ * <p>The plans are taken from their source one at a time, on a thread of the
+ * background executor, and only while fewer than the maximum number of plans
+ * are in flight: a slow pipeline slows down the source rather than buffering
+ * its plans. A plan is in flight from its submission until its result has
+ * been passed to the callback.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class BulkSubmission {
+  private final OptimizationPipeline pipeline;
+  private final BiConsumer<? super OptimizationResult, ? super Throwable> callback;
+  // not the callback itself, which the caller may lock for its own purposes
+  private final Object callbackLock = new Object();
+  private final Semaphore permits;
+  private final CompletableFuture<Void> completion = new CompletableFuture<>();
+  // the plans in flight, plus one while the source is read
+  private final AtomicInteger pending = new AtomicInteger(1);
+  private final LongAdder submitted = new LongAdder();
+  private final LongAdder succeeded = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final long startNanos = System.nanoTime();
+  private volatile Throwable sourceError;
+  private volatile boolean cancelled;
+
+  BulkSubmission(OptimizationPipeline pipeline, int maxInFlight,
+      BiConsumer<? super OptimizationResult, ? super Throwable> callback) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("maxInFlight must be positive");
+    }
+    this.pipeline = pipeline;
+    this.callback = callback;
+    this.permits = new Semaphore(maxInFlight);
+  }
+
+  /**
+   * Read the source until it is exhausted or the submission is cancelled.
+   */
+  void feed(Iterator<? extends Plan> plans) {
+    try {
+      while (!cancelled) {
+        permits.acquire();
+        // only ask the source for the next plan once it can be submitted
+        if (cancelled || !plans.hasNext()) {
+          permits.release();
+          break;
+        }
+        Plan plan = plans.next();
+        pending.incrementAndGet();
+        submitted.increment();
+        CompletableFuture<OptimizationResult> result;
+        try {
+          result = pipeline.submit(plan);
+        } catch (RuntimeException e) {
+          result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete(this::onResult);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      sourceError = e;
+    } catch (RuntimeException e) {
+      sourceError = e;
+    }
+    finish();
+  }
+
+  private void onResult(OptimizationResult result, Throwable error) {
+    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    if (cause != null) {
+      errors.increment();
+    } else if (result.isSucceeded()) {
+      succeeded.increment();
+    } else {
+      failed.increment();
+    }
+    // one result at a time, in the order they complete
+    synchronized (callbackLock) {
+      try {
+        callback.accept(result, cause);
+      } catch (RuntimeException e) {
+        // a failing callback must not stop the submission
+      }
+    }
+    permits.release();
+    finish();
+  }
+
+  private void finish() {
+    if (pending.decrementAndGet() != 0) {
+      return;
+    }
+    Throwable error = sourceError;
+    if (error != null) {
+      completion.completeExceptionally(error);
+    } else {
+      completion.complete(null);
+    }
+  }
+
+  /**
+   * Stop reading the source. The plans in flight are still completed.
+   */
+  public void cancel() {
+    cancelled = true;
+  }
+
+  /**
+   * Get a future completed when the source is exhausted and the results of
+   * all submitted plans have been passed to the callback. It is completed
+   * exceptionally if reading the source failed.
+   *
+   * @return The completion.
+   */
+  public CompletableFuture<Void> getCompletion() {
+    return completion;
+  }
+
+  /**
+   * Get the number of plans taken from the source.
+   *
+   * @return Number of submitted plans.
+   */
+  public long getSubmitted() {
+    return submitted.sum();
+  }
+
+  /**
+   * Get the number of plans in flight.
+   *
+   * @return Number of plans submitted whose result has not been passed to the
+   * callback yet.
+   */
+  public int getInFlight() {
+    int inFlight = pending.get();
+    return completion.isDone() ? 0 : Math.max(0, inFlight - 1);
+  }
+
+  /**
+   * Get the number of plans that were optimized.
+   *
+   * @return Number of succeeded optimizations.
+   */
+  public long getSucceeded() {
+    return succeeded.sum();
+  }
+
+  /**
+   * Get the number of plans whose optimization failed.
+   *
+   * @return Number of failed optimizations.
+   */
+  public long getFailed() {
+    return failed.sum();
+  }
+
+  /**
+   * Get the number of plans that could not be optimized because a call
+   * failed.
+   *
+   * @return Number of errors.
+   */
+  public long getErrors() {
+    return errors.sum();
+  }
+
+  /**
+   * Get the share of completed plans that failed or ran into an error.
+   *
+   * @return The error rate between 0 and 1, or 0 if no plan has completed.
+   */
+  public double getErrorRate() {
+    long unsuccessful = failed.sum() + errors.sum();
+    long completed = succeeded.sum() + unsuccessful;
+    return completed == 0 ? 0 : (double) unsuccessful / completed;
+  }
+
+  /**
+   * Get the number of completed plans per minute since the start of the
+   * submission.
+   *
+   * @return The throughput in plans per minute.
+   */
+  public double getThroughputPerMinute() {
+    long completed = succeeded.sum() + failed.sum() + errors.sum();
+    long elapsedNanos = System.nanoTime() - startNanos;
+    return elapsedNanos == 0 ? 0 : completed * (double) TimeUnit.MINUTES.toNanos(1) / elapsedNanos;
+  }
+}
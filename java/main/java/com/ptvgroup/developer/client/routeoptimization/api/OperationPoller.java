@@ -0,0 +1,607 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+package com.ptvgroup.developer.client.routeoptimization.api;
+
+import com.ptvgroup.developer.client.routeoptimization.AdaptivePolling;
+import com.ptvgroup.developer.client.routeoptimization.ApiClient;
+import com.ptvgroup.developer.client.routeoptimization.ChangeFeedEvent;
+import com.ptvgroup.developer.client.routeoptimization.PollEvent;
+import com.ptvgroup.developer.client.routeoptimization.TimingWheel;
+
+import com.ptvgroup.developer.client.routeoptimization.model.Operation;
+import com.ptvgroup.developer.client.routeoptimization.model.OperationStatus;
+import com.ptvgroup.developer.client.routeoptimization.model.PlanSummaries;
+import com.ptvgroup.developer.client.routeoptimization.model.PlanSummary;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Polls the status of many running operations with a few threads.
+ *
+ * <p>The next poll of every operation is scheduled on the {@link TimingWheel}
+ * of the {@link ApiClient}, at an interval chosen by its
+ * {@link AdaptivePolling}. Due polls are queued and sent asynchronously with
+ * at most a fixed number of polls in flight, so a burst of due operations does
+ * not turn into a burst of requests. The awaited operations are kept in a
+ * concurrent registry keyed by operation and plan ID: an operation is polled
+ * once, however many callers await it.</p>
+ *
+ * <p>The API classes of an {@link ApiClient} share the poller of
+ * {@link ApiClient#getOperationPoller()}.</p>
+ *
+ * <p>An awaited operation costs a few hundred bytes and no thread, so tens of
+ * thousands of operations can be awaited at once.</p>
+ *
+ * <p>With {@link #setChangeFeed(Duration, Duration) the change feed} enabled,
+ * the poller retrieves the plan summaries periodically instead and polls the
+ * status of an operation only when the update time of its plan has changed
+ * since the previous summaries. One call of {@code getPlanSummaries} then
+ * replaces the status polls of every awaited operation whose plan is
+ * unchanged. Each operation is still polled on its own at the fallback
+ * interval, in case an operation ends without changing its plan. The service
+ * lists only the 1000 least recently updated plans in the summaries; an
+ * operation whose plan is not listed is polled at its adaptive interval as
+ * without the change feed.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class OperationPoller {
+  private static final long CLOCK_SKEW_MILLIS = 1000;
+
+  private final OperationsApi operationsApi;
+  private final ApiClient apiClient;
+  private final AdaptivePolling adaptivePolling;
+  private final int maxConcurrentPolls;
+  private final ConcurrentMap<String, Registration> registry = new ConcurrentHashMap<>();
+  private final Queue<Registration> due = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger drainRequests = new AtomicInteger();
+  private volatile boolean closed;
+
+  private volatile PlansApi plansApi;
+  private volatile long changeFeedIntervalNanos = -1;
+  private volatile long changeFeedFallbackNanos;
+  private final AtomicBoolean changeFeedRunning = new AtomicBoolean();
+  private final Map<UUID, OffsetDateTime> updateTimes = new HashMap<>();
+  private final LongAdder summaryCalls = new LongAdder();
+  private final LongAdder pollsSkipped = new LongAdder();
+
+  public OperationPoller(ApiClient apiClient) {
+    this(apiClient, 64);
+  }
+
+  /**
+   * Create a poller.
+   *
+   * @param apiClient The client the API class, the timing wheel and the
+   *                  adaptive polling are taken from.
+   * @param maxConcurrentPolls The maximum number of polls in flight.
+   */
+  public OperationPoller(ApiClient apiClient, int maxConcurrentPolls) {
+    if (maxConcurrentPolls < 1) {
+      throw new IllegalArgumentException("maxConcurrentPolls must be positive");
+    }
+    this.operationsApi = new OperationsApi(apiClient);
+    this.apiClient = apiClient;
+    this.adaptivePolling = apiClient.getAdaptivePolling();
+    this.maxConcurrentPolls = maxConcurrentPolls;
+  }
+
+  /**
+   * Enable the change feed.
+   *
+   * @param interval The time between two calls of {@code getPlanSummaries},
+   *                 or null to disable the change feed.
+   * @param fallbackInterval The minimum time between two polls of an
+   *                         operation whose plan is unchanged.
+   * @return This object.
+   */
+  public OperationPoller setChangeFeed(Duration interval, Duration fallbackInterval) {
+    if (interval != null && plansApi == null) {
+      plansApi = new PlansApi(apiClient);
+    }
+    changeFeedFallbackNanos = fallbackInterval == null ? 0 : fallbackInterval.toNanos();
+    changeFeedIntervalNanos = interval == null ? -1 : interval.toNanos();
+    startChangeFeed();
+    return this;
+  }
+
+  /**
+   * Wait for the optimization of a plan to finish.
+   *
+   * <p>The returned future is completed with the first status other than
+   * RUNNING, so a failed optimization completes it normally. It is completed
+   * exceptionally with a {@link TimeoutException} if the optimization is still
+   * running at the deadline, or with the exception of a failed poll.
+   * Cancelling the future stops the polling once no other caller awaits the
+   * plan, it does not cancel the optimization. If the poller is
+   * {@link #close() closed}, the future is completed exceptionally with an
+   * {@link IllegalStateException}.</p>
+   *
+   * @param id ID of the plan.
+   * @param deadline The time after which waiting is given up, or null to wait
+   *                 as long as it takes.
+   * @param planSize The size of the plan, for example its number of
+   *                 transports, or 0 if unknown.
+   * @return A future completed with the first status other than RUNNING.
+   */
+  public CompletableFuture<Operation> awaitOptimization(UUID id, Instant deadline, int planSize) {
+    return await("optimization", id, deadline, planSize);
+  }
+
+  /**
+   * Wait for the evaluation of a plan to finish, like
+   * {@link #awaitOptimization}.
+   *
+   * @param id ID of the plan.
+   * @param deadline The time after which waiting is given up, or null to wait
+   *                 as long as it takes.
+   * @param planSize The size of the plan, or 0 if unknown.
+   * @return A future completed with the first status other than RUNNING.
+   */
+  public CompletableFuture<Operation> awaitEvaluation(UUID id, Instant deadline, int planSize) {
+    return await("evaluation", id, deadline, planSize);
+  }
+
+  private CompletableFuture<Operation> await(String operationName, UUID id, Instant deadline, int planSize) {
+    // awaiting the evaluation of a plan must not join the poll of its optimization
+    String key = operationName + ':' + id;
+    Registration registration;
+    while (true) {
+      Registration created = new Registration(operationName, id, planSize);
+      registration = registry.putIfAbsent(key, created);
+      if (registration == null) {
+        registration = created;
+        registration.result.whenComplete((operation, error) -> registry.remove(key, created));
+        if (closed) {
+          // closed while registering, close() may have missed the registration
+          registration.result.completeExceptionally(new IllegalStateException("ApiClient closed"));
+          return registration.result.copy();
+        }
+        registration.enqueue();
+        startChangeFeed();
+        break;
+      }
+      if (registration.addWaiter()) {
+        break;
+      }
+      // the last waiter has just left, the registration is being removed
+      registry.remove(key, registration);
+    }
+    Registration awaited = registration;
+    CompletableFuture<Operation> waiter = awaited.result.copy();
+    waiter.whenComplete((operation, error) -> awaited.removeWaiter());
+    if (deadline != null) {
+      long remaining = Duration.between(Instant.now(), deadline).toNanos();
+      TimingWheel.Timeout timeout = apiClient.getTimingWheel().schedule(() -> waiter.completeExceptionally(new TimeoutException(
+          "The " + operationName + " of plan " + id + " is still running at the deadline " + deadline)),
+          remaining, TimeUnit.NANOSECONDS);
+      waiter.whenComplete((operation, error) -> timeout.cancel());
+    }
+    return waiter;
+  }
+
+  /**
+   * Stop polling. Every awaited operation is completed exceptionally with an
+   * {@link IllegalStateException}, and so is every operation awaited
+   * afterwards. {@link ApiClient#close()} closes its poller.
+   */
+  public void close() {
+    closed = true;
+    IllegalStateException error = new IllegalStateException("ApiClient closed");
+    for (Registration registration : registry.values()) {
+      registration.result.completeExceptionally(error);
+    }
+  }
+
+  private void startChangeFeed() {
+    long interval = changeFeedIntervalNanos;
+    if (interval >= 0 && !closed && !registry.isEmpty() && changeFeedRunning.compareAndSet(false, true)) {
+      apiClient.getTimingWheel().schedule(this::readChangeFeed, interval, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void readChangeFeed() {
+    if (changeFeedIntervalNanos < 0 || registry.isEmpty()) {
+      changeFeedRunning.set(false);
+      // a registration may have arrived after the check
+      startChangeFeed();
+      return;
+    }
+    summaryCalls.increment();
+    plansApi.getPlanSummariesAsync().whenComplete((summaries, error) -> {
+      if (summaries != null) {
+        onSummaries(summaries);
+      }
+      changeFeedRunning.set(false);
+      startChangeFeed();
+    });
+  }
+
+  private void onSummaries(PlanSummaries summaries) {
+    ChangeFeedEvent event = ApiClient.isFlightRecorderAvailable() ? new ChangeFeedEvent() : null;
+    if (event != null) {
+      event.begin();
+    }
+    int queued = 0;
+    int skipped = 0;
+    Map<UUID, OffsetDateTime> current = new HashMap<>();
+    if (summaries.getSummaries() != null) {
+      for (PlanSummary summary : summaries.getSummaries()) {
+        current.put(summary.getId(), summary.getUpdateTime());
+      }
+    }
+    // the feed is read by one cycle at a time
+    synchronized (updateTimes) {
+      long now = System.nanoTime();
+      for (Registration registration : registry.values()) {
+        OffsetDateTime updateTime = current.get(registration.id);
+        if (updateTime == null) {
+          // not listed, the feed cannot tell whether it changed
+          if (registration.unlisted(now)) {
+            registration.enqueue();
+            queued++;
+          }
+          continue;
+        }
+        OffsetDateTime previous = updateTimes.get(registration.id);
+        // a plan first seen now has changed if it was updated after its last poll
+        if (previous != null ? !updateTime.equals(previous) : registration.updatedSincePoll(updateTime)) {
+          registration.changed();
+          queued++;
+        } else {
+          int skippedPolls = registration.skipDuePolls(now);
+          pollsSkipped.add(skippedPolls);
+          skipped += skippedPolls;
+        }
+      }
+      updateTimes.clear();
+      updateTimes.putAll(current);
+    }
+    if (event != null) {
+      event.end();
+      if (event.shouldCommit()) {
+        event.summaries = current.size();
+        event.pollsQueued = queued;
+        event.pollsSkipped = skipped;
+        event.commit();
+      }
+    }
+  }
+
+  /**
+   * Send due polls while fewer than the maximum are in flight. A poll that
+   * fails right away drains again from within; that nested drain only asks
+   * the running one for another pass, so the stack does not grow.
+   */
+  private void drain() {
+    if (drainRequests.getAndIncrement() != 0) {
+      return;
+    }
+    do {
+      while (!due.isEmpty()) {
+        int current = inFlight.get();
+        if (current >= maxConcurrentPolls) {
+          break;
+        }
+        if (!inFlight.compareAndSet(current, current + 1)) {
+          continue;
+        }
+        Registration registration = due.poll();
+        if (registration == null || registration.result.isDone()) {
+          inFlight.decrementAndGet();
+          continue;
+        }
+        poll(registration);
+      }
+    } while (drainRequests.decrementAndGet() != 0);
+  }
+
+  private void poll(Registration registration) {
+    PollEvent event = ApiClient.isFlightRecorderAvailable() ? new PollEvent() : null;
+    if (event != null) {
+      event.begin();
+    }
+    long pollNanos = System.nanoTime();
+    long pollMillis = System.currentTimeMillis();
+    adaptivePolling.recordPoll(registration.operationName);
+    CompletableFuture<Operation> status;
+    try {
+      status = operationsApi.getOperationStatusAsync(registration.id);
+    } catch (RuntimeException e) {
+      status = CompletableFuture.failedFuture(e);
+    }
+    status.whenComplete(new PollCompletion(registration, event, pollNanos, pollMillis));
+  }
+
+  /**
+   * Completes a poll. A class instead of a lambda, because a lambda capturing
+   * the event would load jdk.jfr even when the module is not available.
+   */
+  private final class PollCompletion implements BiConsumer<Operation, Throwable> {
+    private final Registration registration;
+    private final PollEvent event;
+    private final long pollNanos;
+    private final long pollMillis;
+
+    PollCompletion(Registration registration, PollEvent event, long pollNanos, long pollMillis) {
+      this.registration = registration;
+      this.event = event;
+      this.pollNanos = pollNanos;
+      this.pollMillis = pollMillis;
+    }
+
+    @Override
+    public void accept(Operation operation, Throwable error) {
+      inFlight.decrementAndGet();
+      long delay = -1;
+      if (error != null) {
+        registration.result.completeExceptionally(error);
+      } else {
+        registration.polledAtMillis = pollMillis;
+        delay = registration.onStatus(operation, pollNanos);
+      }
+      if (event != null) {
+        event.end();
+        if (event.shouldCommit()) {
+          event.operation = registration.operationName;
+          event.planId = registration.id.toString();
+          event.status = operation != null && operation.getStatus() != null ? operation.getStatus().getValue() : null;
+          event.elapsedTime = operation != null && operation.getElapsedTime() != null
+              ? TimeUnit.SECONDS.toNanos(operation.getElapsedTime()) : 0;
+          event.nextPollDelay = delay;
+          event.commit();
+        }
+      }
+      drain();
+    }
+  }
+
+  /**
+   * Get the number of awaited operations.
+   *
+   * @return Number of registered operations.
+   */
+  public int getRegistered() {
+    return registry.size();
+  }
+
+  /**
+   * Get the number of polls in flight.
+   *
+   * @return Number of polls waiting for a response.
+   */
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Get the number of polls that are due but wait for one of the polls in
+   * flight to complete.
+   *
+   * @return Number of queued polls.
+   */
+  public int getQueued() {
+    return due.size();
+  }
+
+  /**
+   * Get the number of calls of {@code getPlanSummaries} made by the change
+   * feed.
+   *
+   * @return Number of summaries calls.
+   */
+  public long getSummaryCalls() {
+    return summaryCalls.sum();
+  }
+
+  /**
+   * Get the number of status polls the change feed skipped because the plan
+   * of the operation was unchanged: the polls that were due at the adaptive
+   * interval while the next poll was scheduled at the fallback interval.
+   *
+   * @return Number of skipped polls.
+   */
+  public long getPollsSkipped() {
+    return pollsSkipped.sum();
+  }
+
+  /**
+   * Get the number of requests the change feed saved: the skipped status polls
+   * minus the summaries calls that replaced them.
+   *
+   * @return Number of saved requests, negative if the change feed costs more
+   * requests than it saves.
+   */
+  public long getSavedRequests() {
+    return pollsSkipped.sum() - summaryCalls.sum();
+  }
+
+  /**
+   * An awaited operation. Its fields other than the waiters are only touched
+   * by one poll at a time.
+   */
+  private final class Registration {
+    private final String operationName;
+    private final UUID id;
+    private final int planSize;
+    private final CompletableFuture<Operation> result = new CompletableFuture<>();
+    private final AtomicInteger waiters = new AtomicInteger(1);
+    private final AtomicBoolean active = new AtomicBoolean();
+    private final long startNanos = System.nanoTime();
+    private long previousPollNanos = -1;
+    private long previousElapsedNanos;
+    private volatile TimingWheel.Timeout nextPoll;
+    // guarded by this: the poll the adaptive interval would have sent next, if
+    // the change feed has put it off to the fallback interval, else -1
+    private long adaptiveDueNanos = -1;
+    private boolean listed = true;
+    private boolean changedDuringPoll;
+    private volatile long polledAtMillis = Long.MAX_VALUE;
+
+    Registration(String operationName, UUID id, int planSize) {
+      this.operationName = operationName;
+      this.id = id;
+      this.planSize = planSize;
+      result.whenComplete((operation, error) -> {
+        TimingWheel.Timeout timeout = nextPoll;
+        if (timeout != null) {
+          timeout.cancel();
+        }
+      });
+    }
+
+    boolean addWaiter() {
+      while (true) {
+        int current = waiters.get();
+        if (current == 0) {
+          return false;
+        }
+        if (waiters.compareAndSet(current, current + 1)) {
+          return true;
+        }
+      }
+    }
+
+    /**
+     * Queue a poll, unless a poll is already queued or in flight.
+     */
+    void enqueue() {
+      if (!active.compareAndSet(false, true)) {
+        return;
+      }
+      TimingWheel.Timeout timeout = nextPoll;
+      if (timeout != null) {
+        timeout.cancel();
+      }
+      synchronized (this) {
+        adaptiveDueNanos = -1;
+      }
+      due.add(this);
+      drain();
+    }
+
+    /**
+     * Queue a poll because the plan has changed. If a poll is in flight, it
+     * may have been answered before the change, so the next poll is not put
+     * off to the fallback interval.
+     */
+    void changed() {
+      synchronized (this) {
+        listed = true;
+        changedDuringPoll = true;
+      }
+      enqueue();
+    }
+
+    /**
+     * Check whether the plan was updated after the last answered poll was
+     * sent, allowing for the clock of the service to differ from ours.
+     */
+    boolean updatedSincePoll(OffsetDateTime updateTime) {
+      return updateTime.toInstant().toEpochMilli() > polledAtMillis - CLOCK_SKEW_MILLIS;
+    }
+
+    /**
+     * Count the polls that were due at the adaptive interval since the last
+     * count, which the change feed skipped because the plan is unchanged.
+     */
+    synchronized int skipDuePolls(long now) {
+      listed = true;
+      int skipped = 0;
+      if (adaptiveDueNanos >= 0 && !active.get()) {
+        while (now - adaptiveDueNanos >= 0) {
+          skipped++;
+          // the interval the adaptive polling would have chosen at that poll
+          long elapsedNanos = previousElapsedNanos + (adaptiveDueNanos - previousPollNanos);
+          adaptiveDueNanos += Math.max(1, adaptivePolling.nextDelayNanos(operationName, planSize, elapsedNanos));
+        }
+      }
+      return skipped;
+    }
+
+    /**
+     * Put the operation of a plan that is not listed in the summaries back on
+     * its adaptive schedule.
+     *
+     * @return True if a poll is due at the adaptive interval already.
+     */
+    synchronized boolean unlisted(long now) {
+      listed = false;
+      return adaptiveDueNanos >= 0 && !active.get() && now - adaptiveDueNanos >= 0;
+    }
+
+    void removeWaiter() {
+      if (waiters.decrementAndGet() == 0) {
+        result.cancel(false);
+      }
+    }
+
+    /**
+     * Complete the result or schedule the next poll.
+     *
+     * @return The delay of the next poll in nanoseconds, or -1 if there is none.
+     */
+    long onStatus(Operation operation, long pollNanos) {
+      long elapsedNanos = operation.getElapsedTime() != null
+          ? TimeUnit.SECONDS.toNanos(operation.getElapsedTime()) : System.nanoTime() - startNanos;
+      if (operation.getStatus() != OperationStatus.RUNNING) {
+        long lagNanos = -1;
+        if (previousPollNanos >= 0 && operation.getElapsedTime() != null) {
+          // the elapsed time stops growing when the operation ends
+          long finishedNanos = previousPollNanos + (elapsedNanos - previousElapsedNanos);
+          lagNanos = Math.max(0, Math.min(pollNanos - previousPollNanos, pollNanos - finishedNanos));
+        }
+        adaptivePolling.recordCompletion(operationName, planSize, elapsedNanos, lagNanos);
+        result.complete(operation);
+        return -1;
+      }
+      previousPollNanos = pollNanos;
+      previousElapsedNanos = elapsedNanos;
+      // from here on the change feed may queue the next poll
+      active.set(false);
+      long delay = adaptivePolling.nextDelayNanos(operationName, planSize, elapsedNanos);
+      synchronized (this) {
+        adaptiveDueNanos = -1;
+        boolean changed = changedDuringPoll;
+        changedDuringPoll = false;
+        if (changeFeedIntervalNanos >= 0 && listed && !changed && changeFeedFallbackNanos > delay) {
+          adaptiveDueNanos = pollNanos + Math.max(1, delay);
+          delay = changeFeedFallbackNanos;
+        }
+      }
+      try {
+        nextPoll = apiClient.getTimingWheel().schedule(this::enqueue, delay, TimeUnit.NANOSECONDS);
+      } catch (IllegalStateException e) {
+        result.completeExceptionally(e);
+        return -1;
+      }
+      if (result.isDone()) {
+        nextPoll.cancel();
+        return -1;
+      }
+      return delay;
+    }
+  }
+}
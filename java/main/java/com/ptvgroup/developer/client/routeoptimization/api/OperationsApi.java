@@ -12,10 +12,17 @@
 
 package com.ptvgroup.developer.client.routeoptimization.api;
 
+import com.ptvgroup.developer.client.routeoptimization.AdaptivePolling;
 import com.ptvgroup.developer.client.routeoptimization.ApiClient;
 import com.ptvgroup.developer.client.routeoptimization.ApiException;
+import com.ptvgroup.developer.client.routeoptimization.ApiInvoker;
 import com.ptvgroup.developer.client.routeoptimization.ApiResponse;
+import com.ptvgroup.developer.client.routeoptimization.CallMetrics;
+import com.ptvgroup.developer.client.routeoptimization.JsonCodecs;
 import com.ptvgroup.developer.client.routeoptimization.Pair;
+import com.ptvgroup.developer.client.routeoptimization.PlanCache;
+import com.ptvgroup.developer.client.routeoptimization.SingleFlight;
+import com.ptvgroup.developer.client.routeoptimization.TimingWheel;
 
 import com.ptvgroup.developer.client.routeoptimization.model.ErrorResponse;
 import com.ptvgroup.developer.client.routeoptimization.model.Operation;
@@ -23,8 +30,6 @@ import com.ptvgroup.developer.client.routeoptimization.model.OptimizationQuality
 import com.ptvgroup.developer.client.routeoptimization.model.TweakToObjective;
 import java.util.UUID;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.InputStream;
 import java.io.ByteArrayInputStream;
@@ -40,40 +45,55 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.time.Instant;
 
 import java.util.ArrayList;
 import java.util.StringJoiner;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2025-10-27T08:50:35.495306091Z[Etc/UTC]", comments = "Generator version: 7.9.0")
 public class OperationsApi {
-  private final HttpClient memberVarHttpClient;
-  private final ObjectMapper memberVarObjectMapper;
+  private final ApiInvoker memberVarInvoker;
+  private final JsonCodecs memberVarJsonCodecs;
   private final String memberVarBaseUri;
   private final Consumer<HttpRequest.Builder> memberVarInterceptor;
   private final Duration memberVarReadTimeout;
   private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
   private final Consumer<HttpResponse<String>> memberVarAsyncResponseInterceptor;
+  private final SingleFlight memberVarSingleFlight;
+  private final PlanCache memberVarPlanCache;
+  private final ApiClient memberVarApiClient;
 
   public OperationsApi() {
     this(new ApiClient());
   }
 
   public OperationsApi(ApiClient apiClient) {
-    memberVarHttpClient = apiClient.getHttpClient();
-    memberVarObjectMapper = apiClient.getObjectMapper();
+    memberVarInvoker = apiClient.getInvoker();
+    memberVarJsonCodecs = apiClient.getJsonCodecs();
     memberVarBaseUri = apiClient.getBaseUri();
     memberVarInterceptor = apiClient.getRequestInterceptor();
     memberVarReadTimeout = apiClient.getReadTimeout();
     memberVarResponseInterceptor = apiClient.getResponseInterceptor();
     memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
+    memberVarSingleFlight = apiClient.getSingleFlight();
+    memberVarPlanCache = apiClient.getPlanCache();
+    memberVarApiClient = apiClient;
   }
 
   protected ApiException getApiException(String operationId, HttpResponse<InputStream> response) throws IOException {
-    String body = response.body() == null ? null : new String(response.body().readAllBytes());
+    String body = response.body() == null ? null : memberVarInvoker.readString(response.body());
+    String message = formatExceptionMessage(operationId, response.statusCode(), body);
+    return new ApiException(response.statusCode(), message, response.headers(), body);
+  }
+
+  protected ApiException getAsyncApiException(String operationId, HttpResponse<String> response) {
+    String body = response.body();
     String message = formatExceptionMessage(operationId, response.statusCode(), body);
     return new ApiException(response.statusCode(), message, response.headers(), body);
   }
@@ -103,11 +123,15 @@ public class OperationsApi {
    * @throws ApiException if fails to make API call
    */
   public ApiResponse<Void> cancelOperationWithHttpInfo(UUID id) throws ApiException {
+    if (memberVarPlanCache != null && id != null) {
+      memberVarPlanCache.invalidate(id);
+    }
+    CallMetrics localVarMetrics = memberVarInvoker.startCall("cancelOperation");
     HttpRequest.Builder localVarRequestBuilder = cancelOperationRequestBuilder(id);
     try {
-      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofInputStream());
+      HttpResponse<InputStream> localVarResponse = memberVarInvoker.send(
+          localVarMetrics,
+          localVarRequestBuilder.build());
       if (memberVarResponseInterceptor != null) {
         memberVarResponseInterceptor.accept(localVarResponse);
       }
@@ -134,6 +158,54 @@ public class OperationsApi {
       Thread.currentThread().interrupt();
       throw new ApiException(e);
     }
+    finally {
+      localVarMetrics.finish();
+    }
+  }
+
+  /**
+   * 
+   * Cancels the current operation of a plan. After cancelling an operation, the operation status for this plan can no longer be retrieved.
+   * @param id ID of the plan which corresponding operation should be cancelled. (required)
+   * @return CompletableFuture&lt;Void&gt;
+   */
+  public CompletableFuture<Void> cancelOperationAsync(UUID id) {
+    return cancelOperationWithHttpInfoAsync(id).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * 
+   * Cancels the current operation of a plan. After cancelling an operation, the operation status for this plan can no longer be retrieved.
+   * @param id ID of the plan which corresponding operation should be cancelled. (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;
+   */
+  public CompletableFuture<ApiResponse<Void>> cancelOperationWithHttpInfoAsync(UUID id) {
+    if (memberVarPlanCache != null && id != null) {
+      memberVarPlanCache.invalidate(id);
+    }
+    try {
+      CallMetrics localVarMetrics = memberVarInvoker.startCall("cancelOperation");
+      HttpRequest.Builder localVarRequestBuilder = cancelOperationRequestBuilder(id);
+      return memberVarInvoker.sendAsync(
+          localVarMetrics,
+          localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            if (memberVarAsyncResponseInterceptor != null) {
+              memberVarAsyncResponseInterceptor.accept(localVarResponse);
+            }
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getAsyncApiException("cancelOperation", localVarResponse));
+            }
+            return CompletableFuture.completedFuture(
+                new ApiResponse<Void>(
+                    localVarResponse.statusCode(),
+                    localVarResponse.headers().map(),
+                    null)
+            );
+          }
+      ).whenComplete((localVarResult, localVarError) -> localVarMetrics.finish());
+    } catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
   }
 
   private HttpRequest.Builder cancelOperationRequestBuilder(UUID id) throws ApiException {
@@ -150,6 +222,7 @@ public class OperationsApi {
     localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
 
     localVarRequestBuilder.header("Accept", "application/json");
+    memberVarInvoker.setAcceptEncoding(localVarRequestBuilder);
 
     localVarRequestBuilder.method("DELETE", HttpRequest.BodyPublishers.noBody());
     if (memberVarReadTimeout != null) {
@@ -181,11 +254,19 @@ public class OperationsApi {
    * @throws ApiException if fails to make API call
    */
   public ApiResponse<Operation> getOperationStatusWithHttpInfo(UUID id) throws ApiException {
+    if (memberVarSingleFlight != null) {
+      return memberVarSingleFlight.execute("getOperationStatus", id, () -> sendGetOperationStatus(id));
+    }
+    return sendGetOperationStatus(id);
+  }
+
+  private ApiResponse<Operation> sendGetOperationStatus(UUID id) throws ApiException {
+    CallMetrics localVarMetrics = memberVarInvoker.startCall("getOperationStatus");
     HttpRequest.Builder localVarRequestBuilder = getOperationStatusRequestBuilder(id);
     try {
-      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofInputStream());
+      HttpResponse<InputStream> localVarResponse = memberVarInvoker.send(
+          localVarMetrics,
+          localVarRequestBuilder.build());
       if (memberVarResponseInterceptor != null) {
         memberVarResponseInterceptor.accept(localVarResponse);
       }
@@ -196,7 +277,7 @@ public class OperationsApi {
         return new ApiResponse<Operation>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<Operation>() {}) // closes the InputStream
+          localVarResponse.body() == null ? null : memberVarJsonCodecs.getOperationReader().readValue(localVarResponse.body()) // closes the InputStream
         );
       } finally {
       }
@@ -207,6 +288,63 @@ public class OperationsApi {
       Thread.currentThread().interrupt();
       throw new ApiException(e);
     }
+    finally {
+      localVarMetrics.finish();
+    }
+  }
+
+  /**
+   * 
+   * Retrieves the status of the current operation that is executed for the plan. If currently no operation is executed the status of the last executed operation is returned.
+   * @param id ID of the plan for which the corresponding operation status should be requested. (required)
+   * @return CompletableFuture&lt;Operation&gt;
+   */
+  public CompletableFuture<Operation> getOperationStatusAsync(UUID id) {
+    return getOperationStatusWithHttpInfoAsync(id).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * 
+   * Retrieves the status of the current operation that is executed for the plan. If currently no operation is executed the status of the last executed operation is returned.
+   * @param id ID of the plan for which the corresponding operation status should be requested. (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Operation&gt;&gt;
+   */
+  public CompletableFuture<ApiResponse<Operation>> getOperationStatusWithHttpInfoAsync(UUID id) {
+    if (memberVarSingleFlight != null) {
+      return memberVarSingleFlight.executeAsync("getOperationStatus", id, () -> sendGetOperationStatusAsync(id));
+    }
+    return sendGetOperationStatusAsync(id);
+  }
+
+  private CompletableFuture<ApiResponse<Operation>> sendGetOperationStatusAsync(UUID id) {
+    try {
+      CallMetrics localVarMetrics = memberVarInvoker.startCall("getOperationStatus");
+      HttpRequest.Builder localVarRequestBuilder = getOperationStatusRequestBuilder(id);
+      return memberVarInvoker.sendAsync(
+          localVarMetrics,
+          localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            if (memberVarAsyncResponseInterceptor != null) {
+              memberVarAsyncResponseInterceptor.accept(localVarResponse);
+            }
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getAsyncApiException("getOperationStatus", localVarResponse));
+            }
+            try {
+              String localVarResponseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Operation>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      localVarResponseBody == null || localVarResponseBody.isBlank() ? null : memberVarJsonCodecs.getOperationReader().readValue(localVarResponseBody))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+          }
+      ).whenComplete((localVarResult, localVarError) -> localVarMetrics.finish());
+    } catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
   }
 
   private HttpRequest.Builder getOperationStatusRequestBuilder(UUID id) throws ApiException {
@@ -223,6 +361,7 @@ public class OperationsApi {
     localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
 
     localVarRequestBuilder.header("Accept", "application/json");
+    memberVarInvoker.setAcceptEncoding(localVarRequestBuilder);
 
     localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
     if (memberVarReadTimeout != null) {
@@ -234,6 +373,63 @@ public class OperationsApi {
     return localVarRequestBuilder;
   }
 
+  /**
+   * Wait for the optimization of a plan to finish, polling its status at
+   * intervals chosen by the {@link AdaptivePolling} of the {@link ApiClient}.
+   * @param id ID of the plan. (required)
+   * @param deadline The time after which waiting is given up, or null to wait as long as it takes. (optional)
+   * @return CompletableFuture&lt;Operation&gt; completed with the first status other than RUNNING
+   */
+  public CompletableFuture<Operation> awaitOptimization(UUID id, Instant deadline) {
+    return awaitOptimization(id, deadline, 0);
+  }
+
+  /**
+   * Wait for the optimization of a plan to finish, polling its status at
+   * intervals chosen by the {@link AdaptivePolling} of the {@link ApiClient}.
+   * The polls are made by the {@link ApiClient#getOperationPoller() operation
+   * poller} of the client, which schedules them on its {@link TimingWheel},
+   * bounds the number of polls in flight and can poll through the change feed
+   * of the plan summaries.
+   *
+   * <p>The returned future is completed with the first status other than
+   * RUNNING, so a failed optimization completes it normally. It is completed
+   * exceptionally with a {@link TimeoutException} if the optimization is still
+   * running at the deadline, or with the {@link ApiException} of a failed poll.
+   * Cancelling the future stops the polling, not the optimization.</p>
+   *
+   * @param id ID of the plan. (required)
+   * @param deadline The time after which waiting is given up, or null to wait as long as it takes. (optional)
+   * @param planSize The size of the plan, for example its number of transports, or 0 if unknown. Operations on plans of similar size are expected to take similar time.
+   * @return CompletableFuture&lt;Operation&gt; completed with the first status other than RUNNING
+   */
+  public CompletableFuture<Operation> awaitOptimization(UUID id, Instant deadline, int planSize) {
+    return memberVarApiClient.getOperationPoller().awaitOptimization(id, deadline, planSize);
+  }
+
+  /**
+   * Wait for the evaluation of a plan to finish, polling its status at
+   * intervals chosen by the {@link AdaptivePolling} of the {@link ApiClient}.
+   * @param id ID of the plan. (required)
+   * @param deadline The time after which waiting is given up, or null to wait as long as it takes. (optional)
+   * @return CompletableFuture&lt;Operation&gt; completed with the first status other than RUNNING
+   */
+  public CompletableFuture<Operation> awaitEvaluation(UUID id, Instant deadline) {
+    return awaitEvaluation(id, deadline, 0);
+  }
+
+  /**
+   * Wait for the evaluation of a plan to finish, like
+   * {@link #awaitOptimization(UUID, Instant, int)}.
+   * @param id ID of the plan. (required)
+   * @param deadline The time after which waiting is given up, or null to wait as long as it takes. (optional)
+   * @param planSize The size of the plan, for example its number of transports, or 0 if unknown.
+   * @return CompletableFuture&lt;Operation&gt; completed with the first status other than RUNNING
+   */
+  public CompletableFuture<Operation> awaitEvaluation(UUID id, Instant deadline, int planSize) {
+    return memberVarApiClient.getOperationPoller().awaitEvaluation(id, deadline, planSize);
+  }
+
   /**
    * 
    * Starts an asynchronous evaluation of the specified plan. Only one operation can be started for a plan at a time. Trying to start another operation before the current operation is finished results in an error. Whether an operation is finished or not can be checked with \&quot;getOperationStatus\&quot;. To get the result after the operation is finished \&quot;getPlan\&quot; can be used. Evaluation of a plan calculates driving times, service times, break and rest times and waiting times taking into account given time intervals. It may happen that not all restrictions can be fullfilled in which case one or more violations are reported. Evaluation does not change which transports are scheduled into which route nor their sequence, it does also not change the assignments of routes to vehicles.
@@ -252,11 +448,15 @@ public class OperationsApi {
    * @throws ApiException if fails to make API call
    */
   public ApiResponse<Void> startEvaluationWithHttpInfo(UUID id) throws ApiException {
+    if (memberVarPlanCache != null && id != null) {
+      memberVarPlanCache.invalidate(id);
+    }
+    CallMetrics localVarMetrics = memberVarInvoker.startCall("startEvaluation");
     HttpRequest.Builder localVarRequestBuilder = startEvaluationRequestBuilder(id);
     try {
-      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofInputStream());
+      HttpResponse<InputStream> localVarResponse = memberVarInvoker.send(
+          localVarMetrics,
+          localVarRequestBuilder.build());
       if (memberVarResponseInterceptor != null) {
         memberVarResponseInterceptor.accept(localVarResponse);
       }
@@ -283,6 +483,54 @@ public class OperationsApi {
       Thread.currentThread().interrupt();
       throw new ApiException(e);
     }
+    finally {
+      localVarMetrics.finish();
+    }
+  }
+
+  /**
+   * 
+   * Starts an asynchronous evaluation of the specified plan. Only one operation can be started for a plan at a time. Trying to start another operation before the current operation is finished results in an error. Whether an operation is finished or not can be checked with \&quot;getOperationStatus\&quot;. To get the result after the operation is finished \&quot;getPlan\&quot; can be used. Evaluation of a plan calculates driving times, service times, break and rest times and waiting times taking into account given time intervals. It may happen that not all restrictions can be fullfilled in which case one or more violations are reported. Evaluation does not change which transports are scheduled into which route nor their sequence, it does also not change the assignments of routes to vehicles.
+   * @param id ID of the plan to be evaluated. (required)
+   * @return CompletableFuture&lt;Void&gt;
+   */
+  public CompletableFuture<Void> startEvaluationAsync(UUID id) {
+    return startEvaluationWithHttpInfoAsync(id).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * 
+   * Starts an asynchronous evaluation of the specified plan. Only one operation can be started for a plan at a time. Trying to start another operation before the current operation is finished results in an error. Whether an operation is finished or not can be checked with \&quot;getOperationStatus\&quot;. To get the result after the operation is finished \&quot;getPlan\&quot; can be used. Evaluation of a plan calculates driving times, service times, break and rest times and waiting times taking into account given time intervals. It may happen that not all restrictions can be fullfilled in which case one or more violations are reported. Evaluation does not change which transports are scheduled into which route nor their sequence, it does also not change the assignments of routes to vehicles.
+   * @param id ID of the plan to be evaluated. (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;
+   */
+  public CompletableFuture<ApiResponse<Void>> startEvaluationWithHttpInfoAsync(UUID id) {
+    if (memberVarPlanCache != null && id != null) {
+      memberVarPlanCache.invalidate(id);
+    }
+    try {
+      CallMetrics localVarMetrics = memberVarInvoker.startCall("startEvaluation");
+      HttpRequest.Builder localVarRequestBuilder = startEvaluationRequestBuilder(id);
+      return memberVarInvoker.sendAsync(
+          localVarMetrics,
+          localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            if (memberVarAsyncResponseInterceptor != null) {
+              memberVarAsyncResponseInterceptor.accept(localVarResponse);
+            }
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getAsyncApiException("startEvaluation", localVarResponse));
+            }
+            return CompletableFuture.completedFuture(
+                new ApiResponse<Void>(
+                    localVarResponse.statusCode(),
+                    localVarResponse.headers().map(),
+                    null)
+            );
+          }
+      ).whenComplete((localVarResult, localVarError) -> localVarMetrics.finish());
+    } catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
   }
 
   private HttpRequest.Builder startEvaluationRequestBuilder(UUID id) throws ApiException {
@@ -299,6 +547,7 @@ public class OperationsApi {
     localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
 
     localVarRequestBuilder.header("Accept", "application/json");
+    memberVarInvoker.setAcceptEncoding(localVarRequestBuilder);
 
     localVarRequestBuilder.method("POST", HttpRequest.BodyPublishers.noBody());
     if (memberVarReadTimeout != null) {
@@ -336,11 +585,15 @@ public class OperationsApi {
    * @throws ApiException if fails to make API call
    */
   public ApiResponse<Void> startOptimizationWithHttpInfo(UUID id, OptimizationQuality quality, List<TweakToObjective> tweaksToObjective, Boolean considerTransportPriorities, Boolean optimizationPremium) throws ApiException {
+    if (memberVarPlanCache != null && id != null) {
+      memberVarPlanCache.invalidate(id);
+    }
+    CallMetrics localVarMetrics = memberVarInvoker.startCall("startOptimization");
     HttpRequest.Builder localVarRequestBuilder = startOptimizationRequestBuilder(id, quality, tweaksToObjective, considerTransportPriorities, optimizationPremium);
     try {
-      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofInputStream());
+      HttpResponse<InputStream> localVarResponse = memberVarInvoker.send(
+          localVarMetrics,
+          localVarRequestBuilder.build());
       if (memberVarResponseInterceptor != null) {
         memberVarResponseInterceptor.accept(localVarResponse);
       }
@@ -367,6 +620,62 @@ public class OperationsApi {
       Thread.currentThread().interrupt();
       throw new ApiException(e);
     }
+    finally {
+      localVarMetrics.finish();
+    }
+  }
+
+  /**
+   * 
+   * Starts an asynchronous optimization of the specified plan. Only one operation can be started for a plan at a time. Trying to start another operation before the current operation is finished results in an error. Whether an operation is finished or not can be checked with \&quot;getOperationStatus\&quot;. To get the result after the operation is finished \&quot;getPlan\&quot; can be used. In the optimized plan, routes ideally include all transports that are specified in the request. Routes have additional information like arrival and departure times, driving times, service times and more.  If you call startOptimization multiple times consecutively for the same id, the optimization uses the result of the previous optimization as input, so previously planned transports remain planned in the output routes. If this is not what you intend to do, you can create a new plan before another startOptimization call.  When starting the optimization, the number of transports in the plan is used to calculate the number of transactions, see [here](../../help/faq-help) for more information.
+   * @param id ID of the plan to be optimized. (required)
+   * @param quality The optimization quality defines the tradeoff between calculation time and quality. A high solution quality and a low calculation time are conflicting. A larger solution search space may lead to a better solution but will take more calculation time.   * &#x60;STANDARD&#x60; - This quality level represents a good trade-off between solution quality and calculation time.   * &#x60;HIGH&#x60; - On this quality level, the search space is larger than on the standard level. This may lead to a better solution but will take more calculation time. (optional, default to STANDARD)
+   * @param tweaksToObjective A tweak to objective defines additional optimization criteria. Without any tweak, the standard optimization goal is to plan as many transports as possible with as few vehicles as possible.   * &#x60;AVOID_INTERSECTIONS&#x60; - The focus of this approach is to avoid intersections of edges, where an edge is a straight line drawn between two consecutive stops in a route. The number of routes may be higher compared to the standard optimization goal.   * &#x60;IGNORE_MINIMIZATION_OF_NUMBER_OF_ROUTES&#x60; - With this tweak, the number of vehicles used in a plan, and thus the number of routes, is not minimized. (optional)
+   * @param considerTransportPriorities Set transport priority consideration to true or false.  See [here](./concepts/transport-priorities) for more information. (optional, default to false)
+   * @param optimizationPremium Set Optimization Premium to true to boost quality of results for all **quality** modes by taking advantage of additional computational resources.  Transactions&#39; packages for Optimization Premium are calculated differently.  See [here](./concepts/optimization-premium) for more information. (optional, default to false)
+   * @return CompletableFuture&lt;Void&gt;
+   */
+  public CompletableFuture<Void> startOptimizationAsync(UUID id, OptimizationQuality quality, List<TweakToObjective> tweaksToObjective, Boolean considerTransportPriorities, Boolean optimizationPremium) {
+    return startOptimizationWithHttpInfoAsync(id, quality, tweaksToObjective, considerTransportPriorities, optimizationPremium).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * 
+   * Starts an asynchronous optimization of the specified plan. Only one operation can be started for a plan at a time. Trying to start another operation before the current operation is finished results in an error. Whether an operation is finished or not can be checked with \&quot;getOperationStatus\&quot;. To get the result after the operation is finished \&quot;getPlan\&quot; can be used. In the optimized plan, routes ideally include all transports that are specified in the request. Routes have additional information like arrival and departure times, driving times, service times and more.  If you call startOptimization multiple times consecutively for the same id, the optimization uses the result of the previous optimization as input, so previously planned transports remain planned in the output routes. If this is not what you intend to do, you can create a new plan before another startOptimization call.  When starting the optimization, the number of transports in the plan is used to calculate the number of transactions, see [here](../../help/faq-help) for more information.
+   * @param id ID of the plan to be optimized. (required)
+   * @param quality The optimization quality defines the tradeoff between calculation time and quality. A high solution quality and a low calculation time are conflicting. A larger solution search space may lead to a better solution but will take more calculation time.   * &#x60;STANDARD&#x60; - This quality level represents a good trade-off between solution quality and calculation time.   * &#x60;HIGH&#x60; - On this quality level, the search space is larger than on the standard level. This may lead to a better solution but will take more calculation time. (optional, default to STANDARD)
+   * @param tweaksToObjective A tweak to objective defines additional optimization criteria. Without any tweak, the standard optimization goal is to plan as many transports as possible with as few vehicles as possible.   * &#x60;AVOID_INTERSECTIONS&#x60; - The focus of this approach is to avoid intersections of edges, where an edge is a straight line drawn between two consecutive stops in a route. The number of routes may be higher compared to the standard optimization goal.   * &#x60;IGNORE_MINIMIZATION_OF_NUMBER_OF_ROUTES&#x60; - With this tweak, the number of vehicles used in a plan, and thus the number of routes, is not minimized. (optional)
+   * @param considerTransportPriorities Set transport priority consideration to true or false.  See [here](./concepts/transport-priorities) for more information. (optional, default to false)
+   * @param optimizationPremium Set Optimization Premium to true to boost quality of results for all **quality** modes by taking advantage of additional computational resources.  Transactions&#39; packages for Optimization Premium are calculated differently.  See [here](./concepts/optimization-premium) for more information. (optional, default to false)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;
+   */
+  public CompletableFuture<ApiResponse<Void>> startOptimizationWithHttpInfoAsync(UUID id, OptimizationQuality quality, List<TweakToObjective> tweaksToObjective, Boolean considerTransportPriorities, Boolean optimizationPremium) {
+    if (memberVarPlanCache != null && id != null) {
+      memberVarPlanCache.invalidate(id);
+    }
+    try {
+      CallMetrics localVarMetrics = memberVarInvoker.startCall("startOptimization");
+      HttpRequest.Builder localVarRequestBuilder = startOptimizationRequestBuilder(id, quality, tweaksToObjective, considerTransportPriorities, optimizationPremium);
+      return memberVarInvoker.sendAsync(
+          localVarMetrics,
+          localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            if (memberVarAsyncResponseInterceptor != null) {
+              memberVarAsyncResponseInterceptor.accept(localVarResponse);
+            }
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getAsyncApiException("startOptimization", localVarResponse));
+            }
+            return CompletableFuture.completedFuture(
+                new ApiResponse<Void>(
+                    localVarResponse.statusCode(),
+                    localVarResponse.headers().map(),
+                    null)
+            );
+          }
+      ).whenComplete((localVarResult, localVarError) -> localVarMetrics.finish());
+    } catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
   }
 
   private HttpRequest.Builder startOptimizationRequestBuilder(UUID id, OptimizationQuality quality, List<TweakToObjective> tweaksToObjective, Boolean considerTransportPriorities, Boolean optimizationPremium) throws ApiException {
@@ -404,6 +713,7 @@ public class OperationsApi {
     }
 
     localVarRequestBuilder.header("Accept", "application/json");
+    memberVarInvoker.setAcceptEncoding(localVarRequestBuilder);
 
     localVarRequestBuilder.method("POST", HttpRequest.BodyPublishers.noBody());
     if (memberVarReadTimeout != null) {
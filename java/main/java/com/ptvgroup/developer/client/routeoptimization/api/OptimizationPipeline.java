@@ -0,0 +1,438 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+package com.ptvgroup.developer.client.routeoptimization.api;
+
+import com.ptvgroup.developer.client.routeoptimization.ApiClient;
+
+import com.ptvgroup.developer.client.routeoptimization.model.Operation;
+import com.ptvgroup.developer.client.routeoptimization.model.OperationStatus;
+import com.ptvgroup.developer.client.routeoptimization.model.OptimizationQuality;
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+import com.ptvgroup.developer.client.routeoptimization.model.TweakToObjective;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Optimizes many plans at once by running the steps of an optimization as
+ * asynchronous stages: create the plan, start the optimization, await it,
+ * fetch the optimized plan or cancel the optimization that timed out, and
+ * delete the plan from the service.
+ *
+ * <p>Every stage has its own limit of calls in flight; calls beyond the limit
+ * wait in the queue of the stage. As the stages overlap across plans, a plan
+ * is fetched as soon as its optimization has finished while other plans are
+ * still being created, and plans are deleted in the background once their
+ * result is available. No thread is blocked while a plan moves through the
+ * pipeline: the operations are awaited with the
+ * {@link ApiClient#getOperationPoller() operation poller} of the
+ * {@link ApiClient}, shared with the other awaiting callers.</p>
+ *
+ * <p>The setter methods configure the pipeline and return the current object
+ * to facilitate a fluent style of configuration; configure the pipeline
+ * before submitting plans. This class is thread-safe.</p>
+ */
+public class OptimizationPipeline {
+  /**
+   * The stages of the pipeline, in the order a plan passes them. A plan
+   * passes CANCEL instead of FETCH if its optimization timed out.
+   */
+  public enum Stage {
+    CREATE, START, AWAIT, CANCEL, FETCH, DELETE
+  }
+
+  private final PlansApi plansApi;
+  private final OperationsApi operationsApi;
+  private final OperationPoller poller;
+  private final ExecutorService executor;
+  private final Map<Stage, StageStats> stages = new EnumMap<>(Stage.class);
+
+  private volatile OptimizationQuality quality;
+  private volatile List<TweakToObjective> tweaksToObjective;
+  private volatile Boolean considerTransportPriorities;
+  private volatile Boolean optimizationPremium;
+  private volatile Duration timeout;
+  private volatile boolean deletePlans = true;
+
+  /**
+   * Create a pipeline. The number of status polls in flight is limited by
+   * {@link ApiClient#setMaxConcurrentPolls(int)}.
+   *
+   * @param apiClient The client the API classes, the poller and the executor
+   *                  are taken from.
+   */
+  public OptimizationPipeline(ApiClient apiClient) {
+    this.plansApi = new PlansApi(apiClient);
+    this.operationsApi = new OperationsApi(apiClient);
+    this.poller = apiClient.getOperationPoller();
+    this.executor = apiClient.getBackgroundExecutor();
+    stages.put(Stage.CREATE, new StageStats(16));
+    stages.put(Stage.START, new StageStats(16));
+    stages.put(Stage.AWAIT, new StageStats(Integer.MAX_VALUE));
+    stages.put(Stage.CANCEL, new StageStats(4));
+    stages.put(Stage.FETCH, new StageStats(16));
+    stages.put(Stage.DELETE, new StageStats(4));
+  }
+
+  /**
+   * Set the maximum number of calls in flight in a stage. The defaults are 16
+   * for CREATE, START and FETCH, 4 for CANCEL and DELETE and no limit for AWAIT, whose
+   * polls are bounded by the poller.
+   *
+   * @param stage The stage.
+   * @param concurrency The maximum number of calls in flight.
+   * @return This object.
+   */
+  public OptimizationPipeline setConcurrency(Stage stage, int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("concurrency must be positive");
+    }
+    stages.get(stage).concurrency = concurrency;
+    return this;
+  }
+
+  /**
+   * Set the parameters the optimizations are started with.
+   *
+   * @param quality The optimization quality (optional, default to STANDARD).
+   * @param tweaksToObjective Additional optimization criteria (optional).
+   * @param considerTransportPriorities Whether to consider transport priorities (optional, default to false).
+   * @param optimizationPremium Whether to use Optimization Premium (optional, default to false).
+   * @return This object.
+   */
+  public OptimizationPipeline setOptimizationParameters(OptimizationQuality quality, List<TweakToObjective> tweaksToObjective,
+      Boolean considerTransportPriorities, Boolean optimizationPremium) {
+    this.quality = quality;
+    this.tweaksToObjective = tweaksToObjective;
+    this.considerTransportPriorities = considerTransportPriorities;
+    this.optimizationPremium = optimizationPremium;
+    return this;
+  }
+
+  /**
+   * Set the time an optimization may take. When it is exceeded, the
+   * optimization is cancelled, whether or not plans are deleted, and the
+   * result completed exceptionally with a {@link TimeoutException} once the
+   * cancellation has been answered. A failed cancellation is only counted in
+   * the statistics of the CANCEL stage.
+   *
+   * @param timeout The timeout, or null to wait as long as it takes (default).
+   * @return This object.
+   */
+  public OptimizationPipeline setTimeout(Duration timeout) {
+    this.timeout = timeout;
+    return this;
+  }
+
+  /**
+   * Set whether plans are deleted from the service after their result is
+   * available or the optimization has failed.
+   *
+   * @param deletePlans Whether to delete the plans (default true).
+   * @return This object.
+   */
+  public OptimizationPipeline setDeletePlans(boolean deletePlans) {
+    this.deletePlans = deletePlans;
+    return this;
+  }
+
+  /**
+   * Get the poller the optimizations are awaited with, for example to enable
+   * its change feed. It is the poller of the {@link ApiClient}.
+   *
+   * @return The poller.
+   */
+  public OperationPoller getPoller() {
+    return poller;
+  }
+
+  /**
+   * Submit a plan to the pipeline.
+   *
+   * <p>The returned future is completed when the optimized plan has been
+   * fetched, or when the optimization has failed; in the latter case the
+   * result holds no plan. It is completed exceptionally with the exception
+   * of a failed call. Unless {@link #setDeletePlans(boolean) disabled}, the
+   * plan is deleted afterwards; a failed deletion is only counted in the
+   * statistics of the DELETE stage.</p>
+   *
+   * @param plan The plan to optimize.
+   * @return A future completed with the result of the optimization.
+   */
+  public CompletableFuture<OptimizationResult> submit(Plan plan) {
+    long startNanos = System.nanoTime();
+    int planSize = plan.getTransports() == null ? 0 : plan.getTransports().size();
+    return run(Stage.CREATE, () -> plansApi.createPlanAsync(plan))
+        .thenCompose(created -> optimize(created.getId(), planSize, startNanos));
+  }
+
+  /**
+   * Submit the plans of a source, with at most a given number of plans in
+   * flight. The source is read on a thread of the background executor of the
+   * {@link ApiClient}, a plan at a time as the results of earlier plans
+   * arrive, so the source only has to produce plans as fast as they are
+   * optimized.
+   *
+   * <p>The callback receives the result of every plan in the order the
+   * results complete, one result at a time. It receives either the result or,
+   * if a call failed, the exception of the call.</p>
+   *
+   * @param plans The source of the plans.
+   * @param maxInFlight The maximum number of plans in flight.
+   * @param callback The consumer of the results.
+   * @return The running submission.
+   */
+  public BulkSubmission submitAll(Iterable<? extends Plan> plans, int maxInFlight,
+      BiConsumer<? super OptimizationResult, ? super Throwable> callback) {
+    BulkSubmission submission = new BulkSubmission(this, maxInFlight, callback);
+    executor.execute(() -> submission.feed(plans.iterator()));
+    return submission;
+  }
+
+  /**
+   * Submit the plans of a stream, like {@link #submitAll(Iterable, int, BiConsumer)}.
+   * The stream is closed when the submission has completed.
+   *
+   * @param plans The stream of the plans.
+   * @param maxInFlight The maximum number of plans in flight.
+   * @param callback The consumer of the results.
+   * @return The running submission.
+   */
+  public BulkSubmission submitAll(Stream<? extends Plan> plans, int maxInFlight,
+      BiConsumer<? super OptimizationResult, ? super Throwable> callback) {
+    BulkSubmission submission = new BulkSubmission(this, maxInFlight, callback);
+    submission.getCompletion().whenComplete((done, error) -> plans.close());
+    executor.execute(() -> submission.feed(plans.iterator()));
+    return submission;
+  }
+
+  private CompletableFuture<OptimizationResult> optimize(UUID id, int planSize, long startNanos) {
+    CompletableFuture<OptimizationResult> result = run(Stage.START,
+        () -> operationsApi.startOptimizationAsync(id, quality, tweaksToObjective, considerTransportPriorities, optimizationPremium))
+        .thenCompose(started -> run(Stage.AWAIT, () -> {
+          Duration awaitTimeout = timeout;
+          Instant deadline = awaitTimeout == null ? null : Instant.now().plus(awaitTimeout);
+          return poller.awaitOptimization(id, deadline, planSize);
+        }))
+        .handle((operation, error) -> error == null ? fetch(id, operation, startNanos) : cancel(id, error))
+        .thenCompose(Function.identity());
+    if (deletePlans) {
+      result.whenComplete((optimized, error) -> run(Stage.DELETE, () -> plansApi.deletePlanAsync(id)));
+    }
+    return result;
+  }
+
+  /**
+   * Cancel the optimization if it timed out, then fail with the error of the
+   * previous stage.
+   */
+  private CompletableFuture<OptimizationResult> cancel(UUID id, Throwable error) {
+    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    if (!(cause instanceof TimeoutException)) {
+      return CompletableFuture.failedFuture(error);
+    }
+    // a running optimization would also lock the plan against deletion
+    return run(Stage.CANCEL, () -> operationsApi.cancelOperationAsync(id))
+        .handle((cancelled, cancelError) -> null)
+        .thenCompose(cancelled -> CompletableFuture.failedFuture(error));
+  }
+
+  private CompletableFuture<OptimizationResult> fetch(UUID id, Operation operation, long startNanos) {
+    if (operation.getStatus() != OperationStatus.SUCCEEDED) {
+      return CompletableFuture.completedFuture(new OptimizationResult(id, operation, null, System.nanoTime() - startNanos));
+    }
+    return run(Stage.FETCH, () -> plansApi.getPlanAsync(id))
+        .thenApply(plan -> new OptimizationResult(id, operation, plan, System.nanoTime() - startNanos));
+  }
+
+  private <T> CompletableFuture<T> run(Stage stage, Supplier<CompletableFuture<T>> call) {
+    return stages.get(stage).run(call);
+  }
+
+  /**
+   * Get the statistics of a stage.
+   *
+   * @param stage The stage.
+   * @return The statistics, updated as the pipeline runs.
+   */
+  public StageStats getStats(Stage stage) {
+    return stages.get(stage);
+  }
+
+  /**
+   * The queue and the statistics of one stage of the pipeline.
+   */
+  public static final class StageStats {
+    private volatile int concurrency;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder totalQueueNanos = new LongAdder();
+
+    private StageStats(int concurrency) {
+      this.concurrency = concurrency;
+    }
+
+    <T> CompletableFuture<T> run(Supplier<CompletableFuture<T>> call) {
+      CompletableFuture<T> result = new CompletableFuture<>();
+      long queuedNanos = System.nanoTime();
+      queued.incrementAndGet();
+      queue.add(() -> {
+        long startNanos = System.nanoTime();
+        totalQueueNanos.add(startNanos - queuedNanos);
+        CompletableFuture<T> response;
+        try {
+          response = call.get();
+        } catch (RuntimeException e) {
+          response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((value, error) -> {
+          long latencyNanos = System.nanoTime() - startNanos;
+          totalLatencyNanos.add(latencyNanos);
+          maxLatencyNanos.accumulate(latencyNanos);
+          (error == null ? completed : failed).increment();
+          inFlight.decrementAndGet();
+          drain();
+          if (error != null) {
+            result.completeExceptionally(error);
+          } else {
+            result.complete(value);
+          }
+        });
+      });
+      drain();
+      return result;
+    }
+
+    /**
+     * Start queued calls while slots are free. A call that completes right
+     * away drains again from within; that nested drain only asks the running
+     * one for another pass, so failing calls do not grow the stack.
+     */
+    private void drain() {
+      if (drainRequests.getAndIncrement() != 0) {
+        return;
+      }
+      do {
+        while (!queue.isEmpty()) {
+          int current = inFlight.get();
+          if (current >= concurrency) {
+            break;
+          }
+          if (!inFlight.compareAndSet(current, current + 1)) {
+            continue;
+          }
+          Runnable call = queue.poll();
+          if (call == null) {
+            inFlight.decrementAndGet();
+            continue;
+          }
+          queued.decrementAndGet();
+          call.run();
+        }
+      } while (drainRequests.decrementAndGet() != 0);
+    }
+
+    /**
+     * Get the number of calls waiting for a slot of the stage.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueDepth() {
+      return queued.get();
+    }
+
+    /**
+     * Get the number of calls in flight.
+     *
+     * @return Number of calls waiting for a response.
+     */
+    public int getInFlight() {
+      return inFlight.get();
+    }
+
+    /**
+     * Get the maximum number of calls in flight.
+     *
+     * @return The concurrency of the stage.
+     */
+    public int getConcurrency() {
+      return concurrency;
+    }
+
+    /**
+     * Get the number of calls that completed successfully.
+     *
+     * @return Number of completed calls.
+     */
+    public long getCompleted() {
+      return completed.sum();
+    }
+
+    /**
+     * Get the number of calls that failed.
+     *
+     * @return Number of failed calls.
+     */
+    public long getFailed() {
+      return failed.sum();
+    }
+
+    /**
+     * Get the average time from the start of a call until its completion.
+     *
+     * @return The average latency in nanoseconds, or 0 if no call has
+     * completed.
+     */
+    public long getAverageLatencyNanos() {
+      long calls = completed.sum() + failed.sum();
+      return calls == 0 ? 0 : totalLatencyNanos.sum() / calls;
+    }
+
+    /**
+     * Get the longest time from the start of a call until its completion.
+     *
+     * @return The maximum latency in nanoseconds.
+     */
+    public long getMaxLatencyNanos() {
+      return maxLatencyNanos.get();
+    }
+
+    /**
+     * Get the average time a call waited in the queue of the stage.
+     *
+     * @return The average wait in nanoseconds, or 0 if no call has completed.
+     */
+    public long getAverageQueueWaitNanos() {
+      long calls = completed.sum() + failed.sum();
+      return calls == 0 ? 0 : totalQueueNanos.sum() / calls;
+    }
+  }
+}
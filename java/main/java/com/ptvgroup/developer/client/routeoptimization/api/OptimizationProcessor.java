@@ -0,0 +1,242 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+package com.ptvgroup.developer.client.routeoptimization.api;
+
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A reactive stage that optimizes the plans of a {@link Flow.Publisher} with an
+ * {@link OptimizationPipeline} and publishes the results as they finish.
+ *
+ * <p>The demand of the subscriber drives the submission: a plan is requested
+ * from the upstream publisher only for a result the subscriber has requested,
+ * and never more than the maximum number of plans in flight. Neither plans
+ * nor results are buffered beyond that, and no thread is blocked.</p>
+ *
+ * <p>The results are published in the order they complete. A failed
+ * optimization is published as a result; a failed call terminates the stream
+ * with its exception and cancels the upstream subscription. An error of the
+ * upstream publisher is passed on once the plans in flight are published.</p>
+ *
+ * <p>The processor supports one subscriber. This class is thread-safe.</p>
+ */
+public class OptimizationProcessor implements Flow.Processor<Plan, OptimizationResult> {
+  private final OptimizationPipeline pipeline;
+  private final int maxInFlight;
+
+  private final AtomicReference<Flow.Subscriber<? super OptimizationResult>> downstream = new AtomicReference<>();
+  private volatile Flow.Subscription upstream;
+  // results requested by the subscriber and not yet published
+  private final AtomicLong demand = new AtomicLong();
+  // plans requested from the upstream publisher and not yet received
+  private final AtomicLong requested = new AtomicLong();
+  // plans received whose result is not yet published
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Queue<OptimizationResult> ready = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger wip = new AtomicInteger();
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+  private volatile boolean upstreamDone;
+  private volatile Throwable upstreamError;
+  private volatile boolean cancelled;
+  private boolean terminated;
+
+  /**
+   * Create a processor.
+   *
+   * @param pipeline The pipeline the plans are optimized with.
+   * @param maxInFlight The maximum number of plans requested from upstream
+   *                    whose result is not yet published.
+   */
+  public OptimizationProcessor(OptimizationPipeline pipeline, int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("maxInFlight must be positive");
+    }
+    this.pipeline = pipeline;
+    this.maxInFlight = maxInFlight;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super OptimizationResult> subscriber) {
+    if (!downstream.compareAndSet(null, subscriber)) {
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+      });
+      subscriber.onError(new IllegalStateException("The processor supports only one subscriber"));
+      return;
+    }
+    subscriber.onSubscribe(new Flow.Subscription() {
+      @Override
+      public void request(long n) {
+        if (n <= 0) {
+          fail(new IllegalArgumentException("The number of requested results must be positive"));
+          return;
+        }
+        demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+        drain();
+      }
+
+      @Override
+      public void cancel() {
+        cancelled = true;
+        cancelUpstream();
+        drain();
+      }
+    });
+    drain();
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    if (upstream != null) {
+      subscription.cancel();
+      return;
+    }
+    upstream = subscription;
+    if (cancelled || failure.get() != null) {
+      subscription.cancel();
+    }
+    drain();
+  }
+
+  @Override
+  public void onNext(Plan plan) {
+    inFlight.incrementAndGet();
+    requested.decrementAndGet();
+    CompletableFuture<OptimizationResult> result;
+    try {
+      result = pipeline.submit(plan);
+    } catch (RuntimeException e) {
+      result = CompletableFuture.failedFuture(e);
+    }
+    result.whenComplete((optimized, error) -> {
+      if (error != null) {
+        fail(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+      } else {
+        ready.add(optimized);
+        drain();
+      }
+    });
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    upstreamError = throwable;
+    upstreamDone = true;
+    drain();
+  }
+
+  @Override
+  public void onComplete() {
+    upstreamDone = true;
+    drain();
+  }
+
+  private void fail(Throwable error) {
+    if (failure.compareAndSet(null, error)) {
+      cancelUpstream();
+    }
+    drain();
+  }
+
+  private void cancelUpstream() {
+    Flow.Subscription subscription = upstream;
+    if (subscription != null) {
+      subscription.cancel();
+    }
+  }
+
+  /**
+   * Publish the ready results and request plans for the remaining demand.
+   * Runs on one thread at a time; calls arriving meanwhile make the running
+   * thread loop once more.
+   */
+  private void drain() {
+    if (wip.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      Flow.Subscriber<? super OptimizationResult> subscriber = downstream.get();
+      if (subscriber != null && !terminated) {
+        publish(subscriber);
+      }
+      missed = wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void publish(Flow.Subscriber<? super OptimizationResult> subscriber) {
+    if (cancelled) {
+      terminated = true;
+      ready.clear();
+      return;
+    }
+    Throwable error = failure.get();
+    if (error != null) {
+      terminated = true;
+      ready.clear();
+      subscriber.onError(error);
+      return;
+    }
+    while (demand.get() > 0) {
+      OptimizationResult result = ready.poll();
+      if (result == null) {
+        break;
+      }
+      if (demand.get() != Long.MAX_VALUE) {
+        demand.decrementAndGet();
+      }
+      inFlight.decrementAndGet();
+      subscriber.onNext(result);
+    }
+    if (upstreamDone) {
+      if (inFlight.get() == 0) {
+        terminated = true;
+        if (upstreamError != null) {
+          subscriber.onError(upstreamError);
+        } else {
+          subscriber.onComplete();
+        }
+      }
+      return;
+    }
+    Flow.Subscription subscription = upstream;
+    if (subscription == null) {
+      return;
+    }
+    long more = Math.min(demand.get(), maxInFlight) - requested.get() - inFlight.get();
+    if (more > 0) {
+      requested.addAndGet(more);
+      subscription.request(more);
+    }
+  }
+
+  /**
+   * Get the number of plans received from upstream whose result is not yet
+   * published.
+   *
+   * @return Number of plans in flight.
+   */
+  public int getInFlight() {
+    return inFlight.get();
+  }
+}
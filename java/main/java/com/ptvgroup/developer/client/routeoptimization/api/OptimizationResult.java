@@ -0,0 +1,85 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+package com.ptvgroup.developer.client.routeoptimization.api;
+
+import com.ptvgroup.developer.client.routeoptimization.model.Operation;
+import com.ptvgroup.developer.client.routeoptimization.model.OperationStatus;
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+
+import java.util.UUID;
+
+/**
+ * The outcome of the optimization of one plan by an
+ * {@link OptimizationPipeline}.
+ *
+ * <p>This class is immutable.</p>
+ */
+public class OptimizationResult {
+  private final UUID id;
+  private final Operation operation;
+  private final Plan plan;
+  private final long durationNanos;
+
+  OptimizationResult(UUID id, Operation operation, Plan plan, long durationNanos) {
+    this.id = id;
+    this.operation = operation;
+    this.plan = plan;
+    this.durationNanos = durationNanos;
+  }
+
+  /**
+   * Get the ID the service assigned to the plan.
+   *
+   * @return ID of the plan.
+   */
+  public UUID getId() {
+    return id;
+  }
+
+  /**
+   * Get the finished optimization operation.
+   *
+   * @return The operation, with status SUCCEEDED or FAILED.
+   */
+  public Operation getOperation() {
+    return operation;
+  }
+
+  /**
+   * Get the optimized plan.
+   *
+   * @return The optimized plan, or null if the optimization failed.
+   */
+  public Plan getPlan() {
+    return plan;
+  }
+
+  /**
+   * Whether the optimization succeeded.
+   *
+   * @return True if the optimized plan is available.
+   */
+  public boolean isSucceeded() {
+    return operation.getStatus() == OperationStatus.SUCCEEDED;
+  }
+
+  /**
+   * Get the time from the submission of the plan until the result was
+   * available, including the time spent waiting in the pipeline.
+   *
+   * @return The duration in nanoseconds.
+   */
+  public long getDurationNanos() {
+    return durationNanos;
+  }
+
+  @Override
+  public String toString() {
+    return "OptimizationResult{id=" + id + ", status=" + operation.getStatus() + ", durationNanos=" + durationNanos + "}";
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+package com.ptvgroup.developer.client.routeoptimization.api;
+
+import com.ptvgroup.developer.client.routeoptimization.ApiClient;
+import com.ptvgroup.developer.client.routeoptimization.ApiException;
+import com.ptvgroup.developer.client.routeoptimization.PollEvent;
+
+import com.ptvgroup.developer.client.routeoptimization.model.Operation;
+import com.ptvgroup.developer.client.routeoptimization.model.OperationStatus;
+import com.ptvgroup.developer.client.routeoptimization.model.OptimizationQuality;
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+import com.ptvgroup.developer.client.routeoptimization.model.TweakToObjective;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the complete optimization of a plan: it creates the plan, starts the
+ * optimization, polls the operation status until the optimization has finished
+ * and retrieves the optimized plan.
+ *
+ * <p>The workflow is written as plain blocking calls. {@link #optimizeAsync}
+ * runs it on the background executor of the {@link ApiClient}; with
+ * {@link ApiClient#setVirtualThreads(boolean) virtual threads} enabled each
+ * workflow gets its own virtual thread instead of a platform thread. Every
+ * outstanding workflow still holds a connection while a request is in
+ * flight. Run {@code VirtualThreadBenchmark} from the test sources to compare
+ * both modes on your runtime.</p>
+ *
+ * <p>This class is immutable and thread-safe.</p>
+ */
+public class OptimizationWorkflow {
+  private final PlansApi plansApi;
+  private final OperationsApi operationsApi;
+  private final ExecutorService executor;
+  private final Duration pollInterval;
+
+  public OptimizationWorkflow(ApiClient apiClient) {
+    this(apiClient, Duration.ofSeconds(1));
+  }
+
+  /**
+   * Create a workflow.
+   *
+   * @param apiClient The client the API classes and the executor are taken from.
+   * @param pollInterval The time between two requests of the operation status.
+   */
+  public OptimizationWorkflow(ApiClient apiClient, Duration pollInterval) {
+    this.plansApi = new PlansApi(apiClient);
+    this.operationsApi = new OperationsApi(apiClient);
+    this.executor = apiClient.getBackgroundExecutor();
+    this.pollInterval = pollInterval;
+  }
+
+  /**
+   * Create and optimize a plan, blocking the calling thread until the optimized
+   * plan is retrieved. The plan is kept by the service, its ID is the ID of the
+   * returned plan.
+   *
+   * @param plan The plan to optimize.
+   * @param quality The optimization quality (optional, default to STANDARD).
+   * @param tweaksToObjective Additional optimization criteria (optional).
+   * @param considerTransportPriorities Whether to consider transport priorities (optional, default to false).
+   * @param optimizationPremium Whether to use Optimization Premium (optional, default to false).
+   * @return The optimized plan.
+   * @throws ApiException if an API call fails or the optimization fails.
+   * @throws InterruptedException if the calling thread is interrupted while
+   * waiting for the optimization.
+   */
+  public Plan optimize(Plan plan, OptimizationQuality quality, List<TweakToObjective> tweaksToObjective,
+      Boolean considerTransportPriorities, Boolean optimizationPremium) throws ApiException, InterruptedException {
+    UUID id = plansApi.createPlan(plan).getId();
+    operationsApi.startOptimization(id, quality, tweaksToObjective, considerTransportPriorities, optimizationPremium);
+    Operation operation = pollStatus(id);
+    while (operation.getStatus() == OperationStatus.RUNNING) {
+      Thread.sleep(pollInterval.toMillis());
+      operation = pollStatus(id);
+    }
+    if (operation.getStatus() == OperationStatus.FAILED) {
+      throw new ApiException("Optimization of plan " + id + " failed: " + operation.getError());
+    }
+    return plansApi.getPlan(id);
+  }
+
+  private Operation pollStatus(UUID id) throws ApiException {
+    PollEvent event = ApiClient.isFlightRecorderAvailable() ? new PollEvent() : null;
+    if (event == null) {
+      return operationsApi.getOperationStatus(id);
+    }
+    event.begin();
+    Operation operation = null;
+    try {
+      operation = operationsApi.getOperationStatus(id);
+      return operation;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.operation = "optimization";
+        event.planId = id.toString();
+        event.status = operation != null && operation.getStatus() != null ? operation.getStatus().getValue() : null;
+        event.elapsedTime = operation != null && operation.getElapsedTime() != null
+            ? TimeUnit.SECONDS.toNanos(operation.getElapsedTime()) : 0;
+        event.nextPollDelay = operation != null && operation.getStatus() == OperationStatus.RUNNING
+            ? pollInterval.toNanos() : -1;
+        event.commit();
+      }
+    }
+  }
+
+  /**
+   * Run {@link #optimize} on the background executor of the
+   * {@link ApiClient}.
+   *
+   * @param plan The plan to optimize.
+   * @param quality The optimization quality (optional, default to STANDARD).
+   * @param tweaksToObjective Additional optimization criteria (optional).
+   * @param considerTransportPriorities Whether to consider transport priorities (optional, default to false).
+   * @param optimizationPremium Whether to use Optimization Premium (optional, default to false).
+   * @return A future completed with the optimized plan, or completed
+   * exceptionally with the {@link ApiException} of a failed call.
+   */
+  public CompletableFuture<Plan> optimizeAsync(Plan plan, OptimizationQuality quality, List<TweakToObjective> tweaksToObjective,
+      Boolean considerTransportPriorities, Boolean optimizationPremium) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return optimize(plan, quality, tweaksToObjective, considerTransportPriorities, optimizationPremium);
+      } catch (ApiException e) {
+        throw new CompletionException(e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CompletionException(e);
+      }
+    }, executor);
+  }
+}
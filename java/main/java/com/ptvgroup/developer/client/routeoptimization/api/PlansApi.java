@@ -14,16 +14,20 @@ package com.ptvgroup.developer.client.routeoptimization.api;
 
 import com.ptvgroup.developer.client.routeoptimization.ApiClient;
 import com.ptvgroup.developer.client.routeoptimization.ApiException;
+import com.ptvgroup.developer.client.routeoptimization.ApiInvoker;
 import com.ptvgroup.developer.client.routeoptimization.ApiResponse;
+import com.ptvgroup.developer.client.routeoptimization.CallMetrics;
+import com.ptvgroup.developer.client.routeoptimization.JsonCodecs;
 import com.ptvgroup.developer.client.routeoptimization.Pair;
+import com.ptvgroup.developer.client.routeoptimization.PlanCache;
+import com.ptvgroup.developer.client.routeoptimization.SingleFlight;
 
 import com.ptvgroup.developer.client.routeoptimization.model.ErrorResponse;
 import com.ptvgroup.developer.client.routeoptimization.model.Plan;
 import com.ptvgroup.developer.client.routeoptimization.model.PlanSummaries;
 import java.util.UUID;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonParser;
 
 import java.io.InputStream;
 import java.io.ByteArrayInputStream;
@@ -36,43 +40,56 @@ import java.nio.channels.Channels;
 import java.nio.channels.Pipe;
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.time.OffsetDateTime;
 
 import java.util.ArrayList;
 import java.util.StringJoiner;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", date = "2025-10-27T08:50:35.495306091Z[Etc/UTC]", comments = "Generator version: 7.9.0")
 public class PlansApi {
-  private final HttpClient memberVarHttpClient;
-  private final ObjectMapper memberVarObjectMapper;
+  private final ApiInvoker memberVarInvoker;
+  private final JsonCodecs memberVarJsonCodecs;
   private final String memberVarBaseUri;
   private final Consumer<HttpRequest.Builder> memberVarInterceptor;
   private final Duration memberVarReadTimeout;
   private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
   private final Consumer<HttpResponse<String>> memberVarAsyncResponseInterceptor;
+  private final SingleFlight memberVarSingleFlight;
+  private final PlanCache memberVarPlanCache;
 
   public PlansApi() {
     this(new ApiClient());
   }
 
   public PlansApi(ApiClient apiClient) {
-    memberVarHttpClient = apiClient.getHttpClient();
-    memberVarObjectMapper = apiClient.getObjectMapper();
+    memberVarInvoker = apiClient.getInvoker();
+    memberVarJsonCodecs = apiClient.getJsonCodecs();
     memberVarBaseUri = apiClient.getBaseUri();
     memberVarInterceptor = apiClient.getRequestInterceptor();
     memberVarReadTimeout = apiClient.getReadTimeout();
     memberVarResponseInterceptor = apiClient.getResponseInterceptor();
     memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
+    memberVarSingleFlight = apiClient.getSingleFlight();
+    memberVarPlanCache = apiClient.getPlanCache();
   }
 
   protected ApiException getApiException(String operationId, HttpResponse<InputStream> response) throws IOException {
-    String body = response.body() == null ? null : new String(response.body().readAllBytes());
+    String body = response.body() == null ? null : memberVarInvoker.readString(response.body());
+    String message = formatExceptionMessage(operationId, response.statusCode(), body);
+    return new ApiException(response.statusCode(), message, response.headers(), body);
+  }
+
+  protected ApiException getAsyncApiException(String operationId, HttpResponse<String> response) {
+    String body = response.body();
     String message = formatExceptionMessage(operationId, response.statusCode(), body);
     return new ApiException(response.statusCode(), message, response.headers(), body);
   }
@@ -104,11 +121,12 @@ public class PlansApi {
    * @throws ApiException if fails to make API call
    */
   public ApiResponse<Plan> createPlanWithHttpInfo(Plan plan) throws ApiException {
-    HttpRequest.Builder localVarRequestBuilder = createPlanRequestBuilder(plan);
+    CallMetrics localVarMetrics = memberVarInvoker.startCall("createPlan");
+    HttpRequest.Builder localVarRequestBuilder = createPlanRequestBuilder(localVarMetrics, plan);
     try {
-      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofInputStream());
+      HttpResponse<InputStream> localVarResponse = memberVarInvoker.send(
+          localVarMetrics,
+          localVarRequestBuilder.build());
       if (memberVarResponseInterceptor != null) {
         memberVarResponseInterceptor.accept(localVarResponse);
       }
@@ -119,7 +137,7 @@ public class PlansApi {
         return new ApiResponse<Plan>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<Plan>() {}) // closes the InputStream
+          localVarResponse.body() == null ? null : memberVarJsonCodecs.getPlanReader().readValue(localVarResponse.body()) // closes the InputStream
         );
       } finally {
       }
@@ -130,9 +148,59 @@ public class PlansApi {
       Thread.currentThread().interrupt();
       throw new ApiException(e);
     }
+    finally {
+      localVarMetrics.finish();
+    }
   }
 
-  private HttpRequest.Builder createPlanRequestBuilder(Plan plan) throws ApiException {
+  /**
+   * 
+   * Creates a new plan containing parts like vehicles and transports which should be used for a subsequent optimization. It persists and returns a slightly modified plan including a server generated ID that can be used for later retrieval. This returned plan can be used for automated route optimization via Operations API.
+   * @param plan The plan containing vehicles and transports. The returned plan in the response body is extended by a server generated ID and details of the calculated routes. (required)
+   * @return CompletableFuture&lt;Plan&gt;
+   */
+  public CompletableFuture<Plan> createPlanAsync(Plan plan) {
+    return createPlanWithHttpInfoAsync(plan).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * 
+   * Creates a new plan containing parts like vehicles and transports which should be used for a subsequent optimization. It persists and returns a slightly modified plan including a server generated ID that can be used for later retrieval. This returned plan can be used for automated route optimization via Operations API.
+   * @param plan The plan containing vehicles and transports. The returned plan in the response body is extended by a server generated ID and details of the calculated routes. (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Plan&gt;&gt;
+   */
+  public CompletableFuture<ApiResponse<Plan>> createPlanWithHttpInfoAsync(Plan plan) {
+    try {
+      CallMetrics localVarMetrics = memberVarInvoker.startCall("createPlan");
+      HttpRequest.Builder localVarRequestBuilder = createPlanRequestBuilder(localVarMetrics, plan);
+      return memberVarInvoker.sendAsync(
+          localVarMetrics,
+          localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            if (memberVarAsyncResponseInterceptor != null) {
+              memberVarAsyncResponseInterceptor.accept(localVarResponse);
+            }
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getAsyncApiException("createPlan", localVarResponse));
+            }
+            try {
+              String localVarResponseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Plan>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      localVarResponseBody == null || localVarResponseBody.isBlank() ? null : memberVarJsonCodecs.getPlanReader().readValue(localVarResponseBody))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+          }
+      ).whenComplete((localVarResult, localVarError) -> localVarMetrics.finish());
+    } catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private HttpRequest.Builder createPlanRequestBuilder(CallMetrics localVarMetrics, Plan plan) throws ApiException {
     // verify the required parameter 'plan' is set
     if (plan == null) {
       throw new ApiException(400, "Missing the required parameter 'plan' when calling createPlan");
@@ -146,10 +214,10 @@ public class PlansApi {
 
     localVarRequestBuilder.header("Content-Type", "application/json");
     localVarRequestBuilder.header("Accept", "application/json");
+    memberVarInvoker.setAcceptEncoding(localVarRequestBuilder);
 
     try {
-      byte[] localVarPostBody = memberVarObjectMapper.writeValueAsBytes(plan);
-      localVarRequestBuilder.method("POST", HttpRequest.BodyPublishers.ofByteArray(localVarPostBody));
+      memberVarInvoker.setJsonBody(localVarRequestBuilder, "POST", localVarMetrics, memberVarJsonCodecs.getPlanWriter(), plan);
     } catch (IOException e) {
       throw new ApiException(e);
     }
@@ -180,11 +248,15 @@ public class PlansApi {
    * @throws ApiException if fails to make API call
    */
   public ApiResponse<Void> deletePlanWithHttpInfo(UUID id) throws ApiException {
+    if (memberVarPlanCache != null && id != null) {
+      memberVarPlanCache.invalidate(id);
+    }
+    CallMetrics localVarMetrics = memberVarInvoker.startCall("deletePlan");
     HttpRequest.Builder localVarRequestBuilder = deletePlanRequestBuilder(id);
     try {
-      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofInputStream());
+      HttpResponse<InputStream> localVarResponse = memberVarInvoker.send(
+          localVarMetrics,
+          localVarRequestBuilder.build());
       if (memberVarResponseInterceptor != null) {
         memberVarResponseInterceptor.accept(localVarResponse);
       }
@@ -211,6 +283,54 @@ public class PlansApi {
       Thread.currentThread().interrupt();
       throw new ApiException(e);
     }
+    finally {
+      localVarMetrics.finish();
+    }
+  }
+
+  /**
+   * 
+   * Deletes a plan identified by the ID. Also cancels a currently running optimization of the plan.
+   * @param id ID of the plan to be deleted. (required)
+   * @return CompletableFuture&lt;Void&gt;
+   */
+  public CompletableFuture<Void> deletePlanAsync(UUID id) {
+    return deletePlanWithHttpInfoAsync(id).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * 
+   * Deletes a plan identified by the ID. Also cancels a currently running optimization of the plan.
+   * @param id ID of the plan to be deleted. (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;
+   */
+  public CompletableFuture<ApiResponse<Void>> deletePlanWithHttpInfoAsync(UUID id) {
+    if (memberVarPlanCache != null && id != null) {
+      memberVarPlanCache.invalidate(id);
+    }
+    try {
+      CallMetrics localVarMetrics = memberVarInvoker.startCall("deletePlan");
+      HttpRequest.Builder localVarRequestBuilder = deletePlanRequestBuilder(id);
+      return memberVarInvoker.sendAsync(
+          localVarMetrics,
+          localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            if (memberVarAsyncResponseInterceptor != null) {
+              memberVarAsyncResponseInterceptor.accept(localVarResponse);
+            }
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getAsyncApiException("deletePlan", localVarResponse));
+            }
+            return CompletableFuture.completedFuture(
+                new ApiResponse<Void>(
+                    localVarResponse.statusCode(),
+                    localVarResponse.headers().map(),
+                    null)
+            );
+          }
+      ).whenComplete((localVarResult, localVarError) -> localVarMetrics.finish());
+    } catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
   }
 
   private HttpRequest.Builder deletePlanRequestBuilder(UUID id) throws ApiException {
@@ -227,6 +347,7 @@ public class PlansApi {
     localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
 
     localVarRequestBuilder.header("Accept", "application/json");
+    memberVarInvoker.setAcceptEncoding(localVarRequestBuilder);
 
     localVarRequestBuilder.method("DELETE", HttpRequest.BodyPublishers.noBody());
     if (memberVarReadTimeout != null) {
@@ -258,22 +379,83 @@ public class PlansApi {
    * @throws ApiException if fails to make API call
    */
   public ApiResponse<Plan> getPlanWithHttpInfo(UUID id) throws ApiException {
+    if (memberVarSingleFlight != null) {
+      return memberVarSingleFlight.execute("getPlan", id, () -> sendGetPlan(id));
+    }
+    return sendGetPlan(id);
+  }
+
+  private ApiResponse<Plan> sendGetPlan(UUID id) throws ApiException {
+    PlanCache.Entry localVarCached = memberVarPlanCache == null ? null : memberVarPlanCache.get(id);
+    OffsetDateTime localVarUpdateTime = null;
+    if (localVarCached != null && memberVarPlanCache.isSummaryRevalidated(localVarCached)) {
+      PlanSummaries localVarSummaries = memberVarPlanCache.getRecentSummaries();
+      if (localVarSummaries == null) {
+        try {
+          localVarSummaries = getPlanSummaries();
+          memberVarPlanCache.putSummaries(localVarSummaries);
+        } catch (ApiException e) {
+          // the plan itself may still be available
+          localVarSummaries = null;
+        }
+      }
+      if (localVarSummaries != null) {
+        localVarUpdateTime = PlanCache.updateTime(localVarSummaries, id);
+        if (localVarCached.isFresh(localVarUpdateTime)) {
+          try {
+            return new ApiResponse<Plan>(200, localVarCached.getHeaders(), hitPlanCache(localVarCached));
+          } catch (IOException e) {
+            throw new ApiException(e);
+          }
+        }
+        if (localVarUpdateTime == null) {
+          memberVarPlanCache.bypass(id);
+        }
+        localVarCached = null;
+      }
+    }
+    CallMetrics localVarMetrics = memberVarInvoker.startCall("getPlan");
     HttpRequest.Builder localVarRequestBuilder = getPlanRequestBuilder(id);
+    if (localVarCached != null) {
+      localVarCached.addConditionalHeaders(localVarRequestBuilder);
+    }
     try {
-      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofInputStream());
+      HttpResponse<InputStream> localVarResponse = memberVarInvoker.send(
+          localVarMetrics,
+          localVarRequestBuilder.build());
       if (memberVarResponseInterceptor != null) {
         memberVarResponseInterceptor.accept(localVarResponse);
       }
       try {
+        if (localVarCached != null && localVarResponse.statusCode() == 304) {
+          if (localVarResponse.body() != null) {
+            localVarResponse.body().close();
+          }
+          return new ApiResponse<Plan>(
+            200,
+            localVarCached.getHeaders(),
+            hitPlanCache(localVarCached)
+          );
+        }
         if (localVarResponse.statusCode()/ 100 != 2) {
           throw getApiException("getPlan", localVarResponse);
         }
+        if (memberVarPlanCache != null && localVarResponse.body() != null) {
+          try (JsonParser localVarParser = memberVarJsonCodecs.getMapper().getFactory().createParser(localVarResponse.body())) {
+            Plan localVarPlan = memberVarJsonCodecs.getPlanReader().readValue(localVarParser);
+            putPlanCache(id, localVarPlan, localVarResponse.headers(),
+                localVarParser.getCurrentLocation().getByteOffset(), localVarUpdateTime);
+            return new ApiResponse<Plan>(
+              localVarResponse.statusCode(),
+              localVarResponse.headers().map(),
+              localVarPlan
+            );
+          }
+        }
         return new ApiResponse<Plan>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<Plan>() {}) // closes the InputStream
+          localVarResponse.body() == null ? null : memberVarJsonCodecs.getPlanReader().readValue(localVarResponse.body()) // closes the InputStream
         );
       } finally {
       }
@@ -284,6 +466,131 @@ public class PlansApi {
       Thread.currentThread().interrupt();
       throw new ApiException(e);
     }
+    finally {
+      localVarMetrics.finish();
+    }
+  }
+
+  /**
+   * 
+   * Retrieves a plan identified by the ID.
+   * @param id ID of the requested plan. (required)
+   * @return CompletableFuture&lt;Plan&gt;
+   */
+  public CompletableFuture<Plan> getPlanAsync(UUID id) {
+    return getPlanWithHttpInfoAsync(id).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * 
+   * Retrieves a plan identified by the ID.
+   * @param id ID of the requested plan. (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Plan&gt;&gt;
+   */
+  public CompletableFuture<ApiResponse<Plan>> getPlanWithHttpInfoAsync(UUID id) {
+    if (memberVarSingleFlight != null) {
+      return memberVarSingleFlight.executeAsync("getPlan", id, () -> sendGetPlanAsync(id));
+    }
+    return sendGetPlanAsync(id);
+  }
+
+  private CompletableFuture<ApiResponse<Plan>> sendGetPlanAsync(UUID id) {
+    PlanCache.Entry localVarCached = memberVarPlanCache == null ? null : memberVarPlanCache.get(id);
+    if (localVarCached != null && memberVarPlanCache.isSummaryRevalidated(localVarCached)) {
+      PlanSummaries localVarRecentSummaries = memberVarPlanCache.getRecentSummaries();
+      CompletableFuture<PlanSummaries> localVarSummariesFuture = localVarRecentSummaries != null
+          ? CompletableFuture.completedFuture(localVarRecentSummaries)
+          : getPlanSummariesAsync().handle((localVarSummaries, localVarError) -> {
+              // the plan itself may still be available
+              if (localVarSummaries != null) {
+                memberVarPlanCache.putSummaries(localVarSummaries);
+              }
+              return localVarSummaries;
+            });
+      return localVarSummariesFuture.thenCompose(localVarSummaries -> {
+        if (localVarSummaries == null) {
+          return sendGetPlanAsync(id, localVarCached, null);
+        }
+        OffsetDateTime localVarUpdateTime = PlanCache.updateTime(localVarSummaries, id);
+        if (localVarCached.isFresh(localVarUpdateTime)) {
+          try {
+            return CompletableFuture.completedFuture(
+                new ApiResponse<Plan>(200, localVarCached.getHeaders(), hitPlanCache(localVarCached)));
+          } catch (IOException e) {
+            return CompletableFuture.failedFuture(new ApiException(e));
+          }
+        }
+        if (localVarUpdateTime == null) {
+          memberVarPlanCache.bypass(id);
+        }
+        return sendGetPlanAsync(id, null, localVarUpdateTime);
+      });
+    }
+    return sendGetPlanAsync(id, localVarCached, null);
+  }
+
+  private CompletableFuture<ApiResponse<Plan>> sendGetPlanAsync(UUID id, PlanCache.Entry localVarCached, OffsetDateTime localVarUpdateTime) {
+    try {
+      CallMetrics localVarMetrics = memberVarInvoker.startCall("getPlan");
+      HttpRequest.Builder localVarRequestBuilder = getPlanRequestBuilder(id);
+      if (localVarCached != null) {
+        localVarCached.addConditionalHeaders(localVarRequestBuilder);
+      }
+      return memberVarInvoker.sendAsync(
+          localVarMetrics,
+          localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            if (memberVarAsyncResponseInterceptor != null) {
+              memberVarAsyncResponseInterceptor.accept(localVarResponse);
+            }
+            if (localVarCached != null && localVarResponse.statusCode() == 304) {
+              try {
+                return CompletableFuture.completedFuture(
+                    new ApiResponse<Plan>(
+                        200,
+                        localVarCached.getHeaders(),
+                        hitPlanCache(localVarCached))
+                );
+              } catch (IOException e) {
+                return CompletableFuture.failedFuture(new ApiException(e));
+              }
+            }
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getAsyncApiException("getPlan", localVarResponse));
+            }
+            try {
+              String localVarResponseBody = localVarResponse.body();
+              Plan localVarPlan = localVarResponseBody == null || localVarResponseBody.isBlank() ? null : memberVarJsonCodecs.getPlanReader().readValue(localVarResponseBody);
+              if (memberVarPlanCache != null) {
+                putPlanCache(id, localVarPlan, localVarResponse.headers(),
+                    localVarResponseBody == null ? 0 : localVarResponseBody.length(), localVarUpdateTime);
+              }
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<Plan>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      localVarPlan)
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+          }
+      ).whenComplete((localVarResult, localVarError) -> localVarMetrics.finish());
+    } catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private Plan hitPlanCache(PlanCache.Entry localVarCached) throws IOException {
+    Plan localVarPlan = memberVarPlanCache.hit(localVarCached);
+    return memberVarPlanCache.isCopyOnRead() ? memberVarJsonCodecs.copyPlan(localVarPlan) : localVarPlan;
+  }
+
+  private void putPlanCache(UUID id, Plan localVarPlan, HttpHeaders localVarHeaders, long localVarSize,
+      OffsetDateTime localVarUpdateTime) throws IOException {
+    // the caller gets the downloaded plan, the cache keeps a copy of its own
+    Plan localVarCachedPlan = localVarPlan != null && memberVarPlanCache.isCopyOnRead()
+        ? memberVarJsonCodecs.copyPlan(localVarPlan) : localVarPlan;
+    memberVarPlanCache.put(id, localVarCachedPlan, localVarHeaders, localVarSize, localVarUpdateTime);
   }
 
   private HttpRequest.Builder getPlanRequestBuilder(UUID id) throws ApiException {
@@ -300,6 +607,7 @@ public class PlansApi {
     localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
 
     localVarRequestBuilder.header("Accept", "application/json");
+    memberVarInvoker.setAcceptEncoding(localVarRequestBuilder);
 
     localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
     if (memberVarReadTimeout != null) {
@@ -329,11 +637,12 @@ public class PlansApi {
    * @throws ApiException if fails to make API call
    */
   public ApiResponse<PlanSummaries> getPlanSummariesWithHttpInfo() throws ApiException {
+    CallMetrics localVarMetrics = memberVarInvoker.startCall("getPlanSummaries");
     HttpRequest.Builder localVarRequestBuilder = getPlanSummariesRequestBuilder();
     try {
-      HttpResponse<InputStream> localVarResponse = memberVarHttpClient.send(
-          localVarRequestBuilder.build(),
-          HttpResponse.BodyHandlers.ofInputStream());
+      HttpResponse<InputStream> localVarResponse = memberVarInvoker.send(
+          localVarMetrics,
+          localVarRequestBuilder.build());
       if (memberVarResponseInterceptor != null) {
         memberVarResponseInterceptor.accept(localVarResponse);
       }
@@ -344,7 +653,7 @@ public class PlansApi {
         return new ApiResponse<PlanSummaries>(
           localVarResponse.statusCode(),
           localVarResponse.headers().map(),
-          localVarResponse.body() == null ? null : memberVarObjectMapper.readValue(localVarResponse.body(), new TypeReference<PlanSummaries>() {}) // closes the InputStream
+          localVarResponse.body() == null ? null : memberVarJsonCodecs.getPlanSummariesReader().readValue(localVarResponse.body()) // closes the InputStream
         );
       } finally {
       }
@@ -355,6 +664,54 @@ public class PlansApi {
       Thread.currentThread().interrupt();
       throw new ApiException(e);
     }
+    finally {
+      localVarMetrics.finish();
+    }
+  }
+
+  /**
+   * 
+   * Retrieves a list of summaries for at most 1000 least recently updated available plans.
+   * @return CompletableFuture&lt;PlanSummaries&gt;
+   */
+  public CompletableFuture<PlanSummaries> getPlanSummariesAsync() {
+    return getPlanSummariesWithHttpInfoAsync().thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * 
+   * Retrieves a list of summaries for at most 1000 least recently updated available plans.
+   * @return CompletableFuture&lt;ApiResponse&lt;PlanSummaries&gt;&gt;
+   */
+  public CompletableFuture<ApiResponse<PlanSummaries>> getPlanSummariesWithHttpInfoAsync() {
+    try {
+      CallMetrics localVarMetrics = memberVarInvoker.startCall("getPlanSummaries");
+      HttpRequest.Builder localVarRequestBuilder = getPlanSummariesRequestBuilder();
+      return memberVarInvoker.sendAsync(
+          localVarMetrics,
+          localVarRequestBuilder.build()).thenComposeAsync(localVarResponse -> {
+            if (memberVarAsyncResponseInterceptor != null) {
+              memberVarAsyncResponseInterceptor.accept(localVarResponse);
+            }
+            if (localVarResponse.statusCode()/ 100 != 2) {
+              return CompletableFuture.failedFuture(getAsyncApiException("getPlanSummaries", localVarResponse));
+            }
+            try {
+              String localVarResponseBody = localVarResponse.body();
+              return CompletableFuture.completedFuture(
+                  new ApiResponse<PlanSummaries>(
+                      localVarResponse.statusCode(),
+                      localVarResponse.headers().map(),
+                      localVarResponseBody == null || localVarResponseBody.isBlank() ? null : memberVarJsonCodecs.getPlanSummariesReader().readValue(localVarResponseBody))
+              );
+            } catch (IOException e) {
+              return CompletableFuture.failedFuture(new ApiException(e));
+            }
+          }
+      ).whenComplete((localVarResult, localVarError) -> localVarMetrics.finish());
+    } catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
   }
 
   private HttpRequest.Builder getPlanSummariesRequestBuilder() throws ApiException {
@@ -366,6 +723,7 @@ public class PlansApi {
     localVarRequestBuilder.uri(URI.create(memberVarBaseUri + localVarPath));
 
     localVarRequestBuilder.header("Accept", "application/json");
+    memberVarInvoker.setAcceptEncoding(localVarRequestBuilder);
 
     localVarRequestBuilder.method("GET", HttpRequest.BodyPublishers.noBody());
     if (memberVarReadTimeout != null) {
@@ -0,0 +1,72 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures the size of plans written by the {@link BinaryCodec} formats on
+ * the class path, plain and gzipped, and how long writing and reading them
+ * takes, compared with JSON. The plans are the ones of {@link JsonBenchmark};
+ * every plan must read back like it reads back from JSON.
+ *
+ * <pre>
+ * java -cp ... com.ptvgroup.developer.client.routeoptimization.BinaryCodecBenchmark [rounds]
+ * </pre>
+ */
+public final class BinaryCodecBenchmark {
+  private BinaryCodecBenchmark() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+    ObjectMapper json = new ApiClient().getObjectMapper();
+    JsonBenchmark benchmark = new JsonBenchmark(json);
+
+    System.out.println("Java " + System.getProperty("java.version") + ", " + System.getProperty("java.vm.name"));
+    System.out.printf("%-8s %-6s %10s %10s %14s %14s%n", "size", "format", "bytes", "gzipped", "write us/op", "read us/op");
+    for (JsonBenchmark.Size size : JsonBenchmark.Size.values()) {
+      Plan plan = json.treeToValue(benchmark.plan(size.entities), Plan.class);
+      byte[] jsonContent = json.writeValueAsBytes(plan);
+      Plan expected = json.readValue(jsonContent, Plan.class);
+      print(size, "JSON", json, jsonContent, rounds);
+      for (BinaryCodec.Format format : BinaryCodec.Format.values()) {
+        if (!format.isAvailable()) {
+          continue;
+        }
+        BinaryCodec codec = new BinaryCodec(format);
+        byte[] content = codec.writePlan(plan);
+        if (!expected.equals(codec.readPlan(content))) {
+          throw new IllegalStateException(format + " does not read back the " + size + " plan");
+        }
+        print(size, format.name(), codec.getMapper(), content, rounds);
+      }
+    }
+  }
+
+  private static void print(JsonBenchmark.Size size, String format, ObjectMapper mapper, byte[] content, int rounds)
+      throws IOException {
+    double[] micros = JsonBenchmark.measure(mapper, content, size.operations, rounds);
+    System.out.printf("%-8s %-6s %10d %10d %14.1f %14.1f%n", size, format, content.length, gzip(content).length,
+        micros[0], micros[1]);
+  }
+
+  private static byte[] gzip(byte[] content) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(content);
+    }
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,520 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.ptvgroup.developer.client.routeoptimization.model.AbstractOpenApiSchema;
+import com.ptvgroup.developer.client.routeoptimization.model.BreakRule;
+import com.ptvgroup.developer.client.routeoptimization.model.CustomerLocationAttributes;
+import com.ptvgroup.developer.client.routeoptimization.model.DailyRestRule;
+import com.ptvgroup.developer.client.routeoptimization.model.DepotLocationAttributes;
+import com.ptvgroup.developer.client.routeoptimization.model.Driver;
+import com.ptvgroup.developer.client.routeoptimization.model.Event;
+import com.ptvgroup.developer.client.routeoptimization.model.Location;
+import com.ptvgroup.developer.client.routeoptimization.model.MixedLoadingProhibition;
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+import com.ptvgroup.developer.client.routeoptimization.model.PlanningRestrictions;
+import com.ptvgroup.developer.client.routeoptimization.model.RoadAccess;
+import com.ptvgroup.developer.client.routeoptimization.model.Route;
+import com.ptvgroup.developer.client.routeoptimization.model.RouteReport;
+import com.ptvgroup.developer.client.routeoptimization.model.Stop;
+import com.ptvgroup.developer.client.routeoptimization.model.StopReport;
+import com.ptvgroup.developer.client.routeoptimization.model.TimeInterval;
+import com.ptvgroup.developer.client.routeoptimization.model.Transport;
+import com.ptvgroup.developer.client.routeoptimization.model.Vehicle;
+import com.ptvgroup.developer.client.routeoptimization.model.Violation;
+import com.ptvgroup.developer.client.routeoptimization.model.Warning;
+import com.ptvgroup.developer.client.routeoptimization.model.WayReport;
+import com.ptvgroup.developer.client.routeoptimization.model.WorkLogbook;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Checks that the optional JSON configurations of the client read and write
+ * the model classes exactly like the default {@code ObjectMapper} of the
+ * {@link ApiClient}, and measures how long they take for plans of three
+ * sizes.
+ *
+ * <p>The check generates values of every class covered by the
+ * {@link StreamingModelModule} from the properties Jackson finds on the class,
+ * with null, undefined and set {@code JsonNullable} properties, and reads and
+ * writes each of them with both mappers. A configuration passes if both
+ * mappers read equal objects and write identical bytes. The benchmark only
+ * runs if every configuration passes.</p>
+ *
+ * <p>The mappers compared are the default one, the one with the
+ * {@link StreamingModelModule}, and the ones with each {@link JsonAcceleration}
+ * module on the class path. Besides the model classes, the check covers a
+ * {@code JsonNullable} that is null or undefined, dates with offsets, an enum
+ * read with {@code toString()} and a oneOf schema.</p>
+ *
+ * <p>The values are generated from a fixed seed and the benchmark runs a fixed
+ * number of operations, so runs on the same machine and JVM are comparable.
+ * Mappers measured in the same JVM influence each other through the JIT;
+ * give the name of a mapper to measure only that one:</p>
+ * <pre>
+ * java -cp ... com.ptvgroup.developer.client.routeoptimization.JsonBenchmark [rounds [mapper]]
+ * </pre>
+ */
+public final class JsonBenchmark {
+  /**
+   * The classes the {@link StreamingModelModule} has serializers and
+   * deserializers for.
+   */
+  static final List<Class<?>> MODEL_CLASSES = Arrays.asList(Plan.class, Location.class, Vehicle.class,
+      Transport.class, Driver.class, Route.class, Stop.class, Event.class, RouteReport.class, StopReport.class,
+      WayReport.class, Violation.class, Warning.class, WorkLogbook.class, BreakRule.class, DailyRestRule.class,
+      PlanningRestrictions.class, MixedLoadingProhibition.class, TimeInterval.class, RoadAccess.class,
+      DepotLocationAttributes.class, CustomerLocationAttributes.class);
+
+  private static final long SEED = 20250301L;
+  private static final int SAMPLES_PER_CLASS = 50;
+  private static final int WARM_UP_ROUNDS = 5;
+  private static final String[] OFFSETS = {"Z", "+02:00", "-05:30"};
+
+  /**
+   * The features of the model that the model classes covered by the
+   * {@link StreamingModelModule} do not use, or use only in a simple form.
+   */
+  private static final String[] COMPATIBILITY_CASES = {
+    "{}",
+    "{\"limit\":null,\"direction\":\"forward\",\"time\":\"2025-03-01T08:15:30.5+02:00\"}",
+    "{\"limit\":7,\"direction\":\"backward\",\"time\":\"2025-03-01T23:59:59-05:30\","
+        + "\"interval\":{\"start\":\"2025-03-01T08:00:00Z\",\"end\":\"2025-03-01T18:00:00+01:00\"}}",
+    "{\"interval\":\"2025-03-01T08:00:00.123456789+14:00\"}",
+    "{\"interval\":null,\"limit\":0}"
+  };
+
+  /**
+   * The sizes of the plans measured: the number of locations, vehicles,
+   * transports and routes, and the operations per measured round.
+   */
+  enum Size {
+    SMALL(10, 1000),
+    MEDIUM(250, 30),
+    HUGE(2000, 3);
+
+    final int entities;
+    final int operations;
+
+    Size(int entities, int operations) {
+      this.entities = entities;
+      this.operations = operations;
+    }
+  }
+
+  private final ObjectMapper reference;
+  private final Random random = new Random(SEED);
+  private int counter;
+
+  JsonBenchmark(ObjectMapper reference) {
+    this.reference = reference;
+  }
+
+  public static void main(String[] args) throws IOException {
+    int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+    String only = args.length > 1 ? args[1] : null;
+    ObjectMapper reference = new ApiClient().getObjectMapper();
+    Map<String, ObjectMapper> configurations = configurations(reference);
+
+    System.out.println("Java " + System.getProperty("java.version") + ", " + System.getProperty("java.vm.name"));
+    JsonBenchmark benchmark = new JsonBenchmark(reference);
+    boolean passed = true;
+    for (Map.Entry<String, ObjectMapper> configuration : configurations.entrySet()) {
+      List<String> failures = benchmark.check(configuration.getValue());
+      System.out.println("check " + configuration.getKey() + ": " + (failures.isEmpty() ? "passed" : failures.size() + " failures"));
+      for (String failure : failures) {
+        System.out.println("  " + failure);
+      }
+      passed &= failures.isEmpty();
+    }
+    if (!passed) {
+      System.exit(1);
+    }
+
+    System.out.printf("%-8s %10s  %-12s %14s %14s%n", "size", "bytes", "mapper", "write us/op", "read us/op");
+    for (Size size : Size.values()) {
+      byte[] json = reference.writeValueAsBytes(reference.treeToValue(benchmark.plan(size.entities), Plan.class));
+      for (Map.Entry<String, ObjectMapper> configuration : configurations.entrySet()) {
+        if (only != null && !only.equals(configuration.getKey())) {
+          continue;
+        }
+        double[] micros = measure(configuration.getValue(), json, size.operations, rounds);
+        System.out.printf("%-8s %10d  %-12s %14.1f %14.1f%n", size, json.length, configuration.getKey(), micros[0], micros[1]);
+      }
+    }
+  }
+
+  static Map<String, ObjectMapper> configurations(ObjectMapper reference) {
+    Map<String, ObjectMapper> configurations = new LinkedHashMap<>();
+    configurations.put("reflective", reference);
+    ObjectMapper streaming = reference.copy();
+    streaming.registerModule(new StreamingModelModule());
+    configurations.put("streaming", streaming);
+    for (JsonAcceleration acceleration : new JsonAcceleration[] {JsonAcceleration.BLACKBIRD, JsonAcceleration.AFTERBURNER}) {
+      if (acceleration.isAvailable()) {
+        ObjectMapper accelerated = reference.copy();
+        acceleration.register(accelerated);
+        configurations.put(acceleration.name().toLowerCase(Locale.ROOT), accelerated);
+      }
+    }
+    if (JsonAcceleration.BLACKBIRD.isAvailable()) {
+      ObjectMapper both = streaming.copy();
+      JsonAcceleration.BLACKBIRD.register(both);
+      configurations.put("streaming+bb", both);
+    }
+    return configurations;
+  }
+
+  /**
+   * Read and write generated values of every model class with a mapper and
+   * with the reference mapper.
+   *
+   * @return The differences found, empty if there are none.
+   */
+  List<String> check(ObjectMapper candidate) throws IOException {
+    List<String> failures = new ArrayList<>();
+    random.setSeed(SEED);
+    counter = 0;
+    for (Class<?> type : MODEL_CLASSES) {
+      for (int i = 0; i < SAMPLES_PER_CLASS; i++) {
+        compare(candidate, type, reference.writeValueAsBytes(sample(reference.constructType(type), 0, 3, false)), failures);
+      }
+    }
+    compare(candidate, Plan.class, reference.writeValueAsBytes(plan(Size.SMALL.entities)), failures);
+    for (String json : COMPATIBILITY_CASES) {
+      compare(candidate, Compatibility.class, json.getBytes(StandardCharsets.UTF_8), failures);
+    }
+    return failures;
+  }
+
+  void compare(ObjectMapper candidate, Class<?> type, byte[] json, List<String> failures) throws IOException {
+    Object expected = reference.readValue(json, type);
+    Object actual;
+    try {
+      actual = candidate.readValue(json, type);
+    } catch (IOException | RuntimeException e) {
+      failures.add(type.getSimpleName() + " cannot be read from " + new String(json, "UTF-8") + ": " + e);
+      return;
+    }
+    if (!Objects.equals(expected, actual)) {
+      failures.add(type.getSimpleName() + " reads differently from " + new String(json, "UTF-8"));
+      return;
+    }
+    byte[] expectedJson = reference.writeValueAsBytes(expected);
+    byte[] actualJson = candidate.writeValueAsBytes(expected);
+    if (!Arrays.equals(expectedJson, actualJson)) {
+      failures.add(type.getSimpleName() + " writes " + new String(actualJson, "UTF-8") + " instead of "
+          + new String(expectedJson, "UTF-8"));
+    } else if (!Objects.equals(reference.readValue(actualJson, type), candidate.readValue(actualJson, type))) {
+      // the written JSON can differ from the JSON read, for example with explicit nulls
+      failures.add(type.getSimpleName() + " reads back differently from " + new String(actualJson, "UTF-8"));
+    }
+  }
+
+  /**
+   * Generate a plan with the given number of locations, vehicles, transports
+   * and routes; the other lists have up to eight elements.
+   */
+  JsonNode plan(int entities) {
+    random.setSeed(SEED + entities);
+    counter = 0;
+    return sample(reference.constructType(Plan.class), 0, entities, true);
+  }
+
+  private JsonNode sample(JavaType type, int depth, int topLevelSize, boolean complete) {
+    JsonNodeFactory nodes = JsonNodeFactory.instance;
+    Class<?> raw = type.getRawClass();
+    if (raw == String.class || raw == Object.class) {
+      return nodes.textNode("value-" + (counter++ % 1000));
+    } else if (raw == UUID.class) {
+      return nodes.textNode(new UUID(random.nextLong(), random.nextLong()).toString());
+    } else if (raw == Integer.class || raw == int.class || raw == Long.class || raw == long.class) {
+      return nodes.numberNode(random.nextInt(100000));
+    } else if (raw == Double.class || raw == double.class) {
+      return nodes.numberNode(random.nextInt(10000000) / 1000.0);
+    } else if (raw == Boolean.class || raw == boolean.class) {
+      return nodes.booleanNode(random.nextBoolean());
+    } else if (raw == OffsetDateTime.class) {
+      return nodes.textNode(String.format("2025-03-%02dT%02d:%02d:%02d%s%s", 1 + random.nextInt(28), random.nextInt(24),
+          random.nextInt(60), random.nextInt(60), random.nextBoolean() ? "" : ".5", OFFSETS[random.nextInt(OFFSETS.length)]));
+    } else if (raw.isEnum()) {
+      // the enums are read and written with toString()
+      Object[] constants = raw.getEnumConstants();
+      return nodes.textNode(constants[random.nextInt(constants.length)].toString());
+    } else if (Collection.class.isAssignableFrom(raw)) {
+      ArrayNode array = nodes.arrayNode();
+      int size = depth == 1 ? topLevelSize : random.nextInt(depth < 4 ? 9 : 3);
+      for (int i = 0; i < size; i++) {
+        array.add(sample(type.getContentType(), depth + 1, topLevelSize, false));
+      }
+      return array;
+    } else if (Map.class.isAssignableFrom(raw)) {
+      ObjectNode map = nodes.objectNode();
+      map.put("key", random.nextInt(100));
+      map.put("name", "value-" + random.nextInt(100));
+      return map;
+    }
+    ObjectNode object = nodes.objectNode();
+    BeanDescription bean = reference.getDeserializationConfig().introspect(type);
+    for (BeanPropertyDefinition property : bean.findProperties()) {
+      JavaType propertyType = property.getPrimaryType();
+      boolean nullable = propertyType.getRawClass() == JsonNullable.class;
+      int choice = complete && depth == 0 ? 2 : random.nextInt(nullable ? 3 : 10);
+      if (choice == 0) {
+        // left out, undefined if the property is a JsonNullable
+        continue;
+      } else if (choice == 1) {
+        object.putNull(property.getName());
+      } else {
+        object.set(property.getName(), sample(nullable ? propertyType.containedType(0) : propertyType, depth + 1,
+            topLevelSize, false));
+      }
+    }
+    return object;
+  }
+
+  /**
+   * Measure writing and reading a plan, in microseconds per operation; the
+   * median of the rounds after the warm-up rounds.
+   */
+  static double[] measure(ObjectMapper mapper, byte[] json, int operations, int rounds) throws IOException {
+    ObjectReader reader = mapper.readerFor(Plan.class);
+    ObjectWriter writer = mapper.writerFor(Plan.class);
+    Plan plan = reader.readValue(json);
+    long[] writeNanos = new long[rounds];
+    long[] readNanos = new long[rounds];
+    long sink = 0;
+    for (int round = -WARM_UP_ROUNDS; round < rounds; round++) {
+      long start = System.nanoTime();
+      for (int i = 0; i < operations; i++) {
+        sink += writer.writeValueAsBytes(plan).length;
+      }
+      long written = System.nanoTime();
+      for (int i = 0; i < operations; i++) {
+        sink += reader.<Plan>readValue(json).hashCode() & 1;
+      }
+      long read = System.nanoTime();
+      if (round >= 0) {
+        writeNanos[round] = written - start;
+        readNanos[round] = read - written;
+      }
+    }
+    if (sink == 42) {
+      System.out.print("");
+    }
+    return new double[] {median(writeNanos) / 1000.0 / operations, median(readNanos) / 1000.0 / operations};
+  }
+
+  private static double median(long[] values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    int middle = sorted.length / 2;
+    return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+  }
+
+  /**
+   * The order of the stops, written with {@code toString()} like the enums of
+   * the model, but with values that differ from the names of the constants.
+   */
+  public enum Direction {
+    FORWARD("forward"),
+    BACKWARD("backward");
+
+    private final String value;
+
+    Direction(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public String toString() {
+      return value;
+    }
+  }
+
+  /**
+   * A oneOf schema as generated for the model: a time interval or a point in
+   * time.
+   */
+  @JsonSerialize(using = IntervalOrTime.Serializer.class)
+  @JsonDeserialize(using = IntervalOrTime.Deserializer.class)
+  public static final class IntervalOrTime extends AbstractOpenApiSchema {
+    private static final Map<String, Class<?>> SCHEMAS = new LinkedHashMap<>();
+
+    static {
+      SCHEMAS.put("TimeInterval", TimeInterval.class);
+      SCHEMAS.put("OffsetDateTime", OffsetDateTime.class);
+    }
+
+    public IntervalOrTime() {
+      super("oneOf", Boolean.FALSE);
+    }
+
+    @Override
+    public Map<String, Class<?>> getSchemas() {
+      return SCHEMAS;
+    }
+
+    static final class Serializer extends StdSerializer<IntervalOrTime> {
+      private static final long serialVersionUID = 1L;
+
+      Serializer() {
+        super(IntervalOrTime.class);
+      }
+
+      @Override
+      public void serialize(IntervalOrTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        provider.defaultSerializeValue(value.getActualInstance(), gen);
+      }
+    }
+
+    static final class Deserializer extends StdDeserializer<IntervalOrTime> {
+      private static final long serialVersionUID = 1L;
+
+      Deserializer() {
+        super(IntervalOrTime.class);
+      }
+
+      @Override
+      public IntervalOrTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonNode tree = p.readValueAsTree();
+        Object match = null;
+        int matches = 0;
+        for (Class<?> schema : SCHEMAS.values()) {
+          try (JsonParser schemaParser = tree.traverse(p.getCodec())) {
+            schemaParser.nextToken();
+            match = ctxt.readValue(schemaParser, schema);
+            matches++;
+          } catch (IOException e) {
+            // the value does not match the schema
+          }
+        }
+        if (matches != 1) {
+          throw new JsonMappingException(p, "The value matches " + matches + " schemas of IntervalOrTime");
+        }
+        IntervalOrTime value = new IntervalOrTime();
+        value.setActualInstance(match);
+        return value;
+      }
+    }
+  }
+
+  /**
+   * A class with a {@code JsonNullable} property, a date, an enum and a oneOf
+   * schema, with the annotations of the generated model classes.
+   */
+  @JsonPropertyOrder({"limit", "direction", "time", "interval"})
+  public static final class Compatibility {
+    private JsonNullable<Integer> limit = JsonNullable.<Integer>undefined();
+    private Direction direction;
+    private OffsetDateTime time;
+    private IntervalOrTime interval;
+
+    @JsonIgnore
+    public Integer getLimit() {
+      return limit.orElse(null);
+    }
+
+    @JsonProperty("limit")
+    @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+    public JsonNullable<Integer> getLimit_JsonNullable() {
+      return limit;
+    }
+
+    @JsonProperty("limit")
+    public void setLimit_JsonNullable(JsonNullable<Integer> limit) {
+      this.limit = limit;
+    }
+
+    @JsonProperty("direction")
+    public Direction getDirection() {
+      return direction;
+    }
+
+    @JsonProperty("direction")
+    public void setDirection(Direction direction) {
+      this.direction = direction;
+    }
+
+    @JsonProperty("time")
+    public OffsetDateTime getTime() {
+      return time;
+    }
+
+    @JsonProperty("time")
+    public void setTime(OffsetDateTime time) {
+      this.time = time;
+    }
+
+    @JsonProperty("interval")
+    public IntervalOrTime getInterval() {
+      return interval;
+    }
+
+    @JsonProperty("interval")
+    public void setInterval(IntervalOrTime interval) {
+      this.interval = interval;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Compatibility)) {
+        return false;
+      }
+      Compatibility other = (Compatibility) o;
+      // undefined and null are different
+      return limit.isPresent() == other.limit.isPresent() && Objects.equals(getLimit(), other.getLimit())
+          && direction == other.direction && Objects.equals(time, other.time) && Objects.equals(interval, other.interval);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(limit.isPresent(), getLimit(), direction, time, interval);
+    }
+  }
+}
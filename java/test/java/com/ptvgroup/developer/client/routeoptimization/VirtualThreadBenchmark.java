@@ -0,0 +1,153 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization;
+
+import com.ptvgroup.developer.client.routeoptimization.api.OptimizationWorkflow;
+import com.ptvgroup.developer.client.routeoptimization.model.Plan;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs many blocking {@link OptimizationWorkflow}s at once against an
+ * in-process service, once on platform threads and once on virtual threads
+ * (see {@link ApiClient#setVirtualThreads(boolean)}), and compares the wall
+ * time, the throughput and the platform threads they take.
+ *
+ * <p>The service answers every request after a fixed latency and keeps each
+ * optimization running for a few polls, so a workflow spends nearly all its
+ * time blocked. Virtual threads need Java 21 or later; on older runtimes only
+ * platform threads are measured.</p>
+ *
+ * <pre>
+ * java -cp ... com.ptvgroup.developer.client.routeoptimization.VirtualThreadBenchmark [workflows [latencyMillis [runningPolls]]]
+ * </pre>
+ */
+public final class VirtualThreadBenchmark implements AutoCloseable {
+  private final HttpServer server;
+  private final ExecutorService requests = Executors.newFixedThreadPool(4);
+  private final ScheduledExecutorService responses = Executors.newScheduledThreadPool(4);
+  private final Map<String, AtomicInteger> polls = new ConcurrentHashMap<>();
+  private final long latencyMillis;
+  private final int runningPolls;
+
+  private VirtualThreadBenchmark(long latencyMillis, int runningPolls) throws IOException {
+    this.latencyMillis = latencyMillis;
+    this.runningPolls = runningPolls;
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+    server.setExecutor(requests);
+    server.createContext("/", this::handle);
+    server.start();
+  }
+
+  public static void main(String[] args) throws Exception {
+    int workflows = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+    long latencyMillis = args.length > 1 ? Long.parseLong(args[1]) : 50;
+    int runningPolls = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+    System.out.println("Java " + System.getProperty("java.version") + ", " + workflows + " workflows, "
+        + latencyMillis + " ms latency, " + runningPolls + " running polls");
+    System.out.printf("%-9s %10s %14s %16s%n", "threads", "wall ms", "workflows/s", "peak platform");
+    try (VirtualThreadBenchmark benchmark = new VirtualThreadBenchmark(latencyMillis, runningPolls)) {
+      // warm up the client and the service
+      benchmark.run(false, Math.min(workflows, 100));
+      benchmark.print(false, workflows);
+      if (ApiClient.isVirtualThreadsSupported()) {
+        benchmark.run(true, Math.min(workflows, 100));
+        benchmark.print(true, workflows);
+      }
+    }
+  }
+
+  private void print(boolean virtualThreads, int workflows) throws Exception {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    threads.resetPeakThreadCount();
+    long start = System.nanoTime();
+    run(virtualThreads, workflows);
+    long wallNanos = System.nanoTime() - start;
+    System.out.printf("%-9s %10d %14.1f %16d%n", virtualThreads ? "virtual" : "platform",
+        TimeUnit.NANOSECONDS.toMillis(wallNanos), workflows * 1e9 / wallNanos, threads.getPeakThreadCount());
+  }
+
+  private void run(boolean virtualThreads, int workflows) throws Exception {
+    try (ApiClient apiClient = new ApiClient()) {
+      apiClient.updateBaseUri("http://127.0.0.1:" + server.getAddress().getPort());
+      apiClient.setVirtualThreads(virtualThreads);
+      OptimizationWorkflow workflow = new OptimizationWorkflow(apiClient, Duration.ofMillis(latencyMillis));
+      List<CompletableFuture<Plan>> results = new ArrayList<>();
+      for (int i = 0; i < workflows; i++) {
+        results.add(workflow.optimizeAsync(new Plan(), null, null, null, null));
+      }
+      CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get();
+    }
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    exchange.getRequestBody().readAllBytes();
+    String method = exchange.getRequestMethod();
+    String[] path = exchange.getRequestURI().getPath().split("/");
+    String body;
+    if (method.equals("POST") && path.length == 2) {
+      body = "{\"id\":\"" + UUID.randomUUID() + "\"}";
+    } else if (method.equals("GET") && path.length == 4) {
+      int poll = polls.computeIfAbsent(path[2], id -> new AtomicInteger()).incrementAndGet();
+      body = "{\"name\":\"optimization\",\"status\":\"" + (poll > runningPolls ? "SUCCEEDED" : "RUNNING")
+          + "\",\"elapsedTime\":" + poll + "}";
+    } else if (method.equals("GET") && path.length == 3) {
+      body = "{\"id\":\"" + path[2] + "\"}";
+    } else {
+      body = null;
+    }
+    // answered later, so the latency does not hold a thread of the service
+    responses.schedule(() -> respond(exchange, body), latencyMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private static void respond(HttpExchange exchange, String body) {
+    try {
+      if (body == null) {
+        exchange.sendResponseHeaders(204, -1);
+        exchange.close();
+        return;
+      }
+      byte[] content = body.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, content.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(content);
+      }
+    } catch (IOException e) {
+      exchange.close();
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    requests.shutdownNow();
+    responses.shutdownNow();
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Route Optimization
+ * With the Route Optimization service you can schedule and optimize the routes of your fleet.
+ *
+ * The version of the OpenAPI document: 1.11
+ */
+
+
+package com.ptvgroup.developer.client.routeoptimization.api;
+
+import com.ptvgroup.developer.client.routeoptimization.ApiClient;
+import com.ptvgroup.developer.client.routeoptimization.model.Operation;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link OperationPoller} against a service whose operations never
+ * finish.
+ */
+public class OperationPollerTest {
+  private HttpServer server;
+  private final AtomicInteger polls = new AtomicInteger();
+
+  @BeforeEach
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", this::running);
+    server.start();
+  }
+
+  @AfterEach
+  public void stopServer() {
+    server.stop(0);
+  }
+
+  private void running(HttpExchange exchange) throws IOException {
+    polls.incrementAndGet();
+    byte[] body = "{\"name\":\"optimization\",\"status\":\"RUNNING\",\"elapsedTime\":1}".getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private ApiClient createApiClient() {
+    ApiClient apiClient = new ApiClient();
+    apiClient.updateBaseUri("http://127.0.0.1:" + server.getAddress().getPort());
+    return apiClient;
+  }
+
+  @Test
+  public void closeCompletesPendingAwaits() throws Exception {
+    ApiClient apiClient = createApiClient();
+    OperationsApi operationsApi = new OperationsApi(apiClient);
+    UUID id = UUID.randomUUID();
+    CompletableFuture<Operation> optimization = operationsApi.awaitOptimization(id, Instant.now().plusSeconds(60), 0);
+    CompletableFuture<Operation> joined = operationsApi.awaitOptimization(id, null, 0);
+    CompletableFuture<Operation> evaluation = operationsApi.awaitEvaluation(UUID.randomUUID(), null, 0);
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (polls.get() == 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertTrue(polls.get() > 0, "the operations were not polled");
+    assertFalse(optimization.isDone());
+
+    apiClient.close();
+
+    for (CompletableFuture<Operation> future : List.of(optimization, joined, evaluation)) {
+      ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+      assertInstanceOf(IllegalStateException.class, e.getCause());
+      assertEquals("ApiClient closed", e.getCause().getMessage());
+    }
+  }
+
+  @Test
+  public void awaitAfterCloseFails() {
+    ApiClient apiClient = createApiClient();
+    OperationPoller poller = apiClient.getOperationPoller();
+    apiClient.close();
+
+    CompletableFuture<Operation> optimization = poller.awaitOptimization(UUID.randomUUID(), null, 0);
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> optimization.get(1, TimeUnit.SECONDS));
+    assertInstanceOf(IllegalStateException.class, e.getCause());
+    assertEquals(0, poller.getRegistered());
+  }
+}